@@ -0,0 +1,301 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.api.CommandServer;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TieredAddressBookStorage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, storage, model and logic of the application.
+ * None of these depend on the JavaFX toolkit, so they are shared by the window and by headless mode.
+ */
+public class AppInitializer {
+
+    /** Name of the file, beside the data file, that holds the token clients of the command API must present. */
+    public static final String API_TOKEN_FILE_NAME = "api-token";
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private CommandServer commandServer;
+    private Path apiTokenFilePath;
+    private boolean isStopped;
+
+    private AppInitializer(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Reads the config, preferences and data given by {@code appParameters}, and creates the components using them.
+     */
+    public static AppInitializer initialize(AppParameters appParameters) {
+        Config config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Model model = initModelManager(storage, userPrefs);
+
+        Logic logic = new LogicManager(model, storage);
+        return new AppInitializer(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Starts serving the command API if {@code appParameters} gives a port for it, running commands received through
+     * it on {@code commandExecutor}. If {@code isViewShared}, the window shows the same model, and commands received
+     * through the API may not change what it shows. The token that clients must present is written to
+     * {@link #API_TOKEN_FILE_NAME} beside the data file, and removed when the application stops. A port or token file
+     * that cannot be used is logged and the application runs without the API.
+     */
+    public void startCommandServer(AppParameters appParameters, Executor commandExecutor, boolean isViewShared) {
+        Integer apiPort = appParameters.getApiPort();
+        if (apiPort == null) {
+            return;
+        }
+
+        Path tokenFilePath = model.getAddressBookFilePath().resolveSibling(API_TOKEN_FILE_NAME);
+        try {
+            String token = CommandServer.createToken();
+            apiTokenFilePath = tokenFilePath;
+            CommandServer.writeTokenFile(token, tokenFilePath);
+            commandServer = new CommandServer(logic, apiPort, commandExecutor, token, isViewShared);
+            commandServer.start();
+            logger.info("Command API token written to " + tokenFilePath);
+        } catch (IOException e) {
+            logger.warning("Command API could not be served on port " + apiPort + ": " + StringUtil.getDetails(e));
+            commandServer = null;
+            removeApiTokenFile();
+        }
+    }
+
+    private void removeApiTokenFile() {
+        if (apiTokenFilePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(apiTokenFilePath);
+        } catch (IOException e) {
+            logger.warning("Command API token file could not be removed: " + StringUtil.getDetails(e));
+        }
+        apiTokenFilePath = null;
+    }
+
+    /**
+     * Returns true if the command API is being served.
+     */
+    public boolean isServingCommands() {
+        return commandServer != null;
+    }
+
+    /**
+     * Stops serving the command API, then saves any pending changes and the user preferences.
+     * Only the first call has any effect.
+     */
+    public synchronized void stop() {
+        if (isStopped) {
+            return;
+        }
+        isStopped = true;
+
+        if (commandServer != null) {
+            commandServer.stop();
+        }
+        removeApiTokenFile();
+        logic.shutdown();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the storage for the data file in {@code userPrefs}, in the format chosen there.
+     * The data file is named for its format, so a data file in the other format is converted and renamed first,
+     * so that switching formats keeps the existing data. {@code userPrefs} is updated to the file actually used.
+     * Archived persons are kept in a separate archive file, which is only loaded once they are needed.
+     */
+    private static AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        Path configuredFilePath = userPrefs.getAddressBookFilePath();
+        DataFileFormat format = userPrefs.getAddressBookFileFormat();
+        Path filePath = AddressBookFileConverter.getFilePath(configuredFilePath, format);
+        try {
+            if (AddressBookFileConverter.convertIfNeeded(configuredFilePath, format)) {
+                logger.info("Converted data file " + configuredFilePath + " to " + filePath + " in " + format
+                        + " format.");
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + configuredFilePath + " could not be converted to " + format + " format."
+                    + " Keeping its current format: " + StringUtil.getDetails(e));
+            filePath = AddressBookFileConverter.findDataFile(configuredFilePath, format).orElse(filePath);
+            format = detectFormat(filePath, format);
+        }
+        userPrefs.setAddressBookFilePath(filePath);
+        return new TieredAddressBookStorage(AddressBookFileConverter.createStorage(filePath, format), format);
+    }
+
+    /**
+     * Returns the format of the data file at {@code filePath}, or {@code defaultFormat} if it cannot be told.
+     */
+    private static DataFileFormat detectFormat(Path filePath, DataFileFormat defaultFormat) {
+        try {
+            return AddressBookFileConverter.detectFormat(filePath).orElse(defaultFormat);
+        } catch (IOException e) {
+            logger.warning("Format of data file at " + filePath + " could not be detected: "
+                    + StringUtil.getDetails(e));
+            return defaultFormat;
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -2,6 +2,9 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +20,17 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String BATCH_FLAG = "--batch";
+    private static final String HEADLESS_FLAG = "--headless";
+    private static final String API_PORT_FLAG = "--api-port";
+    private static final int MAX_PORT = 65535;
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
     private Path configPath;
+    private Path batchScriptPath;
+    private boolean isHeadless;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +40,67 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the script to run before exiting, instead of starting the user interface, or null to start it as usual.
+     */
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    /**
+     * Returns true if the application should run without its window, reading commands from standard input.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the port to serve the command API on, or null if it should not be served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed(), parameters.getUnnamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments in the same way as JavaFX does, without starting JavaFX.
+     * Arguments of the form {@code --name=value} are named parameters and all others are unnamed.
+     */
+    public static AppParameters parse(List<String> rawParameters) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String parameter : rawParameters) {
+            int separatorIndex = parameter.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (parameter.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(parameter.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        parameter.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(parameter);
+            }
+        }
+        return parse(namedParameters, unnamedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters, List<String> unnamedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +109,49 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        // Accepts both --batch=FILE and --batch FILE
+        String batchParameter = namedParameters.get("batch");
+        if (batchParameter == null) {
+            batchParameter = getValueAfterFlag(unnamedParameters, BATCH_FLAG);
+        }
+        if (batchParameter != null && !FileUtil.isValidPath(batchParameter)) {
+            logger.warning("Invalid batch script path " + batchParameter + ". Starting normally.");
+            batchParameter = null;
+        }
+        appParameters.setBatchScriptPath(batchParameter != null ? Paths.get(batchParameter) : null);
+
+        appParameters.setHeadless(unnamedParameters.contains(HEADLESS_FLAG));
+
+        // Accepts both --api-port=PORT and --api-port PORT
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter == null) {
+            apiPortParameter = getValueAfterFlag(unnamedParameters, API_PORT_FLAG);
+        }
+        appParameters.setApiPort(apiPortParameter != null ? parsePort(apiPortParameter) : null);
+
         return appParameters;
     }
 
+    private static Integer parsePort(String portParameter) {
+        try {
+            int port = Integer.parseInt(portParameter.trim());
+            if (port >= 0 && port <= MAX_PORT) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        logger.warning("Invalid command API port " + portParameter + ". The command API will not be served.");
+        return null;
+    }
+
+    private static String getValueAfterFlag(List<String> unnamedParameters, String flag) {
+        int flagIndex = unnamedParameters.indexOf(flag);
+        return flagIndex >= 0 && flagIndex + 1 < unnamedParameters.size()
+                ? unnamedParameters.get(flagIndex + 1)
+                : null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +164,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchScriptPath, otherAppParameters.batchScriptPath)
+                && isHeadless == otherAppParameters.isHeadless
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, isHeadless, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchScriptPath", batchScriptPath)
+                .add("isHeadless", isHeadless)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
@@ -0,0 +1,168 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without its window, so that JavaFX is never started.
+ * Commands are read from standard input, one per line, or from the batch script given on the command line, and the
+ * result of each is printed. If the command API is served, it is served until the process is stopped or {@code exit}
+ * is entered, even after the input ends.
+ */
+public class HeadlessApp {
+
+    public static final String PROMPT = "> ";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    private boolean isExitRequested;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, printing results to {@code out} and
+     * errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Starts the application with {@code appParameters}, runs its batch script or the commands on standard input, and
+     * stops it. Returns the exit status for the process, which is non-zero if any command failed.
+     */
+    public static int launch(AppParameters appParameters) {
+        logger.info("=========================[ Initializing AddressBook (headless) ]=======================");
+        AppInitializer appInitializer = AppInitializer.initialize(appParameters);
+        HeadlessApp app = new HeadlessApp(appInitializer.getLogic(), System.out, System.err);
+
+        // There is no window to keep up to date, so commands from the command API run on the threads receiving them
+        appInitializer.startCommandServer(appParameters, Runnable::run, false);
+
+        boolean isSuccessful;
+        try {
+            isSuccessful = app.runCommands(appParameters.getBatchScriptPath());
+            if (appInitializer.isServingCommands() && !app.isExitRequested) {
+                serveUntilStopped(appInitializer);
+            }
+        } finally {
+            logger.info("======================== [ Stopping AddressBook (headless) ] =========================");
+            appInitializer.stop();
+        }
+        return isSuccessful ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Runs the script at {@code batchScriptPath}, or the commands on standard input if it is null.
+     * Returns false if any command failed.
+     */
+    private boolean runCommands(Path batchScriptPath) {
+        if (batchScriptPath != null) {
+            return runScript(batchScriptPath);
+        }
+
+        try {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            return run(in, System.console() != null) == 0;
+        } catch (IOException e) {
+            logger.warning("Could not read commands: " + StringUtil.getDetails(e));
+            err.println(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Waits until the process is stopped, saving the data as it stops.
+     */
+    private static void serveUntilStopped(AppInitializer appInitializer) {
+        logger.info("Serving the command API until the process is stopped");
+        Runtime.getRuntime().addShutdownHook(new Thread(appInitializer::stop));
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the script at {@code scriptPath} as the {@code run} command does.
+     * Returns false if the script could not be run, or if any of its lines failed.
+     */
+    public boolean runScript(Path scriptPath) {
+        requireNonNull(scriptPath);
+        logger.info("Running batch script " + scriptPath);
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            out.println(result.getFeedbackToUser());
+            return !(result instanceof RunCommandResult) || ((RunCommandResult) result).getFailedCount() == 0;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code in}, one per line, until {@code in} ends or a command exits the
+     * application. A prompt is printed before each line if {@code isInteractive}.
+     * Returns the number of commands that failed.
+     */
+    public int run(BufferedReader in, boolean isInteractive) throws IOException {
+        requireNonNull(in);
+        int failedCount = 0;
+        while (true) {
+            if (isInteractive) {
+                out.print(PROMPT);
+                out.flush();
+            }
+
+            String line = in.readLine();
+            if (line == null) {
+                return failedCount;
+            }
+
+            String commandText = line.trim();
+            if (commandText.isEmpty()) {
+                continue;
+            }
+
+            try {
+                CommandResult result = logic.execute(commandText);
+                out.println(result.getFeedbackToUser());
+                if (result.isExit()) {
+                    isExitRequested = true;
+                    return failedCount;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                failedCount++;
+            }
+        }
+    }
+}
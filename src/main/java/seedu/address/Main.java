@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +21,18 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * It also lets the application run headless, with {@code --headless} or {@code --batch FILE},
+ * without loading the JavaFX toolkit at all.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(List.of(args));
+        if (appParameters.isHeadless() || appParameters.getBatchScriptPath() != null) {
+            System.exit(HeadlessApp.launch(appParameters));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
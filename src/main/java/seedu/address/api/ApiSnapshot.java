@@ -0,0 +1,75 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+
+/**
+ * An immutable copy of the current students in an address book, taken between two commands, from which the command
+ * API answers queries without waiting for commands.
+ */
+class ApiSnapshot {
+
+    private final long version;
+    private final List<JsonApiStudent> students = new ArrayList<>();
+    private final Map<String, JsonApiStudent> studentsByName = new HashMap<>();
+
+    /** The response to a student list query, which is the same for every query on this snapshot. */
+    private String studentsJson;
+
+    /**
+     * Copies the current students in {@code addressBook}.
+     */
+    ApiSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        version = addressBook.getVersion();
+        for (Person person : addressBook.getPersonList()) {
+            if (person instanceof Student) {
+                JsonApiStudent student = new JsonApiStudent((Student) person);
+                students.add(student);
+                studentsByName.put(toKey(student.getName()), student);
+            }
+        }
+    }
+
+    /**
+     * Returns the address book version this snapshot was taken at.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the students as JSON, converting them the first time only.
+     */
+    synchronized String getStudentsJson() throws JsonProcessingException {
+        if (studentsJson == null) {
+            studentsJson = JsonUtil.toCompactJsonString(students);
+        }
+        return studentsJson;
+    }
+
+    /**
+     * Returns the student with the given name, ignoring case.
+     */
+    Optional<JsonApiStudent> findStudent(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(studentsByName.get(toKey(name)));
+    }
+
+    private static String toKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,394 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Serves the command API over HTTP on the loopback interface, so that other programs on the same computer, such as an
+ * attendance kiosk or a reporting script, can use the running application. All responses are JSON.
+ * <ul>
+ *     <li>{@code POST /commands} executes the command in a JSON request body of the form {@code {"command": TEXT}},
+ *     as if typed into the command box.</li>
+ *     <li>{@code GET /students} lists the current students.</li>
+ *     <li>{@code GET /attendance?student=NAME[&subject=SUBJECT]} lists the attendance of a current student.</li>
+ * </ul>
+ * Commands run one at a time through {@link Logic}, on the given command executor. Queries do not wait for commands:
+ * they are answered from a snapshot of the data, which is only taken again after a command has changed the data.
+ *
+ * <p>Every request must carry the token given to the server in an {@code Authorization: Bearer TOKEN} header. The
+ * token is made afresh for each launch and written to a file only the user can read, so only the user's own programs
+ * can use the API. Requests with an {@code Origin} header come from web pages and are refused, and commands must be
+ * sent as {@code application/json}, which pages cannot send to another site without its consent.
+ */
+public class CommandServer {
+
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String STUDENTS_PATH = "/students";
+    public static final String ATTENDANCE_PATH = "/attendance";
+    public static final String STUDENT_PARAMETER = "student";
+    public static final String SUBJECT_PARAMETER = "subject";
+    public static final String COMMAND_FIELD = "command";
+    public static final String AUTHORIZATION_SCHEME = "Bearer ";
+
+    public static final String MESSAGE_MISSING_PARAMETER = "Missing query parameter: %1$s";
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "No current student is named %1$s";
+    public static final String MESSAGE_NOT_FOUND = "Unknown path %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s only accepts %2$s requests";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be completed: %1$s";
+    public static final String MESSAGE_UNAUTHORIZED = "Missing or wrong API token";
+    public static final String MESSAGE_CROSS_ORIGIN = "Requests from web pages are not accepted";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "Commands must be sent as application/json";
+    public static final String MESSAGE_INVALID_BODY = "The request body must be a JSON object with a \"%1$s\" string";
+
+    static final int STATUS_OK = 200;
+    static final int STATUS_BAD_REQUEST = 400;
+    static final int STATUS_UNAUTHORIZED = 401;
+    static final int STATUS_FORBIDDEN = 403;
+    static final int STATUS_NOT_FOUND = 404;
+    static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    static final int STATUS_INTERNAL_ERROR = 500;
+
+    /**
+     * Threads that handle requests. Requests only block while waiting for their command to run, so a small pool
+     * serves many concurrent clients.
+     */
+    static final int HANDLER_THREADS = 32;
+
+    /** Connections that may wait to be accepted, enough for a few hundred clients connecting at once. */
+    private static final int BACKLOG = 512;
+
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+
+    /** Random bytes in a token, which is written as unpadded base64url. */
+    private static final int TOKEN_BYTES = 32;
+    private static final String TOKEN_FILE_PERMISSIONS = "rw-------";
+
+    private static final String MAX_IDLE_CONNECTIONS_PROPERTY = "sun.net.httpserver.maxIdleConnections";
+    private static final int MAX_IDLE_CONNECTIONS = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    static {
+        // The JDK server closes kept-alive connections beyond 200 idle ones, which clients reusing them see as errors
+        if (System.getProperty(MAX_IDLE_CONNECTIONS_PROPERTY) == null) {
+            System.setProperty(MAX_IDLE_CONNECTIONS_PROPERTY, String.valueOf(MAX_IDLE_CONNECTIONS));
+        }
+    }
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final byte[] token;
+    private final boolean isViewShared;
+    private final HttpServer server;
+    private final ExecutorService handlerPool;
+
+    private final Object snapshotLock = new Object();
+    private volatile ApiSnapshot snapshot;
+
+    /**
+     * Creates a server on {@code port} of the loopback interface, or on any free port if {@code port} is 0, that runs
+     * commands with {@code logic} on {@code commandExecutor} for clients presenting {@code token}.
+     * If {@code isViewShared}, the window shows the same model, and commands that change what it shows are refused.
+     * The server does not accept requests until started.
+     *
+     * @throws IOException If the port cannot be used.
+     */
+    public CommandServer(Logic logic, int port, Executor commandExecutor, String token, boolean isViewShared)
+            throws IOException {
+        requireNonNull(logic);
+        requireNonNull(commandExecutor);
+        requireNonNull(token);
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.isViewShared = isViewShared;
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, COMMANDS_PATH, POST, this::handleCommand));
+        server.createContext(STUDENTS_PATH, exchange -> handle(exchange, STUDENTS_PATH, GET, this::handleStudents));
+        server.createContext(ATTENDANCE_PATH,
+                exchange -> handle(exchange, ATTENDANCE_PATH, GET, this::handleAttendance));
+        server.createContext("/", exchange -> handle(exchange, null, null, null));
+
+        handlerPool = Executors.newFixedThreadPool(HANDLER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "command-api");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(handlerPool);
+    }
+
+    /**
+     * Returns a new random token for the API.
+     */
+    public static String createToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Writes {@code token} to a new file at {@code tokenFilePath}, replacing any older one. Where the file system
+     * supports POSIX permissions, the file is created readable and writable by its owner only; elsewhere it is only
+     * as private as the folder it is in.
+     */
+    public static void writeTokenFile(String token, Path tokenFilePath) throws IOException {
+        requireNonNull(token);
+        requireNonNull(tokenFilePath);
+        FileUtil.createParentDirsOfFile(tokenFilePath);
+        Files.deleteIfExists(tokenFilePath);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tokenFilePath,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(TOKEN_FILE_PERMISSIONS)));
+        } else {
+            Files.createFile(tokenFilePath);
+        }
+        Files.writeString(tokenFilePath, token, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Command API listening on " + server.getAddress());
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests. Requests being handled are not waited for.
+     */
+    public void stop() {
+        server.stop(0);
+        handlerPool.shutdownNow();
+        logger.info("Command API stopped");
+    }
+
+    //// request handling
+
+    /**
+     * Answers {@code exchange} with {@code handler} if it is a {@code method} request for exactly {@code path}.
+     */
+    private void handle(HttpExchange exchange, String path, String method, RequestHandler handler) {
+        try {
+            Response response;
+            try {
+                response = handleRequest(exchange, path, method, handler);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Command API request " + exchange.getRequestURI() + " failed: "
+                        + StringUtil.getDetails(e));
+                response = Response.error(STATUS_INTERNAL_ERROR, String.format(MESSAGE_INTERNAL_ERROR, e.getMessage()));
+            }
+
+            byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(response.status, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            logger.fine(() -> "Command API response could not be sent: " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response handleRequest(HttpExchange exchange, String path, String method, RequestHandler handler)
+            throws IOException {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            return Response.error(STATUS_FORBIDDEN, MESSAGE_CROSS_ORIGIN);
+        }
+        if (!isAuthorized(exchange)) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", AUTHORIZATION_SCHEME.trim());
+            return Response.error(STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+
+        String requestPath = exchange.getRequestURI().getPath();
+        if (path == null || !path.equals(requestPath)) {
+            return Response.error(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, requestPath));
+        }
+        if (!method.equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", method);
+            return Response.error(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED, path, method));
+        }
+        return handler.handle(exchange);
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(AUTHORIZATION_SCHEME)) {
+            return false;
+        }
+        byte[] presented = authorization.substring(AUTHORIZATION_SCHEME.length()).trim()
+                .getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(token, presented);
+    }
+
+    private Response handleCommand(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";", 2)[0].trim().equalsIgnoreCase(JSON_MEDIA_TYPE)) {
+            return Response.error(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+        }
+
+        JsonNode request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = JsonUtil.fromJsonString(new String(body.readAllBytes(), StandardCharsets.UTF_8), JsonNode.class);
+        } catch (IOException e) {
+            request = null;
+        }
+        JsonNode command = request == null ? null : request.get(COMMAND_FIELD);
+        if (command == null || !command.isTextual()) {
+            return Response.error(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, COMMAND_FIELD));
+        }
+
+        String commandText = command.asText().trim();
+        return CompletableFuture.supplyAsync(() -> executeCommand(commandText), commandExecutor).join();
+    }
+
+    private Response executeCommand(String commandText) {
+        try {
+            CommandResult result = isViewShared
+                    ? logic.executeKeepingView(commandText)
+                    : logic.execute(commandText);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("feedback", result.getFeedbackToUser());
+            json.put("exit", result.isExit());
+            return Response.ok(JsonUtil.toCompactJsonString(json));
+        } catch (CommandException | ParseException e) {
+            return Response.error(STATUS_BAD_REQUEST, e.getMessage());
+        } catch (IOException e) {
+            return Response.error(STATUS_INTERNAL_ERROR, String.format(MESSAGE_INTERNAL_ERROR, e.getMessage()));
+        }
+    }
+
+    private Response handleStudents(HttpExchange exchange) throws IOException {
+        return Response.ok(getSnapshot().getStudentsJson());
+    }
+
+    private Response handleAttendance(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+        String studentName = parameters.get(STUDENT_PARAMETER);
+        if (studentName == null) {
+            return Response.error(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_PARAMETER, STUDENT_PARAMETER));
+        }
+
+        Optional<JsonApiStudent> student = getSnapshot().findStudent(studentName);
+        if (student.isEmpty()) {
+            return Response.error(STATUS_NOT_FOUND, String.format(MESSAGE_STUDENT_NOT_FOUND, studentName));
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put(STUDENT_PARAMETER, student.get().getName());
+        json.put("attendance", student.get().getAttendance(parameters.get(SUBJECT_PARAMETER)));
+        return Response.ok(JsonUtil.toCompactJsonString(json));
+    }
+
+    /**
+     * Returns a snapshot of the data as of the last command, taking a new one if a command has changed the data.
+     */
+    ApiSnapshot getSnapshot() {
+        ApiSnapshot current = snapshot;
+        if (current != null && current.getVersion() == logic.getAddressBookVersion()) {
+            return current;
+        }
+
+        // Only one thread takes the new snapshot; the others wait for it instead of taking their own
+        synchronized (snapshotLock) {
+            if (snapshot == null || snapshot.getVersion() != logic.getAddressBookVersion()) {
+                snapshot = new ApiSnapshot(logic.getAddressBookSnapshot());
+            }
+            return snapshot;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separatorIndex = pair.indexOf('=');
+            if (separatorIndex > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separatorIndex), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separatorIndex + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Answers one kind of request.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * The status and JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(String body) {
+            return new Response(STATUS_OK, body);
+        }
+
+        static Response error(int status, String message) {
+            try {
+                return new Response(status, JsonUtil.toCompactJsonString(Map.of("error", message)));
+            } catch (IOException e) {
+                throw new IllegalStateException("Error message could not be converted to JSON", e);
+            }
+        }
+    }
+}
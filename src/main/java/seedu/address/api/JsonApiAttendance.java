@@ -0,0 +1,26 @@
+package seedu.address.api;
+
+import seedu.address.model.attendance.AttendanceRecord;
+
+/**
+ * Jackson-friendly copy of an {@link AttendanceRecord}, as returned by the command API.
+ */
+class JsonApiAttendance {
+
+    private final String lesson;
+    private final String subject;
+    private final String status;
+
+    /**
+     * Copies the given {@code AttendanceRecord}.
+     */
+    JsonApiAttendance(AttendanceRecord source) {
+        lesson = source.getLesson().getName();
+        subject = source.getLesson().getSubject();
+        status = source.getStatus().name();
+    }
+
+    String getSubject() {
+        return subject;
+    }
+}
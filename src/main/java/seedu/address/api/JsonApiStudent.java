@@ -0,0 +1,51 @@
+package seedu.address.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly copy of a {@link Student}, as returned by the command API.
+ * Its attendance is only included in attendance queries.
+ */
+class JsonApiStudent {
+
+    private final String name;
+    private final String studentClass;
+    private final List<String> subjects;
+    private final String emergencyContact;
+    @JsonIgnore
+    private final List<JsonApiAttendance> attendance;
+
+    /**
+     * Copies the given {@code Student}, so that later changes to it are not seen.
+     */
+    JsonApiStudent(Student source) {
+        name = source.getName().fullName;
+        studentClass = source.getStudentClass();
+        subjects = List.copyOf(source.getSubjectNames());
+        emergencyContact = source.getEmergencyContact();
+        attendance = source.getAttendanceList().getRecords().stream()
+                .map(JsonApiAttendance::new)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the attendance of this student, in the given subject only unless {@code subject} is null.
+     */
+    List<JsonApiAttendance> getAttendance(String subject) {
+        if (subject == null) {
+            return attendance;
+        }
+        return attendance.stream()
+                .filter(record -> record.getSubject().equalsIgnoreCase(subject))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats the address book data file can be stored in.
+ * The data file of each format is named with its own extension, so a file's name tells which format it holds.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, with changes appended to a journal between snapshots. */
+    JSON(".json"),
+    /** Compact versioned binary snapshot. */
+    BINARY(".ttab");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the extension, including the leading dot, of data files in this format.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -2,7 +2,11 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +15,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -30,6 +37,8 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -39,13 +48,67 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /** Writes values into a generator owned by the caller, leaving flushing to the generator's own buffering. */
+    private static ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is serialized, without building the document in
+     * memory first.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        ObjectWriter writer = isCompact ? objectMapper.writer() : objectMapper.writerWithDefaultPrettyPrinter();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(jsonFile), BUFFER_SIZE)) {
+            writer.writeValue(out, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile), BUFFER_SIZE)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Returns a parser over the JSON in {@code jsonFile}, for callers that want to convert the document piece by
+     * piece as it is read. The caller must close the parser.
+     */
+    public static JsonParser createJsonParser(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        return objectMapper.getFactory()
+                .createParser(new BufferedInputStream(Files.newInputStream(jsonFile), BUFFER_SIZE));
+    }
+
+    /**
+     * Returns a generator that writes JSON to {@code jsonFile} as it is produced, indented unless
+     * {@code isCompact}. Overwrites the file if it exists. The caller must close the generator.
+     */
+    public static JsonGenerator createJsonGenerator(Path jsonFile, boolean isCompact) throws IOException {
+        requireNonNull(jsonFile);
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(new BufferedOutputStream(Files.newOutputStream(jsonFile), BUFFER_SIZE));
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Writes {@code value} as JSON at the current position of {@code generator}.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        streamingWriter.writeValue(generator, value);
+    }
+
+    /**
+     * Reads the JSON value at the current position of {@code parser} as an instance of
+     * {@code classOfObjectToDeserialize}, leaving the parser on the value's last token.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> classOfObjectToDeserialize) throws IOException {
+        return objectMapper.readValue(parser, classOfObjectToDeserialize);
     }
 
     /**
@@ -85,10 +148,21 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Saves the Json object to the specified file, without indentation or line breaks if {@code isCompact}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
     }
 
 
@@ -111,6 +185,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without line breaks or
+     * indentation.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -23,6 +24,49 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Similar to {@link #execute(String)}, but refuses commands that change which students or lessons are shown.
+     * Used for clients that share the model with the window but cannot see it, so that they never change what the
+     * user's next command refers to.
+     * @throws CommandException If the command changes the view, or an error occurs during command execution.
+     */
+    CommandResult executeKeepingView(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Returns the fraction of executed commands, from 0 to 1, that left the address book unchanged and so were not
+     * followed by a save. Returns 0 if no command has been executed.
+     */
+    double getSaveSkipRate();
+
+    /**
+     * Writes any changes that have not been saved yet, waiting for the write to finish.
+     * Changes are otherwise saved in the background shortly after the command that made them.
+     *
+     * @throws IOException If the data could not be saved.
+     */
+    void flushSaves() throws IOException;
+
+    /**
+     * Writes any unsaved changes and stops background saving. Save errors are logged.
+     */
+    void shutdown();
+
+    /**
+     * Returns the version of the address book after the last executed command, which changes whenever a command
+     * changes the data. Unlike {@link #getAddressBook()}, this can be called from any thread.
+     *
+     * @see ReadOnlyAddressBook#getVersion()
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns an immutable copy of the address book as of the last executed command, which does not see later
+     * changes. This can be called from any thread, and the copy can be read on any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns the AddressBook.
      *
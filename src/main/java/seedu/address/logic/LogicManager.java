@@ -3,6 +3,10 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -27,38 +31,163 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String ARCHIVE_LOAD_ERROR_FORMAT = "Archived students could not be loaded, so the archive "
+            + "is shown empty: %s\nThe unreadable archive file is kept as a backup when the archive is next saved.";
+
+    public static final String MESSAGE_VIEW_COMMAND_NOT_ALLOWED =
+            "This command changes what the window shows, so it can only be entered in the window.";
+
+    /** How long a save waits for further changes before writing, so that bursts of commands are written once. */
+    public static final long SAVE_DELAY_MILLIS = 300;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final SaveScheduler saveScheduler;
+
+    /**
+     * Guards the model. Commands are the single writer and hold the write lock while they run. Snapshots are taken
+     * under the read lock, and are then read without it, so saves do not hold up commands while they write.
+     */
+    private final ReadWriteLock modelLock = new ReentrantReadWriteLock();
+
+    /** The address book version after the last command, published for threads that do not hold the lock. */
+    private volatile long addressBookVersion;
+
+    private long executedCount;
+    private long skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that waits {@code saveDelayMillis} milliseconds before each background save.
+     */
+    LogicManager(Model model, Storage storage, long saveDelayMillis) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        saveScheduler = new SaveScheduler(this::saveAddressBook, saveDelayMillis);
+        addressBookVersion = model.getAddressBook().getVersion();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, true);
+    }
+
+    @Override
+    public CommandResult executeKeepingView(String commandText) throws CommandException, ParseException {
+        return execute(commandText, false);
+    }
+
+    private CommandResult execute(String commandText, boolean canChangeView)
+            throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
+        boolean isChanged;
+        Optional<String> archiveLoadError;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (!canChangeView && command.changesView()) {
+            throw new CommandException(MESSAGE_VIEW_COMMAND_NOT_ALLOWED);
+        }
+        Lock writeLock = modelLock.writeLock();
+        writeLock.lock();
+        try {
+            long versionBefore = model.getAddressBook().getVersion();
+            commandResult = command.execute(model);
+            addressBookVersion = model.getAddressBook().getVersion();
+            isChanged = addressBookVersion != versionBefore;
+            assert !(isChanged && command.isReadOnly()) : "Read-only command changed the address book";
+            recordExecution(isChanged);
+            archiveLoadError = model.takeArchiveLoadError();
+        } finally {
+            writeLock.unlock();
+        }
+        if (isChanged) {
+            saveScheduler.requestSave();
+        }
+
+        CommandResult reportedResult = archiveLoadError
+                .map(error -> commandResult.withAdditionalFeedback(String.format(ARCHIVE_LOAD_ERROR_FORMAT, error)))
+                .orElse(commandResult);
+        return saveScheduler.takeError()
+                .map(error -> reportedResult.withAdditionalFeedback(toSaveErrorMessage(error)))
+                .orElse(reportedResult);
+    }
 
+    /**
+     * Counts an executed command, and whether it left the address book unchanged so that its save was skipped.
+     */
+    private void recordExecution(boolean isChanged) {
+        executedCount++;
+        if (!isChanged) {
+            skippedSaveCount++;
+        }
+        logger.fine(() -> String.format("Saves skipped for %d of %d commands", skippedSaveCount, executedCount));
+    }
+
+    @Override
+    public double getSaveSkipRate() {
+        Lock readLock = modelLock.readLock();
+        readLock.lock();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            return executedCount == 0 ? 0 : (double) skippedSaveCount / executedCount;
+        } finally {
+            readLock.unlock();
         }
+    }
+
+    @Override
+    public void flushSaves() throws IOException {
+        saveScheduler.flush();
+    }
 
-        return commandResult;
+    @Override
+    public void shutdown() {
+        logger.info(String.format("Saves skipped for %.0f%% of commands", getSaveSkipRate() * 100));
+        try {
+            saveScheduler.shutdown();
+        } catch (IOException e) {
+            logger.severe(toSaveErrorMessage(e));
+        }
+    }
+
+    private void saveAddressBook() throws IOException {
+        storage.saveAddressBook(getAddressBookSnapshot());
+    }
+
+    /**
+     * Returns the message shown to the user when saving fails with {@code error}.
+     */
+    static String toSaveErrorMessage(IOException error) {
+        if (error instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, error.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, error.getMessage());
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        Lock readLock = modelLock.readLock();
+        readLock.lock();
+        try {
+            return model.getAddressBookSnapshot();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     @Override
@@ -1,10 +1,12 @@
 package seedu.address.logic;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.student.Student;
 
@@ -14,6 +16,7 @@ import seedu.address.model.student.Student;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_UNKNOWN_COMMAND_SUGGESTION = MESSAGE_UNKNOWN_COMMAND + ". Did you mean %1$s?";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
@@ -22,6 +25,8 @@ public class Messages {
 
     public static final String MESSAGE_SUCCESS = "Marked attendance for %1$s for %2$s %3$s → %4$s";
     public static final String MESSAGE_STUDENT_NOT_FOUND = "No student found with name: %s";
+    public static final String MESSAGE_STUDENT_NOT_FOUND_SUGGESTION = "No student found with name: %1$s. "
+            + "Did you mean %2$s?";
     public static final String MESSAGE_PERSON_NOT_STUDENT = "%s is not a student or has not been added as a student.";
     public static final String MESSAGE_SUBJECT_NOT_ENROLLED = "%s does not read subject: %s";
     public static final String MESSAGE_SUBJECT_NOT_FOUND = "Subject '%s' not found.";
@@ -42,6 +47,18 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns an error message saying that no student is named {@code name}, which suggests
+     * {@code similarlyNamedPerson} if there is one by another name.
+     */
+    public static String getErrorMessageForStudentNotFound(Name name, Optional<Person> similarlyNamedPerson) {
+        return similarlyNamedPerson
+                .map(Person::getName)
+                .filter(similarName -> !similarName.equals(name))
+                .map(similarName -> String.format(MESSAGE_STUDENT_NOT_FOUND_SUGGESTION, name, similarName))
+                .orElse(String.format(MESSAGE_STUDENT_NOT_FOUND, name));
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
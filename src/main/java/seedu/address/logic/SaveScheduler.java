@@ -0,0 +1,149 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Runs saves on a background thread, after the caller has moved on.
+ * Requests that arrive while a save is already pending are merged into it, so a burst of mutations results in a
+ * single write. Nothing is written unless a save has been requested since the last successful one.
+ */
+class SaveScheduler {
+
+    /**
+     * Writes the current data to storage.
+     */
+    @FunctionalInterface
+    interface SaveTask {
+        void save() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(SaveScheduler.class);
+
+    private final SaveTask saveTask;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+
+    private boolean isDirty;
+    private ScheduledFuture<?> pendingSave;
+    private IOException lastError;
+
+    /**
+     * Creates a {@code SaveScheduler} that runs {@code saveTask} at most once per {@code delayMillis} milliseconds.
+     */
+    SaveScheduler(SaveTask saveTask, long delayMillis) {
+        requireNonNull(saveTask);
+        this.saveTask = saveTask;
+        this.delayMillis = delayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Marks the data as changed and schedules a save, unless one is already pending.
+     */
+    synchronized void requestSave() {
+        isDirty = true;
+        if (pendingSave == null && !executor.isShutdown()) {
+            pendingSave = executor.schedule(this::runScheduledSave, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the error from the most recent failed background save, if it has not been reported yet.
+     */
+    synchronized Optional<IOException> takeError() {
+        Optional<IOException> error = Optional.ofNullable(lastError);
+        lastError = null;
+        return error;
+    }
+
+    /**
+     * Writes any unsaved changes now, waiting for the write to finish.
+     *
+     * @throws IOException if the write fails.
+     */
+    void flush() throws IOException {
+        Future<?> flush;
+        try {
+            flush = executor.submit(() -> {
+                saveIfDirty();
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            saveIfDirty();
+            return;
+        }
+
+        try {
+            flush.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for save to finish", e);
+        }
+    }
+
+    /**
+     * Writes any unsaved changes and stops the background thread.
+     *
+     * @throws IOException if the final write fails.
+     */
+    void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void runScheduledSave() {
+        try {
+            saveIfDirty();
+        } catch (IOException e) {
+            logger.warning("Background save failed: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                lastError = e;
+            }
+        }
+    }
+
+    private void saveIfDirty() throws IOException {
+        synchronized (this) {
+            pendingSave = null;
+            if (!isDirty) {
+                return;
+            }
+            isDirty = false;
+        }
+
+        try {
+            saveTask.save();
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                isDirty = true;
+            }
+            throw e;
+        }
+    }
+}
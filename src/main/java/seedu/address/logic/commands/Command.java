@@ -17,4 +17,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never changes the address book, so that executing it needs no save.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if this command may change which students or lessons are shown, or whether the archive is shown.
+     */
+    public boolean changesView() {
+        return false;
+    }
+
 }
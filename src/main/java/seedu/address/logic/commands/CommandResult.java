@@ -47,6 +47,14 @@ public class CommandResult {
         this(feedbackToUser, false, false, false);
     }
 
+    /**
+     * Returns a copy of this result with {@code additionalFeedback} shown on a new line after the existing feedback.
+     */
+    public CommandResult withAdditionalFeedback(String additionalFeedback) {
+        requireNonNull(additionalFeedback);
+        return new CommandResult(feedbackToUser + "\n" + additionalFeedback, showHelp, exit, showArchived);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -77,6 +77,14 @@ public class EditCommand extends Command {
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
     }
 
+    /**
+     * Returns true, as the index refers to the shown list, and the edit resets its filter.
+     */
+    @Override
+    public boolean changesView() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -197,7 +205,7 @@ public class EditCommand extends Command {
         if (from == null || to == null) {
             return;
         }
-        from.getStudentAttendance().forEach(r -> to.markAttendance(r.getLesson(), r.getStatus()));
+        from.getRecords().forEach(r -> to.markAttendance(r.getLesson(), r.getStatus()));
     }
 
     @Override
@@ -19,6 +19,11 @@ public class ExitCommand extends Command {
         this.args = args;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         String trimmedArgs = args.trim();
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_RATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECTS;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.student.StudentFilter;
+
+/**
+ * Lists the students in TutorTrack who meet all the given criteria.
+ * Text criteria are matched case insensitively.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the students meeting ALL of the given "
+            + "criteria (case-insensitive). The attendance rate is over the given subjects, or all subjects if none "
+            + "are given, and only students with attendance records have one.\n"
+            + "Parameters: "
+            + "[" + PREFIX_CLASS + "CLASS] "
+            + "[" + PREFIX_SUBJECTS + "SUBJECT]... "
+            + "[" + PREFIX_PAYMENT_STATUS + "PAYMENT_STATUS] "
+            + "[" + PREFIX_ASSIGNMENT_STATUS + "ASSIGNMENT_STATUS] "
+            + "[" + PREFIX_ATTENDANCE_RATE + "(<|<=|>|>=)RATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS + "3B "
+            + PREFIX_SUBJECTS + "Math "
+            + PREFIX_PAYMENT_STATUS + "Unpaid "
+            + PREFIX_ATTENDANCE_RATE + "<0.75";
+
+    private final StudentFilter filter;
+
+    public FilterCommand(StudentFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean changesView() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (model.isViewingArchived()) {
+            model.updateFilteredArchivedPersonList(model.getArchivedPersonFilter(filter));
+            return new CommandResult(String.format(
+                    Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                    model.getFilteredArchivedPersonList().size()));
+        } else {
+            model.updateFilteredPersonList(model.getPersonFilter(filter));
+            return new CommandResult(String.format(
+                    Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                    model.getFilteredPersonList().size()));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return filter.equals(otherFilterCommand.filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filter", filter)
+                .toString();
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
@@ -9,33 +11,65 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in TutorTrack whose name contains all the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. A fuzzy find also matches name words that start with a keyword, or that are
+ * within one or two typing mistakes of it.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    /** Put before the keywords to also match names that start with them or are near misses of them. */
+    public static final String FUZZY_MARKER = "~";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain ALL of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " john tan xiao ming";
+            + "Start with " + FUZZY_MARKER + " to also match names starting with the keywords or with typos in them.\n"
+            + "Parameters: [" + FUZZY_MARKER + "]KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " john tan xiao ming\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_MARKER + "jonh ta";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand for names matching {@code predicate}, or, if {@code isFuzzy}, names with words that start
+     * with or are near misses of its keywords.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean changesView() {
+        return true;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         if (model.isViewingArchived()) {
-            model.updateFilteredArchivedPersonList(predicate);
+            List<String> keywords = predicate.getKeywords();
+            model.updateFilteredArchivedPersonList(isFuzzy
+                    ? model.getArchivedPersonSimilarNameSearch(keywords)
+                    : model.getArchivedPersonNameSearch(keywords));
             return new CommandResult(String.format(
                     Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
                     model.getFilteredArchivedPersonList().size()));
         } else {
-            model.updateFilteredPersonList(predicate);
+            List<String> keywords = predicate.getKeywords();
+            model.updateFilteredPersonList(isFuzzy
+                    ? model.getPersonSimilarNameSearch(keywords)
+                    : model.getPersonNameSearch(keywords));
             return new CommandResult(String.format(
                     Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
                     model.getFilteredPersonList().size()));
@@ -54,13 +88,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isFuzzy == otherFindCommand.isFuzzy;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isFuzzy", isFuzzy)
                 .toString();
     }
 }
@@ -22,6 +22,11 @@ public class HelpCommand extends Command {
         this.args = args;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         String trimmedArgs = args.trim();
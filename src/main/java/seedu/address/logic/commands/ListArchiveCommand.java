@@ -18,6 +18,16 @@ public class ListArchiveCommand extends Command {
         + "This command does not take any parameters.\n"
         + "Example: " + COMMAND_WORD;
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean changesView() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
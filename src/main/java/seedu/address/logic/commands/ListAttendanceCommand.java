@@ -43,6 +43,11 @@ public class ListAttendanceCommand extends Command {
         this.subject = subject;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -52,7 +57,8 @@ public class ListAttendanceCommand extends Command {
                 .filter(p -> p.getName().equals(name))
                 .findFirst()
                 .orElseThrow(() ->
-                        new CommandException(String.format(Messages.MESSAGE_STUDENT_NOT_FOUND, name)));
+                        new CommandException(Messages.getErrorMessageForStudentNotFound(
+                                name, model.getPersonWithSimilarName(name))));
 
         if (!(foundPerson instanceof Student)) {
             throw new CommandException(String.format(Messages.MESSAGE_PERSON_NOT_STUDENT, name));
@@ -70,8 +76,7 @@ public class ListAttendanceCommand extends Command {
 
         // Gather attendance records for that subject
         StringBuilder sb = new StringBuilder();
-        student.getAttendanceList().getStudentAttendance().stream()
-                .filter(r -> r.getLesson().getSubject().equalsIgnoreCase(subject.getName()))
+        student.getAttendanceList().getRecordsForSubject(subject.getName())
                 .forEach(r -> sb.append(String.format("%s %s\n",
                         r.getLesson().getName(), r.getStatus())));
 
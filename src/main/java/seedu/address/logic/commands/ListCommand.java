@@ -19,6 +19,16 @@ public class ListCommand extends Command {
             + "This command does not take any parameters.\n"
             + "Example: " + COMMAND_WORD;
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean changesView() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
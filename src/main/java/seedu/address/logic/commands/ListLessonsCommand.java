@@ -37,6 +37,16 @@ public class ListLessonsCommand extends Command {
         this.subjectName = subjectName;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean changesView() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
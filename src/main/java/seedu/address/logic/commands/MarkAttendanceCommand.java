@@ -68,7 +68,8 @@ public class MarkAttendanceCommand extends Command {
         Person foundPerson = model.getFilteredPersonList().stream()
                 .filter(p -> p.getName().equals(name))
                 .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_STUDENT_NOT_FOUND, name)));
+                .orElseThrow(() -> new CommandException(
+                        Messages.getErrorMessageForStudentNotFound(name, model.getPersonWithSimilarName(name))));
 
         if (!(foundPerson instanceof Student)) {
             throw new CommandException(String.format(Messages.MESSAGE_PERSON_NOT_STUDENT, name));
@@ -91,7 +92,7 @@ public class MarkAttendanceCommand extends Command {
         }
 
         // Mark attendance
-        student.getAttendanceList().markAttendance(lesson, status);
+        model.markAttendance(student, lesson, status);
 
         // Feedback
         String feedback = String.format(
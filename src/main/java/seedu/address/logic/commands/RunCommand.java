@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command.
+ * Blank lines and lines starting with {@code #} are skipped. A line that fails is reported with its line number and
+ * does not stop the rest of the script. Since the whole script is one command, the data is saved once at the end.
+ * The result tells how many lines failed.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "Blank lines and lines starting with # are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " term-start.txt";
+
+    public static final String MESSAGE_SUCCESS =
+            "Ran %1$d of %2$d commands from %3$s in %4$.2f s (%5$.0f commands/s).";
+    public static final String MESSAGE_FAILURES = "%1$d line(s) failed:";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more";
+    public static final String MESSAGE_CANNOT_OPEN_FILE = "Could not open script file %1$s";
+    public static final String MESSAGE_READ_STOPPED = "Stopped reading the script file after line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run another script";
+
+    /** Number of failed lines listed in the result; the rest are only counted. */
+    static final int MAX_REPORTED_FAILURES = 20;
+
+    private static final String COMMENT_MARKER = "#";
+
+    private final Path filePath;
+
+    /**
+     * Creates a {@code RunCommand} for the script file at {@code filePath}.
+     */
+    public RunCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        BufferedReader reader;
+        try {
+            reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_OPEN_FILE, filePath), e);
+        }
+
+        AddressBookParser parser = new AddressBookParser();
+        List<String> failures = new ArrayList<>();
+        String readError = null;
+        int commandCount = 0;
+        int lineNumber = 0;
+        long start = System.nanoTime();
+        try (reader) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    runLine(parser, commandText, model);
+                } catch (ParseException | CommandException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILURE, lineNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            // Commands run so far have changed the model, so report them rather than failing the whole command
+            readError = String.format(MESSAGE_READ_STOPPED, lineNumber, e.getMessage());
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+
+        String feedback = formatResult(commandCount, failures, elapsedNanos);
+        return readError == null
+                ? new RunCommandResult(feedback, failures.size())
+                : new RunCommandResult(feedback + "\n" + readError, failures.size() + 1);
+    }
+
+    /**
+     * Returns true, as the lines of the script may change the view.
+     */
+    @Override
+    public boolean changesView() {
+        return true;
+    }
+
+    private static void runLine(AddressBookParser parser, String commandText, Model model)
+            throws ParseException, CommandException {
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        command.execute(model);
+    }
+
+    private String formatResult(int commandCount, List<String> failures, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, commandCount - failures.size(),
+                commandCount, filePath, elapsedSeconds, commandCount / elapsedSeconds));
+        if (failures.isEmpty()) {
+            return result.toString();
+        }
+
+        result.append('\n').append(String.format(MESSAGE_FAILURES, failures.size()));
+        failures.stream().limit(MAX_REPORTED_FAILURES).forEach(failure -> result.append('\n').append(failure));
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            result.append('\n').append(String.format(MESSAGE_MORE_FAILURES, failures.size() - MAX_REPORTED_FAILURES));
+        }
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the result of running a script, which also tells how many of its lines failed.
+ */
+public class RunCommandResult extends CommandResult {
+
+    private final int failedCount;
+
+    /**
+     * Constructs a {@code RunCommandResult} with the specified {@code feedbackToUser} and number of failed lines.
+     */
+    public RunCommandResult(String feedbackToUser, int failedCount) {
+        super(feedbackToUser);
+        this.failedCount = failedCount;
+    }
+
+    /**
+     * Returns the number of lines of the script that failed, counting a script that could not be read to the end as
+     * one more failure.
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    @Override
+    public RunCommandResult withAdditionalFeedback(String additionalFeedback) {
+        return new RunCommandResult(super.withAdditionalFeedback(additionalFeedback).getFeedbackToUser(),
+                failedCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommandResult)) {
+            return false;
+        }
+
+        RunCommandResult otherResult = (RunCommandResult) other;
+        return super.equals(otherResult) && failedCount == otherResult.failedCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), failedCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("feedbackToUser", getFeedbackToUser())
+                .add("failedCount", failedCount)
+                .toString();
+    }
+}
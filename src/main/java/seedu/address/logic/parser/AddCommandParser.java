@@ -27,6 +27,9 @@ import seedu.address.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_CLASS, PREFIX_SUBJECTS,
+            PREFIX_EMERGENCY_CONTACT, PREFIX_PAYMENT_STATUS, PREFIX_ASSIGNMENT_STATUS, PREFIX_TAG);
+
     /**
      * Set of allowed prefix strings for the AddCommand.
      */
@@ -57,11 +60,7 @@ public class AddCommandParser implements Parser<AddCommand> {
             throw new ParseException("Name must be enclosed in quotes. Example: add n/\"John Tan\"");
         }
         assertNoUnknownPrefixes(processedArgs);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                processedArgs,
-                PREFIX_NAME, PREFIX_CLASS, PREFIX_SUBJECTS, PREFIX_EMERGENCY_CONTACT,
-                PREFIX_PAYMENT_STATUS, PREFIX_ASSIGNMENT_STATUS, PREFIX_TAG
-        );
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(processedArgs);
         // Ensure required prefixes are present
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_CLASS, PREFIX_SUBJECTS, PREFIX_EMERGENCY_CONTACT)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -7,20 +7,22 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECTS;
 import seedu.address.logic.commands.AddLessonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonRegistry;
 
 /**
  * Parses input arguments and creates a new AddLessonCommand object
  */
 public class AddLessonCommandParser implements Parser<AddLessonCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_SUBJECTS, PREFIX_NAME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddLessonCommand
      * and returns an AddLessonCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddLessonCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECTS, PREFIX_NAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!argMultimap.arePrefixesPresent(PREFIX_SUBJECTS, PREFIX_NAME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -40,7 +42,7 @@ public class AddLessonCommandParser implements Parser<AddLessonCommand> {
             throw new ParseException(Lesson.MESSAGE_CONSTRAINTS);
         }
 
-        Lesson lesson = new Lesson(lessonName, subject);
+        Lesson lesson = LessonRegistry.intern(lessonName, subject);
 
         return new AddLessonCommand(lesson);
     }
@@ -1,11 +1,13 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
@@ -18,6 +20,7 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteLessonCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListArchiveCommand;
@@ -25,6 +28,7 @@ import seedu.address.logic.commands.ListAttendanceCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListLessonsCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.UnarchiveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -33,11 +37,48 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
     /**
-     * Used for initial separation of command word and args.
+     * The commands of the application. To add a command, register the parser of its arguments here.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandRegistry DEFAULT_COMMANDS = new CommandRegistry()
+            .register(AddCommand.COMMAND_WORD, new AddCommandParser())
+            .register(EditCommand.COMMAND_WORD, new EditCommandParser())
+            .register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser())
+            .register(ArchiveCommand.COMMAND_WORD, new ArchiveCommandParser())
+            .register(ClearCommand.COMMAND_WORD, ClearCommand::new)
+            .register(ClearArchiveCommand.COMMAND_WORD, ClearArchiveCommand::new)
+            .register(FindCommand.COMMAND_WORD, new FindCommandParser())
+            .register(FilterCommand.COMMAND_WORD, new FilterCommandParser())
+            .register(ListCommand.COMMAND_WORD, new ListCommandParser())
+            .register(ExitCommand.COMMAND_WORD, ExitCommand::new)
+            .register(HelpCommand.COMMAND_WORD, HelpCommand::new)
+            .register(ListArchiveCommand.COMMAND_WORD, new ListArchiveCommandParser())
+            .register(MarkAttendanceCommand.COMMAND_WORD, new MarkAttendanceCommandParser())
+            .register(AddLessonCommand.COMMAND_WORD, new AddLessonCommandParser())
+            .register(ListAttendanceCommand.COMMAND_WORD, new ListAttendanceCommandParser())
+            .register(ListLessonsCommand.COMMAND_WORD, new ListLessonsCommandParser())
+            .register(DeleteLessonCommand.COMMAND_WORD, new DeleteLessonCommandParser())
+            .register(UnarchiveCommand.COMMAND_WORD, new UnarchiveCommandParser())
+            .register(RunCommand.COMMAND_WORD, new RunCommandParser());
+
+    private final CommandRegistry commands;
+
+    /**
+     * Creates a parser for the commands of the application.
+     */
+    public AddressBookParser() {
+        this(DEFAULT_COMMANDS);
+    }
+
+    /**
+     * Creates a parser for the commands in {@code commands}.
+     */
+    public AddressBookParser(CommandRegistry commands) {
+        requireNonNull(commands);
+        this.commands = commands;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -47,75 +88,45 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ArchiveCommand.COMMAND_WORD:
-            return new ArchiveCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand(arguments);
-
-        case ClearArchiveCommand.COMMAND_WORD:
-            return new ClearArchiveCommand(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand(arguments);
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand(arguments);
-
-        case ListArchiveCommand.COMMAND_WORD:
-            return new ListArchiveCommandParser().parse(arguments);
-
-        case MarkAttendanceCommand.COMMAND_WORD:
-            return new MarkAttendanceCommandParser().parse(arguments);
-
-        case AddLessonCommand.COMMAND_WORD:
-            return new AddLessonCommandParser().parse(arguments);
-
-        case ListAttendanceCommand.COMMAND_WORD:
-            return new ListAttendanceCommandParser().parse(arguments);
-
-        case ListLessonsCommand.COMMAND_WORD:
-            return new ListLessonsCommandParser().parse(arguments);
-
-        case DeleteLessonCommand.COMMAND_WORD:
-            return new DeleteLessonCommandParser().parse(arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
+
+        Optional<Parser<? extends Command>> parser = commands.getParser(commandWord);
+        if (parser.isEmpty()) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
+            throw new ParseException(commands.suggestCommandWord(commandWord)
+                    .map(suggestion -> String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, suggestion))
+                    .orElse(MESSAGE_UNKNOWN_COMMAND));
+        }
+        return parser.get().parse(arguments);
+    }
 
-        case UnarchiveCommand.COMMAND_WORD:
-            return new UnarchiveCommandParser().parse(arguments);
+    /**
+     * Returns the command words that start with {@code prefix}, in alphabetical order, for completing a partly typed
+     * command word.
+     */
+    public List<String> getCommandWordsStartingWith(String prefix) {
+        return commands.getCommandWordsStartingWith(prefix);
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+    /**
+     * Returns true if {@code c} separates the command word from its arguments, as {@code \s} does in a regex.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
@@ -21,5 +21,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_ASSIGNMENT_STATUS = new Prefix("as/");
     public static final Prefix PREFIX_LESSON = new Prefix("l/");
     public static final Prefix PREFIX_STATUS = new Prefix("st/");
+    public static final Prefix PREFIX_ATTENDANCE_RATE = new Prefix("rate");
 
 }
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps each command word to the parser of its arguments. Parsers are shared by every input with their command word,
+ * so they must not keep state between inputs.
+ */
+public class CommandRegistry {
+
+    /** Mistyped command words further than this from every command word get no suggestion. */
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+    private final CommandWordTrie commandWords = new CommandWordTrie();
+
+    /**
+     * Registers {@code parser} for the arguments of {@code commandWord}.
+     *
+     * @return this registry, so that registrations can be chained.
+     * @throws IllegalArgumentException if {@code commandWord} is blank or already registered.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        if (commandWord.isEmpty() || commandWord.chars().anyMatch(Character::isWhitespace)) {
+            throw new IllegalArgumentException("Command word must not be blank or contain spaces: " + commandWord);
+        }
+        if (parsers.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException("Command word is already registered: " + commandWord);
+        }
+        commandWords.add(commandWord);
+        return this;
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    /**
+     * Returns the registered command words that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCommandWordsStartingWith(String prefix) {
+        return commandWords.getWordsStartingWith(prefix);
+    }
+
+    /**
+     * Returns the registered command word that {@code commandWord} is most likely a mistyping of, if any. Case is
+     * ignored, and the suggestion is at most two edits, and at most half the word, away.
+     */
+    public Optional<String> suggestCommandWord(String commandWord) {
+        requireNonNull(commandWord);
+        int maxDistance = Math.min(MAX_SUGGESTION_DISTANCE, commandWord.length() / 2);
+        return commandWords.findClosest(commandWord.toLowerCase(Locale.ROOT), maxDistance);
+    }
+}
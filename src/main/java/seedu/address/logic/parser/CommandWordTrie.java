@@ -0,0 +1,113 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A trie of command words, for completing a partly typed command word and for finding the command word closest to a
+ * mistyped one. Words are kept in alphabetical order.
+ */
+class CommandWordTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code word} to the trie.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), unused -> new Node());
+        }
+        node.word = word;
+    }
+
+    /**
+     * Returns the words that start with {@code prefix}, in alphabetical order.
+     */
+    List<String> getWordsStartingWith(String prefix) {
+        requireNonNull(prefix);
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+
+        List<String> words = new ArrayList<>();
+        if (node != null) {
+            collectWords(node, words);
+        }
+        return words;
+    }
+
+    private static void collectWords(Node node, List<String> words) {
+        if (node.word != null) {
+            words.add(node.word);
+        }
+        node.children.values().forEach(child -> collectWords(child, words));
+    }
+
+    /**
+     * Returns the word with the smallest edit distance to {@code word}, if it is at most {@code maxDistance}. Of
+     * words equally close, the first in alphabetical order is returned.
+     *
+     * <p>The edit distance is computed one row per trie node, so words sharing a prefix share its rows, and a branch
+     * is left as soon as every word in it must be too far.
+     */
+    Optional<String> findClosest(String word, int maxDistance) {
+        requireNonNull(word);
+        int[] firstRow = new int[word.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+
+        Match best = new Match(maxDistance);
+        root.children.forEach((letter, child) -> findClosest(child, letter, word, firstRow, best));
+        return Optional.ofNullable(best.word);
+    }
+
+    private static void findClosest(Node node, char letter, String word, int[] previousRow, Match best) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMinimum = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int substitutionCost = word.charAt(i - 1) == letter ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + substitutionCost);
+            rowMinimum = Math.min(rowMinimum, row[i]);
+        }
+
+        int distance = row[row.length - 1];
+        if (node.word != null && distance < best.distance) {
+            best.word = node.word;
+            best.distance = distance;
+        }
+        if (rowMinimum < best.distance) {
+            node.children.forEach((nextLetter, child) -> findClosest(child, nextLetter, word, row, best));
+        }
+    }
+
+    /**
+     * A node of the trie, which ends a word if {@code word} is set.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String word;
+    }
+
+    /**
+     * The closest word found so far, and the distance a word must beat to replace it.
+     */
+    private static class Match {
+        private String word;
+        private int distance;
+
+        Match(int maxDistance) {
+            this.distance = maxDistance + 1;
+        }
+    }
+}
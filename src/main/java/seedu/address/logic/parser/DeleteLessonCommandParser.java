@@ -7,20 +7,22 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECTS;
 import seedu.address.logic.commands.DeleteLessonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonRegistry;
 
 /**
  * Parses input arguments and creates a new DeleteLessonCommand object.
  */
 public class DeleteLessonCommandParser implements Parser<DeleteLessonCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_SUBJECTS, PREFIX_NAME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteLessonCommand
      * and returns a DeleteLessonCommand object for execution.
      * @throws ParseException if the user input does not conform to the expected format
      */
     public DeleteLessonCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECTS, PREFIX_NAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         // Check that both required prefixes are present and there’s no extra preamble text
         if (!argMultimap.arePrefixesPresent(PREFIX_SUBJECTS, PREFIX_NAME)
@@ -44,7 +46,7 @@ public class DeleteLessonCommandParser implements Parser<DeleteLessonCommand> {
         }
 
         // Construct the lesson to be deleted and wrap it in a DeleteLessonCommand
-        Lesson lessonToDelete = new Lesson(lessonName, subject);
+        Lesson lessonToDelete = LessonRegistry.intern(lessonName, subject);
         return new DeleteLessonCommand(lessonToDelete);
     }
 }
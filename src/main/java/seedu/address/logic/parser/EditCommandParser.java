@@ -32,6 +32,10 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_TAG, PREFIX_CLASS, PREFIX_SUBJECTS, PREFIX_EMERGENCY_CONTACT,
+            PREFIX_PAYMENT_STATUS, PREFIX_ASSIGNMENT_STATUS);
+
     private static final Logger LOGGER = Logger.getLogger(EditCommandParser.class.getName());
 
     @Override
@@ -54,12 +58,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException("Name must be enclosed in quotes. Example: edit 1 n/\"John Tan\"");
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                processedArgs,
-                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
-                PREFIX_CLASS, PREFIX_SUBJECTS, PREFIX_EMERGENCY_CONTACT,
-                PREFIX_PAYMENT_STATUS, PREFIX_ASSIGNMENT_STATUS
-        );
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(processedArgs);
         assert argMultimap != null : "ArgumentMultimap must not be null";
 
         final Index index;
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_RATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECTS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.attendance.AttendanceRateBound;
+import seedu.address.model.student.StudentFilter;
+
+/**
+ * Parses input arguments and creates a new {@code FilterCommand} object.
+ * Format: filter [c/CLASS] [s/SUBJECT]... [ps/PAYMENT_STATUS] [as/ASSIGNMENT_STATUS] [rate(<|<=|>|>=)RATE]
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_SUBJECTS,
+            PREFIX_PAYMENT_STATUS, PREFIX_ASSIGNMENT_STATUS, PREFIX_ATTENDANCE_RATE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format, or gives no criteria.
+     */
+    @Override
+    public FilterCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
+
+        boolean hasCriteria = argMultimap.getValue(PREFIX_CLASS).isPresent()
+                || argMultimap.getValue(PREFIX_SUBJECTS).isPresent()
+                || argMultimap.getValue(PREFIX_PAYMENT_STATUS).isPresent()
+                || argMultimap.getValue(PREFIX_ASSIGNMENT_STATUS).isPresent()
+                || argMultimap.getValue(PREFIX_ATTENDANCE_RATE).isPresent();
+        if (!hasCriteria || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_PAYMENT_STATUS, PREFIX_ASSIGNMENT_STATUS,
+                PREFIX_ATTENDANCE_RATE);
+
+        String studentClass = null;
+        if (argMultimap.getValue(PREFIX_CLASS).isPresent()) {
+            studentClass = ParserUtil.parseStudentClass(argMultimap.getValue(PREFIX_CLASS).get());
+        }
+        List<String> subjectNames = new ArrayList<>();
+        for (String subjectName : argMultimap.getAllValues(PREFIX_SUBJECTS)) {
+            subjectNames.add(ParserUtil.parseSingleSubject(subjectName));
+        }
+        String paymentStatus = null;
+        if (argMultimap.getValue(PREFIX_PAYMENT_STATUS).isPresent()) {
+            paymentStatus = ParserUtil.parsePaymentStatus(argMultimap.getValue(PREFIX_PAYMENT_STATUS).get());
+        }
+        String assignmentStatus = null;
+        if (argMultimap.getValue(PREFIX_ASSIGNMENT_STATUS).isPresent()) {
+            assignmentStatus = ParserUtil.parseAssignmentStatus(argMultimap.getValue(PREFIX_ASSIGNMENT_STATUS).get());
+        }
+        AttendanceRateBound attendanceRateBound = null;
+        if (argMultimap.getValue(PREFIX_ATTENDANCE_RATE).isPresent()) {
+            attendanceRateBound = ParserUtil.parseAttendanceRateBound(
+                    argMultimap.getValue(PREFIX_ATTENDANCE_RATE).get());
+        }
+
+        return new FilterCommand(new StudentFilter(studentClass, subjectNames, paymentStatus, assignmentStatus,
+                attendanceRateBound));
+    }
+}
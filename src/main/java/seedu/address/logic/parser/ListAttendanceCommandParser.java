@@ -15,6 +15,8 @@ import seedu.address.model.subject.Subject;
  */
 public class ListAttendanceCommandParser implements Parser<ListAttendanceCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_SUBJECTS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListAttendanceCommand
      * and returns a ListAttendanceCommand object for execution.
@@ -22,7 +24,7 @@ public class ListAttendanceCommandParser implements Parser<ListAttendanceCommand
      */
     @Override
     public ListAttendanceCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SUBJECTS);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         // Ensure both prefixes are present and no preamble text
         if (!argMultimap.arePrefixesPresent(PREFIX_NAME, PREFIX_SUBJECTS)
@@ -11,14 +11,15 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ListLessonsCommandParser implements Parser<ListLessonsCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_SUBJECTS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListLessonsCommand
      * and returns a ListLessonsCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public ListLessonsCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECTS);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!argMultimap.arePrefixesPresent(PREFIX_SUBJECTS)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -13,6 +13,7 @@ import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.attendance.AttendanceStatus;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonRegistry;
 import seedu.address.model.person.Name;
 import seedu.address.model.subject.Subject;
 
@@ -22,10 +23,12 @@ import seedu.address.model.subject.Subject;
  */
 public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_SUBJECTS, PREFIX_LESSON, PREFIX_STATUS);
+
     @Override
     public MarkAttendanceCommand parse(String args) throws ParseException {
-        ArgumentMultimap m = ArgumentTokenizer.tokenize(
-                args, PREFIX_NAME, PREFIX_SUBJECTS, PREFIX_LESSON, PREFIX_STATUS);
+        ArgumentMultimap m = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(m, PREFIX_NAME, PREFIX_SUBJECTS, PREFIX_LESSON, PREFIX_STATUS)
                 || !m.getPreamble().isEmpty()) {
@@ -39,7 +42,7 @@ public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand
         Subject subject = new Subject(m.getValue(PREFIX_SUBJECTS).get().trim());
 
         String lessonName = m.getValue(PREFIX_LESSON).get().trim();
-        Lesson lesson = new Lesson(lessonName, subject.getName());
+        Lesson lesson = LessonRegistry.intern(lessonName, subject.getName());
 
         String rawStatus = m.getValue(PREFIX_STATUS).get().trim().toUpperCase();
         final AttendanceStatus status;
@@ -15,6 +15,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.attendance.AttendanceRateBound;
 import seedu.address.model.attendance.AttendanceStatus; // keep if used
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -275,6 +276,21 @@ public class ParserUtil {
         return trimmed.substring(0, 1).toUpperCase() + trimmed.substring(1).toLowerCase();
     }
 
+    /**
+     * Parses a {@code String bound} such as {@code <0.75} into an {@code AttendanceRateBound}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code bound} is invalid.
+     */
+    public static AttendanceRateBound parseAttendanceRateBound(String bound) throws ParseException {
+        requireNonNull(bound);
+        String trimmedBound = bound.trim();
+        if (!AttendanceRateBound.isValidBound(trimmedBound)) {
+            throw new ParseException(AttendanceRateBound.MESSAGE_CONSTRAINTS);
+        }
+        return new AttendanceRateBound(trimmedBound);
+    }
+
     /** Parses optional free-form status. */
     public static String parseOptionalStatus(String status) throws ParseException {
         requireNonNull(status);
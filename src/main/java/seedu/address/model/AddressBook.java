@@ -1,20 +1,41 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.attendance.AttendanceCounts;
 import seedu.address.model.attendance.AttendanceList;
 import seedu.address.model.attendance.AttendanceStatus;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonList;
+import seedu.address.model.lesson.LessonRegistry;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentBitmapIndex;
+import seedu.address.model.student.StudentFilter;
 import seedu.address.model.subject.Subject;
 import seedu.address.model.subject.SubjectList;
 
@@ -24,11 +45,47 @@ import seedu.address.model.subject.SubjectList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBook.class);
+
+    /** Source of shard versions, shared by all address books so that no two changes get the same version. */
+    private static final AtomicLong versionCounter = new AtomicLong();
+
+    /** Filters testing at least this many persons test them in parallel. */
+    private static final int PARALLEL_FILTER_THRESHOLD = 10_000;
+
+    /**
+     * Filters counting attendance take their candidates from the bitmap indexes only if they are at most this fraction
+     * of the list, as the filtered list then looks up every person in the set of those found.
+     */
+    private static final int INDEX_SELECTIVITY = 16;
+
     private final UniquePersonList persons;
     private final UniquePersonList archivedPersons;
     private final LessonList lessonList;
     private final SubjectList subjectList;
 
+    /**
+     * Current and archived students keyed by their case-folded subject names, so that lesson changes only visit the
+     * students enrolled in that subject. Sets are identity-based because the same name may appear in both lists.
+     */
+    private final Map<String, Set<Student>> studentsBySubject;
+
+    /** Bitmap indexes over the categorical fields of the current and of the archived students. */
+    private final StudentBitmapIndex currentStudentBitmaps;
+    private final StudentBitmapIndex archivedStudentBitmaps;
+
+    /** Supplies the archived persons on first access, or null once they are in memory. */
+    private ArchiveLoader archiveLoader;
+
+    /** Why the deferred archive could not be loaded, until it has been reported, or null. */
+    private String archiveLoadError;
+
+    /** Version of each shard, indexed by ordinal. A shard that has not changed since construction has version 0. */
+    private final long[] shardVersions = new long[DataShard.values().length];
+
+    /** The latest version of any shard. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -41,6 +98,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         archivedPersons = new UniquePersonList();
         lessonList = new LessonList();
         subjectList = new SubjectList();
+        studentsBySubject = new HashMap<>();
+        currentStudentBitmaps = new StudentBitmapIndex();
+        archivedStudentBitmaps = new StudentBitmapIndex();
     }
 
     public AddressBook() {}
@@ -61,17 +121,175 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        markChanged(DataShard.PERSONS);
+        rebuildStudentIndexes();
+    }
+
+    /**
+     * Replaces the current and archived persons with {@code persons} and {@code archivedPersons}, sharing subjects
+     * between students as {@link #addPerson(Person)} does.
+     * This is the bulk form of adding every person in turn, for loading a whole address book: duplicates are found in
+     * one hashing pass per list, and each list fires a single change notification. The address book takes over the
+     * given students and their subjects, instead of copying them.
+     *
+     * @throws DuplicatePersonException if either list contains two persons with the same identity, as determined by
+     *     {@link #hasPerson(Person)}.
+     */
+    public void setPersons(List<Person> persons, List<Person> archivedPersons) {
+        requireAllNonNull(persons, archivedPersons);
+        if (!hasUniqueIdentities(persons) || !hasUniqueIdentities(archivedPersons)) {
+            throw new DuplicatePersonException();
+        }
+
+        this.persons.setPersons(withSharedSubjects(persons));
+        this.archivedPersons.setPersons(withSharedSubjects(archivedPersons));
+        archiveLoader = null;
+        markChanged(DataShard.PERSONS, DataShard.ARCHIVED_PERSONS, DataShard.LESSONS);
+        rebuildStudentIndexes();
+    }
+
+    private List<Person> withSharedSubjects(List<Person> persons) {
+        List<Person> result = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            result.add(person instanceof Student ? shareSubjectsOf((Student) person) : person);
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code student} itself if all its subjects are the shared ones, or a copy using the shared subjects
+     * otherwise. A subject the subject list does not have yet is adopted as the shared one.
+     * Students loaded from storage refer to the same subject objects, so most of them are kept without copying.
+     */
+    private Student shareSubjectsOf(Student student) {
+        boolean usesSharedSubjects = true;
+        for (Subject subject : student.getSubjects()) {
+            Optional<Subject> sharedSubject = subjectList.getSubject(subject.getName());
+            if (sharedSubject.isEmpty()) {
+                subjectList.addSubject(subject);
+                syncLessonsToSharedSubject(subject, subject);
+            } else if (sharedSubject.get() != subject) {
+                usesSharedSubjects = false;
+            }
+        }
+        return usesSharedSubjects ? student : replaceStudentWithSharedSubjects(student);
+    }
+
+    private static boolean hasUniqueIdentities(List<Person> persons) {
+        Map<String, List<Person>> seen = new HashMap<>();
+        for (Person person : persons) {
+            List<Person> sameName = seen.computeIfAbsent(toIdentityKey(person), k -> new ArrayList<>(1));
+            if (sameName.stream().anyMatch(existing -> isSameIdentity(existing, person))) {
+                return false;
+            }
+            sameName.add(person);
+        }
+        return true;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The copy takes the shard versions of {@code newData}, since it holds the same data.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
-        setArchivedPersons(newData.getArchivedPersonList());
+        if (newData instanceof AddressBook && !newData.isArchiveLoaded()) {
+            // Keep the archive of newData deferred instead of loading it just to copy it.
+            archivedPersons.setPersons(List.of());
+            archiveLoader = ((AddressBook) newData).archiveLoader;
+            rebuildStudentIndexes();
+        } else {
+            setArchivedPersons(newData.getArchivedPersonList());
+        }
         lessonList.setLessons(newData.getLessonList().getInternalList());
+        for (DataShard shard : DataShard.values()) {
+            shardVersions[shard.ordinal()] = newData.getShardVersion(shard);
+        }
+        version = newData.getVersion();
+    }
+
+    //// versions
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getShardVersion(DataShard shard) {
+        requireNonNull(shard);
+        return shardVersions[shard.ordinal()];
+    }
+
+    /**
+     * Gives each of {@code shards} a new version.
+     */
+    private void markChanged(DataShard... shards) {
+        version = versionCounter.incrementAndGet();
+        for (DataShard shard : shards) {
+            shardVersions[shard.ordinal()] = version;
+        }
+    }
+
+    //// deferred archive
+
+    /**
+     * Defers the archived persons to {@code loader}, which is called the first time archived data is accessed.
+     * Its result replaces the archived list, sharing subjects as {@link #setPersons(List, List)} does.
+     * Until then the archived list is empty and {@link #isArchiveLoaded()} returns false.
+     * Loading the archive does not count as a change to it.
+     */
+    public void setArchiveLoader(ArchiveLoader loader) {
+        requireNonNull(loader);
+        archivedPersons.setPersons(List.of());
+        rebuildStudentIndexes();
+        archiveLoader = loader;
+    }
+
+    @Override
+    public boolean isArchiveLoaded() {
+        return archiveLoader == null;
+    }
+
+    /**
+     * Returns the loader of the deferred archive, or null if the archive is in memory.
+     */
+    ArchiveLoader getArchiveLoader() {
+        return archiveLoader;
+    }
+
+    /**
+     * Returns why the deferred archive could not be loaded, if it failed to load since this was last called.
+     */
+    public Optional<String> takeArchiveLoadError() {
+        Optional<String> error = Optional.ofNullable(archiveLoadError);
+        archiveLoadError = null;
+        return error;
+    }
+
+    /**
+     * Loads the deferred archive, if any. An archive that cannot be loaded is left empty, without counting as a
+     * change, and the failure is kept for {@link #takeArchiveLoadError()}. Storage keeps the unreadable archive
+     * aside before the archive is next written.
+     */
+    private void ensureArchiveLoaded() {
+        if (archiveLoader == null) {
+            return;
+        }
+
+        ArchiveLoader loader = archiveLoader;
+        archiveLoader = null;
+        try {
+            archivedPersons.setPersons(withSharedSubjects(loader.load()));
+        } catch (DataLoadingException | DuplicatePersonException e) {
+            logger.warning("Archived persons could not be loaded. Starting with an empty archive: "
+                    + StringUtil.getDetails(e));
+            archivedPersons.setPersons(List.of());
+            archiveLoadError = e.getMessage();
+        }
+        archivedPersons.forEach(person -> indexStudent(person, archivedStudentBitmaps));
     }
 
     //// person-level operations
@@ -81,12 +299,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return persons.asUnmodifiableObservableList().stream().anyMatch(existing -> {
-            if (existing instanceof Student && person instanceof Student) {
-                return ((Student) existing).isSameStudent((Student) person);
-            }
-            return existing.isSamePerson(person);
-        });
+        return persons.getPersonsWithSameName(person.getName()).stream()
+                .anyMatch(existing -> isSameIdentity(existing, person));
+    }
+
+    private static boolean isSameIdentity(Person existing, Person person) {
+        if (existing instanceof Student && person instanceof Student) {
+            return ((Student) existing).isSameStudent((Student) person);
+        }
+        return existing.isSamePerson(person);
+    }
+
+    private static String toIdentityKey(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if a student with the same identity as {@code person} exists in the current list,
+     * as determined by {@code Student#isSameStudent(Student)}.
+     */
+    public boolean hasSameStudent(Person person) {
+        requireNonNull(person);
+        return hasSameStudent(persons, person);
+    }
+
+    /**
+     * Returns true if a student with the same identity as {@code person} exists in the archived list,
+     * as determined by {@code Student#isSameStudent(Student)}.
+     */
+    public boolean hasSameArchivedStudent(Person person) {
+        requireNonNull(person);
+        ensureArchiveLoaded();
+        return hasSameStudent(archivedPersons, person);
+    }
+
+    private static boolean hasSameStudent(UniquePersonList list, Person person) {
+        return list.getPersonsWithSameName(person.getName()).stream()
+                .filter(existing -> existing instanceof Student)
+                .anyMatch(existing -> ((Student) existing).isSameStudent((Student) person));
     }
 
     /**
@@ -94,7 +344,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p instanceof Student ? replaceStudentWithSharedSubjects((Student) p) : p);
+        Person toAdd = p instanceof Student ? replaceStudentWithSharedSubjects((Student) p) : p;
+        persons.add(toAdd);
+        markChanged(DataShard.PERSONS);
+        indexStudent(toAdd, currentStudentBitmaps);
     }
 
     /**
@@ -104,9 +357,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-        persons.setPerson(target, editedPerson instanceof Student
+        Person toSet = editedPerson instanceof Student
                 ? replaceStudentWithSharedSubjects((Student) editedPerson)
-                : editedPerson);
+                : editedPerson;
+        unindexStudent(persons.setPerson(target, toSet), currentStudentBitmaps);
+        markChanged(DataShard.PERSONS);
+        indexStudent(toSet, currentStudentBitmaps);
     }
 
     private Student replaceStudentWithSharedSubjects(Student student) {
@@ -129,12 +385,13 @@ public class AddressBook implements ReadOnlyAddressBook {
             }
             if (!lessonList.contains(lesson)) {
                 lessonList.addLesson(lesson);
+                markChanged(DataShard.LESSONS);
             }
         }
     }
 
     private void copyAttendance(AttendanceList from, AttendanceList to) {
-        from.getStudentAttendance().forEach(record -> to.markAttendance(record.getLesson(), record.getStatus()));
+        from.getRecords().forEach(record -> to.markAttendance(record.getLesson(), record.getStatus()));
     }
 
     /**
@@ -144,8 +401,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setArchivedPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-        archivedPersons.setPerson(target, editedPerson instanceof Student
-            ? replaceStudentWithSharedSubjects((Student) editedPerson) : editedPerson);
+        ensureArchiveLoaded();
+        markChanged(DataShard.ARCHIVED_PERSONS);
+        Person toSet = editedPerson instanceof Student
+            ? replaceStudentWithSharedSubjects((Student) editedPerson) : editedPerson;
+        unindexStudent(archivedPersons.setPerson(target, toSet), archivedStudentBitmaps);
+        indexStudent(toSet, archivedStudentBitmaps);
     }
 
     /**
@@ -154,7 +415,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         requireNonNull(key);
-        persons.remove(key);
+        unindexStudent(persons.remove(key), currentStudentBitmaps);
+        markChanged(DataShard.PERSONS);
     }
 
     /**
@@ -163,7 +425,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeArchivedPerson(Person key) {
         requireNonNull(key);
-        archivedPersons.remove(key);
+        ensureArchiveLoaded();
+        markChanged(DataShard.ARCHIVED_PERSONS);
+        unindexStudent(archivedPersons.remove(key), archivedStudentBitmaps);
     }
 
 
@@ -172,8 +436,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void archivePerson(Person key) {
-        persons.remove(key);
+        ensureArchiveLoaded();
+        markChanged(DataShard.PERSONS, DataShard.ARCHIVED_PERSONS);
+        unindexStudent(persons.remove(key), currentStudentBitmaps);
         archivedPersons.add(key);
+        indexStudent(key, archivedStudentBitmaps);
     }
 
     /**
@@ -182,6 +449,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setArchivedPersons(List<Person> archivedPersons) {
         this.archivedPersons.setPersons(archivedPersons);
+        archiveLoader = null;
+        markChanged(DataShard.ARCHIVED_PERSONS);
+        rebuildStudentIndexes();
     }
 
     /**
@@ -191,10 +461,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void unarchivePerson(Person key) {
         requireNonNull(key);
         assert key != null : "Person to unarchive should not be null";
+        ensureArchiveLoaded();
         assert archivedPersons.contains(key) : "Person must be in archived list";
+        markChanged(DataShard.PERSONS, DataShard.ARCHIVED_PERSONS);
 
-        archivedPersons.remove(key);
+        unindexStudent(archivedPersons.remove(key), archivedStudentBitmaps);
         persons.add(key);
+        indexStudent(key, currentStudentBitmaps);
     }
 
     /**
@@ -202,6 +475,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasArchivedPerson(Person person) {
         requireNonNull(person);
+        ensureArchiveLoaded();
         return archivedPersons.contains(person);
     }
 
@@ -210,7 +484,232 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Used during loading from storage.
      */
     public void addArchivedPerson(Person p) {
-        archivedPersons.add(p instanceof Student ? replaceStudentWithSharedSubjects((Student) p) : p);
+        ensureArchiveLoaded();
+        markChanged(DataShard.ARCHIVED_PERSONS);
+        Person toAdd = p instanceof Student ? replaceStudentWithSharedSubjects((Student) p) : p;
+        archivedPersons.add(toAdd);
+        indexStudent(toAdd, archivedStudentBitmaps);
+    }
+
+    //// name search
+
+    /**
+     * Returns a predicate that is true for current persons whose name contains every one of {@code keywords} as a
+     * whole word, ignoring case. It is answered from an index of name words.
+     */
+    public Predicate<Person> getPersonNameSearch(List<String> keywords) {
+        return persons.getNameSearch(keywords);
+    }
+
+    /**
+     * Returns a predicate that is true for archived persons whose name contains every one of {@code keywords} as a
+     * whole word, ignoring case. It is answered from an index of name words.
+     */
+    public Predicate<Person> getArchivedPersonNameSearch(List<String> keywords) {
+        ensureArchiveLoaded();
+        return archivedPersons.getNameSearch(keywords);
+    }
+
+    /**
+     * Returns a predicate that is true for current persons whose name has, for every one of {@code keywords}, a word
+     * that starts with the keyword or is a near miss of it, ignoring case. It is answered from an index of name
+     * trigrams.
+     */
+    public Predicate<Person> getPersonSimilarNameSearch(List<String> keywords) {
+        return persons.getSimilarNameSearch(keywords);
+    }
+
+    /**
+     * Returns a predicate like {@link #getPersonSimilarNameSearch(List)} for archived persons.
+     */
+    public Predicate<Person> getArchivedPersonSimilarNameSearch(List<String> keywords) {
+        ensureArchiveLoaded();
+        return archivedPersons.getSimilarNameSearch(keywords);
+    }
+
+    /**
+     * Returns the current person whose full name is the nearest miss of {@code name}, if any is near enough to be a
+     * mistyping of it.
+     */
+    public Optional<Person> getPersonWithSimilarName(Name name) {
+        return persons.getPersonWithSimilarName(name);
+    }
+
+    //// student filters
+
+    /**
+     * Returns a predicate that is true for the current students meeting the criteria of {@code filter}. When it
+     * bounds the attendance rate, attendance is only counted for the students that bitmap indexes find meeting its
+     * other criteria, if they are few.
+     */
+    public Predicate<Person> getPersonFilter(StudentFilter filter) {
+        requireNonNull(filter);
+        return runFilter(filter, persons, currentStudentBitmaps);
+    }
+
+    /**
+     * Returns a predicate like {@link #getPersonFilter(StudentFilter)} for archived students.
+     */
+    public Predicate<Person> getArchivedPersonFilter(StudentFilter filter) {
+        requireNonNull(filter);
+        ensureArchiveLoaded();
+        return runFilter(filter, archivedPersons, archivedStudentBitmaps);
+    }
+
+    /**
+     * Plans how to find the persons in {@code list} meeting the criteria of {@code filter}. Checking class, statuses
+     * and subjects costs less than looking a person up in a set, but counting attendance does not, so for a filter on
+     * attendance the students meeting its other criteria are found by intersecting the bitmaps of {@code bitmaps}. If
+     * they are few, only they are tested up front. Otherwise every person in the list must be tested: a large list is
+     * tested up front in parallel when there are processors to share the work, and the compiled predicate is returned
+     * as it is if not. A person tested up front keeps its result until it is replaced or its attendance changes, and
+     * any other person is tested by the compiled predicate, so the result always matches the list as it is now.
+     */
+    private Predicate<Person> runFilter(StudentFilter filter, UniquePersonList list, StudentBitmapIndex bitmaps) {
+        Predicate<Person> predicate = filter.toPredicate();
+        Collection<? extends Person> candidates = list.asUnmodifiableObservableList();
+        Optional<List<Student>> indexed = filter.getAttendanceRateBound().isPresent()
+                ? bitmaps.findStudentsMatching(filter)
+                : Optional.empty();
+        if (indexed.isPresent() && indexed.get().size() <= candidates.size() / INDEX_SELECTIVITY) {
+            candidates = indexed.get();
+        }
+
+        boolean isParallel = candidates.size() >= PARALLEL_FILTER_THRESHOLD
+                && Runtime.getRuntime().availableProcessors() > 1;
+        if (candidates == list.asUnmodifiableObservableList() && !isParallel) {
+            return predicate;
+        }
+        // A copy splits evenly between threads, where the list may not
+        List<Person> tested = new ArrayList<>(candidates);
+        boolean[] isMatch = new boolean[tested.size()];
+        IntStream indices = IntStream.range(0, tested.size());
+        if (isParallel) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> isMatch[i] = predicate.test(tested.get(i)));
+
+        Map<Person, Integer> testedAttendanceVersions = new IdentityHashMap<>();
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < tested.size(); i++) {
+            testedAttendanceVersions.put(tested.get(i), attendanceVersionOf(tested.get(i)));
+            if (isMatch[i]) {
+                matches.add(tested.get(i));
+            }
+        }
+        // The shown list re-tests persons whenever it changes. Persons added, edited or marked since are tested as
+        // they are now, and the others keep the result found here.
+        return person -> {
+            Integer testedVersion = testedAttendanceVersions.get(person);
+            return testedVersion != null && testedVersion == attendanceVersionOf(person)
+                    ? matches.contains(person)
+                    : predicate.test(person);
+        };
+    }
+
+    private static int attendanceVersionOf(Person person) {
+        return person instanceof Student ? ((Student) person).getAttendanceList().getModificationCount() : 0;
+    }
+
+    //// student indexes
+
+    /**
+     * Returns the current and archived students enrolled in the subject named {@code subjectName}, ignoring case.
+     * The returned set is an unmodifiable view.
+     */
+    public Set<Student> getStudentsEnrolledIn(String subjectName) {
+        requireNonNull(subjectName);
+        ensureArchiveLoaded();
+        return getIndexedStudentsEnrolledIn(subjectName);
+    }
+
+    /**
+     * Returns the students enrolled in the subject named {@code subjectName} without loading a deferred archive.
+     */
+    private Set<Student> getIndexedStudentsEnrolledIn(String subjectName) {
+        Set<Student> enrolled = studentsBySubject.get(toSubjectKey(subjectName));
+        return enrolled == null ? Set.of() : Collections.unmodifiableSet(enrolled);
+    }
+
+    private void indexStudent(Person person, StudentBitmapIndex bitmaps) {
+        if (!(person instanceof Student)) {
+            return;
+        }
+        Student student = (Student) person;
+        bitmaps.add(student);
+        for (String subjectName : student.getSubjectNames()) {
+            studentsBySubject.computeIfAbsent(toSubjectKey(subjectName),
+                    k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(student);
+        }
+    }
+
+    private void unindexStudent(Person person, StudentBitmapIndex bitmaps) {
+        if (!(person instanceof Student)) {
+            return;
+        }
+        Student student = (Student) person;
+        bitmaps.remove(student);
+        for (String subjectName : student.getSubjectNames()) {
+            String key = toSubjectKey(subjectName);
+            Set<Student> enrolled = studentsBySubject.get(key);
+            if (enrolled != null && enrolled.remove(student) && enrolled.isEmpty()) {
+                studentsBySubject.remove(key);
+            }
+        }
+    }
+
+    private void rebuildStudentIndexes() {
+        studentsBySubject.clear();
+        currentStudentBitmaps.clear();
+        archivedStudentBitmaps.clear();
+        persons.forEach(person -> indexStudent(person, currentStudentBitmaps));
+        archivedPersons.forEach(person -> indexStudent(person, archivedStudentBitmaps));
+    }
+
+    private static String toSubjectKey(String subjectName) {
+        return subjectName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    //// attendance aggregates
+
+    /**
+     * Returns the combined attendance counts of all current students for the subject named {@code subjectName},
+     * ignoring case. Archived students are not counted.
+     */
+    public AttendanceCounts getAttendanceCountsForSubject(String subjectName) {
+        requireNonNull(subjectName);
+        AttendanceCounts total = new AttendanceCounts();
+        getIndexedStudentsEnrolledIn(subjectName).stream()
+                .filter(this::isCurrentStudent)
+                .forEach(student -> student.getAttendanceList().addCountsForSubjectTo(subjectName, total));
+        return total;
+    }
+
+    /**
+     * Returns the combined attendance counts, over all subjects, of the current students in the class named
+     * {@code studentClass}, ignoring case. Archived students are not counted.
+     */
+    public AttendanceCounts getAttendanceCountsForClass(String studentClass) {
+        requireNonNull(studentClass);
+        AttendanceCounts total = new AttendanceCounts();
+        currentStudentBitmaps.getStudentsInClass(studentClass)
+                .forEach(student -> student.getAttendanceList().addCountsTo(total));
+        return total;
+    }
+
+    /**
+     * Marks the attendance of {@code student} for {@code lesson} as {@code status}.
+     * {@code student} must be in the current or archived list. Attendance should be changed through this method
+     * rather than on the student directly, so that the change is counted against the list holding the student.
+     */
+    public void markAttendance(Student student, Lesson lesson, AttendanceStatus status) {
+        requireAllNonNull(student, lesson, status);
+        student.getAttendanceList().markAttendance(lesson, status);
+        markChanged(isCurrentStudent(student) ? DataShard.PERSONS : DataShard.ARCHIVED_PERSONS);
+    }
+
+    private boolean isCurrentStudent(Student student) {
+        return persons.getPersonsWithSameName(student.getName()).stream().anyMatch(p -> p == student);
     }
 
     //// lesson-level operations
@@ -228,9 +727,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Adds a lesson to the address book.
      * The lesson must not already exist in the address book.
+     * Enrolled students without a record for the lesson are marked absent; existing records are kept.
      */
-    public void addLesson(Lesson lesson) {
-        requireNonNull(lesson);
+    public void addLesson(Lesson toAdd) {
+        requireNonNull(toAdd);
+        Lesson lesson = LessonRegistry.intern(toAdd);
+        markChanged(DataShard.LESSONS, DataShard.PERSONS);
         if (!lessonList.contains(lesson)) {
             lessonList.addLesson(lesson);
         }
@@ -244,10 +746,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     private void addLessonToStudentsForSubject(Lesson lesson, Subject subject) {
         requireNonNull(lesson);
         requireNonNull(subject);
-        final String subjectName = subject.getName();
-        streamAllStudents().filter(s -> s.getSubjects().stream()
-                .anyMatch(sub -> sub.getName().equalsIgnoreCase(subjectName)))
-                .forEach(s -> s.getAttendanceList().markAttendance(lesson, AttendanceStatus.ABSENT));
+        markArchivedAttendanceChanged();
+        getStudentsEnrolledIn(subject.getName()).stream()
+                .map(Student::getAttendanceList)
+                .filter(attendance -> attendance.getRecord(lesson).isEmpty())
+                .forEach(attendance -> attendance.markAttendance(lesson, AttendanceStatus.ABSENT));
     }
 
     /**
@@ -256,6 +759,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void deleteLesson(Lesson lesson) {
         requireNonNull(lesson);
+        markChanged(DataShard.LESSONS, DataShard.PERSONS);
         if (lessonList.contains(lesson)) {
             lessonList.deleteLesson(lesson);
         }
@@ -270,15 +774,24 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private void removeLessonFromAllStudents(Lesson l) {
         requireNonNull(l);
-        streamAllStudents().forEach(s -> s.getSubjects().stream()
-                .filter(sb -> sb.getName().equalsIgnoreCase(l.getSubject()))
-                .filter(sb -> sb.containsLesson(l)).forEach(sb -> sb.removeLesson(l)));
+        markArchivedAttendanceChanged();
+        getStudentsEnrolledIn(l.getSubject()).forEach(s -> {
+            s.getSubjects().stream()
+                    .filter(sb -> sb.getName().equalsIgnoreCase(l.getSubject()))
+                    .filter(sb -> sb.containsLesson(l)).forEach(sb -> sb.removeLesson(l));
+            s.getAttendanceList().removeAttendance(l);
+        });
     }
 
-    private Stream<Student> streamAllStudents() {
-        return Stream.concat(persons.asUnmodifiableObservableList().stream(),
-                archivedPersons.asUnmodifiableObservableList().stream()).filter(p -> p instanceof Student)
-                .map(p -> (Student) p);
+    /**
+     * Loads the archive, whose students' attendance a lesson change is about to update, and counts the update as a
+     * change to the archive unless it is empty.
+     */
+    private void markArchivedAttendanceChanged() {
+        ensureArchiveLoaded();
+        if (!archivedPersons.asUnmodifiableObservableList().isEmpty()) {
+            markChanged(DataShard.ARCHIVED_PERSONS);
+        }
     }
 
     /**
@@ -297,6 +810,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addSubject(Subject subject) {
         requireNonNull(subject);
         subjectList.addSubject(subject);
+        markChanged(DataShard.LESSONS);
     }
 
     /**
@@ -306,6 +820,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void deleteSubject(Subject subject) {
         requireNonNull(subject);
         subjectList.deleteSubject(subject);
+        markChanged(DataShard.LESSONS);
     }
 
     /**
@@ -318,7 +833,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public Subject getOrCreateSubject(String name) {
         requireNonNull(name);
-        return subjectList.getOrAdd(name);
+        return subjectList.getOrCreateSubject(name);
     }
 
     //// util methods
@@ -337,37 +852,57 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Deletes all current students from the student list.
-     * Archived students are not affected.
+     * Archived students are not affected. Clearing an empty list does not count as a change.
      */
     public void clearCurrentStudents() {
+        if (persons.asUnmodifiableObservableList().isEmpty()) {
+            return;
+        }
         persons.setPersons(List.of());
+        markChanged(DataShard.PERSONS);
+        rebuildStudentIndexes();
     }
 
     /**
      * Deletes all lessons from the lesson list
      */
     public void clearLessons() {
+        if (lessonList.getInternalList().isEmpty()) {
+            return;
+        }
         lessonList.setLessons(List.of());
+        markChanged(DataShard.LESSONS);
     }
 
     /**
      * Deletes all subjects from the subject list
      */
     public void clearSubjects() {
+        if (subjectList.getInternalList().isEmpty()) {
+            return;
+        }
         subjectList.clear();
+        markChanged(DataShard.LESSONS);
     }
 
     @Override
     public ObservableList<Person> getArchivedPersonList() {
+        ensureArchiveLoaded();
         return archivedPersons.asUnmodifiableObservableList();
     }
 
     /**
      * Deletes all archived students from the student list.
-     * Current students are not affected.
+     * Current students are not affected. Clearing a loaded, empty archive does not count as a change.
      */
     public void clearArchivedStudents() {
+        if (isArchiveLoaded() && archivedPersons.asUnmodifiableObservableList().isEmpty()) {
+            return;
+        }
         archivedPersons.setPersons(List.of());
+        archiveLoader = null;
+        markChanged(DataShard.ARCHIVED_PERSONS);
+        rebuildStudentIndexes();
     }
 
     @Override
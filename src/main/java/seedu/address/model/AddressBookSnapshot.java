@@ -0,0 +1,232 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lesson.LessonList;
+import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+import seedu.address.model.subject.Subject;
+import seedu.address.model.subject.SubjectList;
+
+/**
+ * An immutable copy of an {@link AddressBook}, which can be read on any thread while commands keep changing the
+ * address book. Students and subjects change in place, so they are copied; persons and lessons are immutable and
+ * are shared.
+ *
+ * <p>A snapshot shares the copies of students and subjects that have not changed with the previous snapshot, so
+ * taking a snapshot after a command only copies what the command changed.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSnapshot.class);
+
+    private final ObservableList<Person> persons;
+    private final SubjectList subjectList;
+    private final LessonList lessonList;
+    private final long[] shardVersions = new long[DataShard.values().length];
+    private final long version;
+
+    /** Loads the archived persons on first access, or null if they were copied with the rest. */
+    private ArchiveLoader archiveLoader;
+    private ObservableList<Person> archivedPersons;
+
+    /** Copies of the live students and subjects, for the next snapshot to share. */
+    private final Map<Student, StudentCopy> studentCopies = new IdentityHashMap<>();
+    private final Map<Subject, Subject> subjectCopies = new IdentityHashMap<>();
+
+    private AddressBookSnapshot(AddressBook source, AddressBookSnapshot previous) {
+        version = source.getVersion();
+        for (DataShard shard : DataShard.values()) {
+            shardVersions[shard.ordinal()] = source.getShardVersion(shard);
+        }
+
+        Set<Subject> changedSubjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        subjectList = new SubjectList();
+        for (Subject subject : source.getSubjectList().getInternalList()) {
+            subjectList.addSubject(copyOf(subject, previous, changedSubjects));
+        }
+        lessonList = new LessonList();
+        lessonList.setLessons(source.getLessonList().getInternalList());
+
+        persons = copyOf(source.getPersonList(), previous, changedSubjects);
+        if (source.isArchiveLoaded()) {
+            archivedPersons = copyOf(source.getArchivedPersonList(), previous, changedSubjects);
+        } else {
+            archiveLoader = source.getArchiveLoader();
+            archivedPersons = FXCollections.emptyObservableList();
+        }
+    }
+
+    /**
+     * Returns a snapshot of {@code source}, sharing unchanged copies with {@code previous}, which may be null.
+     * {@code source} must not change while the snapshot is taken.
+     */
+    static AddressBookSnapshot of(AddressBook source, AddressBookSnapshot previous) {
+        requireNonNull(source);
+        return new AddressBookSnapshot(source, previous);
+    }
+
+    private Subject copyOf(Subject subject, AddressBookSnapshot previous, Set<Subject> changedSubjects) {
+        Subject copy = subjectCopies.get(subject);
+        if (copy != null) {
+            return copy;
+        }
+
+        Subject previousCopy = previous == null ? null : previous.subjectCopies.get(subject);
+        if (previousCopy != null && previousCopy.getLessons().getInternalList()
+                .equals(subject.getLessons().getInternalList())) {
+            copy = previousCopy;
+        } else {
+            copy = copySubject(subject);
+            changedSubjects.add(subject);
+        }
+        subjectCopies.put(subject, copy);
+        return copy;
+    }
+
+    private ObservableList<Person> copyOf(List<Person> livePersons, AddressBookSnapshot previous,
+            Set<Subject> changedSubjects) {
+        List<Person> copies = new ArrayList<>(livePersons.size());
+        for (Person person : livePersons) {
+            copies.add(person instanceof Student ? copyOf((Student) person, previous, changedSubjects) : person);
+        }
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(copies));
+    }
+
+    private Student copyOf(Student student, AddressBookSnapshot previous, Set<Subject> changedSubjects) {
+        int attendanceVersion = student.getAttendanceList().getModificationCount();
+        List<Subject> subjects = new ArrayList<>();
+        boolean isSubjectChanged = false;
+        for (Subject subject : student.getSubjects()) {
+            subjects.add(copyOf(subject, previous, changedSubjects));
+            isSubjectChanged |= changedSubjects.contains(subject);
+        }
+
+        StudentCopy previousCopy = previous == null ? null : previous.studentCopies.get(student);
+        StudentCopy copy;
+        if (previousCopy != null && !isSubjectChanged && previousCopy.attendanceVersion == attendanceVersion) {
+            copy = previousCopy;
+        } else {
+            copy = new StudentCopy(copyStudent(student, subjects), attendanceVersion);
+        }
+        studentCopies.put(student, copy);
+        return copy.student;
+    }
+
+    private static Subject copySubject(Subject subject) {
+        LessonList lessons = new LessonList(subject.getName());
+        lessons.setLessons(subject.getLessons().getInternalList());
+        return new Subject(subject.getName(), lessons);
+    }
+
+    private static Student copyStudent(Student student, List<Subject> subjects) {
+        Student copy = new Student(student.getName(), subjects, student.getStudentClass(),
+                student.getEmergencyContact(), student.getPaymentStatus(), student.getAssignmentStatus());
+        student.getAttendanceList().getRecords().forEach(record ->
+                copy.getAttendanceList().markAttendance(record.getLesson(), record.getStatus()));
+        return copy;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns the archived persons. If the archive had not been loaded when the snapshot was taken, it is loaded now
+     * and copied, without affecting the address book.
+     */
+    @Override
+    public synchronized ObservableList<Person> getArchivedPersonList() {
+        if (archiveLoader != null) {
+            try {
+                archivedPersons = copyLoaded(archiveLoader.load());
+            } catch (DataLoadingException e) {
+                logger.warning("Archived persons could not be loaded for a snapshot: " + StringUtil.getDetails(e));
+            }
+            archiveLoader = null;
+        }
+        return archivedPersons;
+    }
+
+    private static ObservableList<Person> copyLoaded(List<Person> loadedPersons) {
+        Map<String, Subject> subjectsByName = new HashMap<>();
+        List<Person> copies = new ArrayList<>(loadedPersons.size());
+        for (Person person : loadedPersons) {
+            if (!(person instanceof Student)) {
+                copies.add(person);
+                continue;
+            }
+
+            Student student = (Student) person;
+            List<Subject> subjects = new ArrayList<>();
+            for (Subject subject : student.getSubjects()) {
+                subjects.add(subjectsByName.computeIfAbsent(subject.getName(), unused -> copySubject(subject)));
+            }
+            copies.add(copyStudent(student, subjects));
+        }
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(copies));
+    }
+
+    @Override
+    public synchronized boolean isArchiveLoaded() {
+        return archiveLoader == null;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getShardVersion(DataShard shard) {
+        requireNonNull(shard);
+        return shardVersions[shard.ordinal()];
+    }
+
+    @Override
+    public SubjectList getSubjectList() {
+        return subjectList;
+    }
+
+    @Override
+    public LessonList getLessonList() {
+        return lessonList;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+
+    /**
+     * A copy of a student, and the attendance version of the live student it was copied at.
+     */
+    private static class StudentCopy {
+        private final Student student;
+        private final int attendanceVersion;
+
+        StudentCopy(Student student, int attendanceVersion) {
+            this.student = student;
+            this.attendanceVersion = attendanceVersion;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * Supplies the archived persons of an address book whose archive is loaded on first access, rather than with the
+ * rest of the data.
+ */
+@FunctionalInterface
+public interface ArchiveLoader {
+
+    /**
+     * Returns the archived persons, waiting for them to be read if necessary.
+     *
+     * @throws DataLoadingException if the archived persons could not be read.
+     */
+    List<Person> load() throws DataLoadingException;
+}
@@ -0,0 +1,16 @@
+package seedu.address.model;
+
+/**
+ * A part of an address book that changes independently of the others, so that storage can write only the parts a
+ * command changed.
+ */
+public enum DataShard {
+    /** The current persons, including their attendance. */
+    PERSONS,
+
+    /** The archived persons, including their attendance. */
+    ARCHIVED_PERSONS,
+
+    /** The lessons and subjects. */
+    LESSONS
+}
@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.attendance.AttendanceCounts;
+import seedu.address.model.attendance.AttendanceStatus;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentFilter;
 import seedu.address.model.subject.Subject;
 
 /**
@@ -58,6 +64,17 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the address book as it is now, which can be read on any thread and does not see
+     * later changes. The address book must not be changed while the snapshot is taken.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns why the archived students could not be loaded, if that happened since this was last called.
+     */
+    Optional<String> takeArchiveLoadError();
+
     /**
      * Returns true if a student with the same identity as {@code person} exists in the address book.
      */
@@ -159,6 +176,46 @@ public interface Model {
      */
     void updateFilteredArchivedPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns a predicate that is true for current persons whose name contains every one of {@code keywords} as a
+     * whole word, ignoring case. It looks persons up in an index rather than reading their names, so filtering a large
+     * list with it is fast, and it stays correct as the address book changes.
+     */
+    Predicate<Person> getPersonNameSearch(List<String> keywords);
+
+    /**
+     * Returns a predicate like {@link #getPersonNameSearch(List)} for archived persons.
+     */
+    Predicate<Person> getArchivedPersonNameSearch(List<String> keywords);
+
+    /**
+     * Returns a predicate that is true for current persons whose name has, for every one of {@code keywords}, a word
+     * that starts with the keyword or is within one or two typing mistakes of it, ignoring case. The persons are found
+     * from an index when this is called, so persons added afterwards do not match.
+     */
+    Predicate<Person> getPersonSimilarNameSearch(List<String> keywords);
+
+    /**
+     * Returns a predicate like {@link #getPersonSimilarNameSearch(List)} for archived persons.
+     */
+    Predicate<Person> getArchivedPersonSimilarNameSearch(List<String> keywords);
+
+    /**
+     * Returns the current person whose full name {@code name} is most likely a mistyping of, if any.
+     */
+    Optional<Person> getPersonWithSimilarName(Name name);
+
+    /**
+     * Returns a predicate that is true for the current students meeting the criteria of {@code filter}. The students
+     * are found when this is called, from an index where one applies, and students changed since are tested again.
+     */
+    Predicate<Person> getPersonFilter(StudentFilter filter);
+
+    /**
+     * Returns a predicate like {@link #getPersonFilter(StudentFilter)} for archived students.
+     */
+    Predicate<Person> getArchivedPersonFilter(StudentFilter filter);
+
     /**
      * Returns true if a lesson with the same identity as {@code lesson} exists in the list.
      */
@@ -217,4 +274,20 @@ public interface Model {
     // /* Returns subject if it exist*/
     Optional<Subject> findSubjectByName(String name);
 
+    /**
+     * Marks the attendance of {@code student} for {@code lesson} as {@code status}.
+     * {@code student} must exist in the address book.
+     */
+    void markAttendance(Student student, Lesson lesson, AttendanceStatus status);
+
+    /**
+     * Returns the combined attendance counts of all current students for the subject named {@code subjectName}.
+     */
+    AttendanceCounts getAttendanceCountsForSubject(String subjectName);
+
+    /**
+     * Returns the combined attendance counts of all current students in the class named {@code studentClass}.
+     */
+    AttendanceCounts getAttendanceCountsForClass(String studentClass);
+
 }
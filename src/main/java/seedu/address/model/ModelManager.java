@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -12,10 +13,14 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.attendance.AttendanceCounts;
+import seedu.address.model.attendance.AttendanceStatus;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentFilter;
 import seedu.address.model.subject.Subject;
 import seedu.address.model.subject.SubjectList;
 
@@ -32,12 +37,15 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Person> filteredArchivedPersons;
+    private FilteredList<Person> filteredArchivedPersons;
     private final FilteredList<Lesson> filteredLessons;
     private final LessonList lessonList;
     private final SubjectList subjectList;
     private boolean isViewingArchived = false;
 
+    /** The latest snapshot of the address book, shared by callers until the address book changes. */
+    private AddressBookSnapshot snapshot;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -51,7 +59,6 @@ public class ModelManager implements Model {
         this.lessonList = this.addressBook.getLessonList();
         this.subjectList = this.addressBook.getSubjectList();
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredArchivedPersons = new FilteredList<>(this.addressBook.getArchivedPersonList());
         filteredLessons = new FilteredList<>(this.lessonList.asObservableList());
     }
 
@@ -106,6 +113,19 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public synchronized ReadOnlyAddressBook getAddressBookSnapshot() {
+        if (snapshot == null || snapshot.getVersion() != addressBook.getVersion()) {
+            snapshot = AddressBookSnapshot.of(addressBook, snapshot);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public Optional<String> takeArchiveLoadError() {
+        return addressBook.takeArchiveLoadError();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -151,17 +171,13 @@ public class ModelManager implements Model {
     @Override
     public boolean hasSameStudentInCurrent(Person toAdd) {
         requireNonNull(toAdd);
-        return addressBook.getPersonList().stream()
-                .filter(existing -> existing instanceof Student)
-                .anyMatch(existing -> ((Student) existing).isSameStudent((Student) toAdd));
+        return addressBook.hasSameStudent(toAdd);
     }
 
     @Override
     public boolean hasSameStudentInArchive(Person toAdd) {
         requireNonNull(toAdd);
-        return addressBook.getArchivedPersonList().stream()
-                .filter(existing -> existing instanceof Student)
-                .anyMatch(existing -> ((Student) existing).isSameStudent((Student) toAdd));
+        return addressBook.hasSameArchivedStudent(toAdd);
     }
 
     @Override
@@ -239,13 +255,66 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredArchivedPersonList() {
-        return filteredArchivedPersons;
+        return getOrCreateFilteredArchivedPersons();
     }
 
     @Override
     public void updateFilteredArchivedPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredArchivedPersons.setPredicate(predicate);
+        getOrCreateFilteredArchivedPersons().setPredicate(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getPersonNameSearch(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonNameSearch(keywords);
+    }
+
+    @Override
+    public Predicate<Person> getArchivedPersonNameSearch(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getArchivedPersonNameSearch(keywords);
+    }
+
+    @Override
+    public Predicate<Person> getPersonSimilarNameSearch(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonSimilarNameSearch(keywords);
+    }
+
+    @Override
+    public Predicate<Person> getArchivedPersonSimilarNameSearch(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getArchivedPersonSimilarNameSearch(keywords);
+    }
+
+    @Override
+    public Optional<Person> getPersonWithSimilarName(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonWithSimilarName(name);
+    }
+
+    @Override
+    public Predicate<Person> getPersonFilter(StudentFilter filter) {
+        requireNonNull(filter);
+        return addressBook.getPersonFilter(filter);
+    }
+
+    @Override
+    public Predicate<Person> getArchivedPersonFilter(StudentFilter filter) {
+        requireNonNull(filter);
+        return addressBook.getArchivedPersonFilter(filter);
+    }
+
+    /**
+     * Returns the filtered archived list, creating it on first use so that a deferred archive is only loaded once
+     * archived persons are needed.
+     */
+    private FilteredList<Person> getOrCreateFilteredArchivedPersons() {
+        if (filteredArchivedPersons == null) {
+            filteredArchivedPersons = new FilteredList<>(addressBook.getArchivedPersonList());
+        }
+        return filteredArchivedPersons;
     }
 
     //=========== Lesson List Methods =============================================================
@@ -333,8 +402,24 @@ public class ModelManager implements Model {
     @Override
     public Optional<Subject> findSubjectByName(String name) {
         requireNonNull(name);
-        return subjectList.getSubjects().stream()
-                .filter(s -> s.getName().equalsIgnoreCase(name))
-                .findFirst();
+        return subjectList.getSubject(name);
+    }
+
+    @Override
+    public void markAttendance(Student student, Lesson lesson, AttendanceStatus status) {
+        requireAllNonNull(student, lesson, status);
+        addressBook.markAttendance(student, lesson, status);
+    }
+
+    @Override
+    public AttendanceCounts getAttendanceCountsForSubject(String subjectName) {
+        requireNonNull(subjectName);
+        return addressBook.getAttendanceCountsForSubject(subjectName);
+    }
+
+    @Override
+    public AttendanceCounts getAttendanceCountsForClass(String studentClass) {
+        requireNonNull(studentClass);
+        return addressBook.getAttendanceCountsForClass(studentClass);
     }
 }
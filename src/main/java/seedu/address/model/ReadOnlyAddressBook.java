@@ -18,9 +18,33 @@ public interface ReadOnlyAddressBook {
 
     /**
      * Returns an unmodifiable view of the archived persons list.
+     * If the archive has not been loaded yet, it is loaded first.
      */
     ObservableList<Person> getArchivedPersonList();
 
+    /**
+     * Returns true if the archived persons are in memory, and false while their loading is deferred.
+     */
+    default boolean isArchiveLoaded() {
+        return true;
+    }
+
+    /**
+     * Returns a number that changes whenever any data in the address book changes, so that callers can tell whether
+     * it needs to be saved.
+     */
+    default long getVersion() {
+        return 0;
+    }
+
+    /**
+     * Returns a number that changes whenever the data in {@code shard} changes, so that storage can tell which parts
+     * of the address book need to be written again.
+     */
+    default long getShardVersion(DataShard shard) {
+        return 0;
+    }
+
     SubjectList getSubjectList();
 
     /**
@@ -0,0 +1,106 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tallies attendance records by {@code AttendanceStatus}.
+ * Counts are maintained incrementally by {@code AttendanceList}, so totals and rates can be read in constant time.
+ * Instances handed out by {@code AttendanceList} are read-only outside this package.
+ */
+public class AttendanceCounts {
+
+    private final Map<AttendanceStatus, Integer> counts = new EnumMap<>(AttendanceStatus.class);
+    private int total;
+
+    /**
+     * Creates an empty tally.
+     */
+    public AttendanceCounts() {
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            counts.put(status, 0);
+        }
+    }
+
+    /**
+     * Creates a tally with the same counts as {@code toBeCopied}.
+     */
+    public AttendanceCounts(AttendanceCounts toBeCopied) {
+        this();
+        add(toBeCopied);
+    }
+
+    void increment(AttendanceStatus status) {
+        counts.merge(status, 1, Integer::sum);
+        total++;
+    }
+
+    void decrement(AttendanceStatus status) {
+        assert counts.get(status) > 0 : "Attendance count cannot become negative";
+        counts.merge(status, -1, Integer::sum);
+        total--;
+    }
+
+    /**
+     * Adds the counts in {@code other} to this tally.
+     */
+    public void add(AttendanceCounts other) {
+        requireNonNull(other);
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            counts.merge(status, other.getCount(status), Integer::sum);
+        }
+        total += other.total;
+    }
+
+    /**
+     * Returns the number of records with the given {@code status}.
+     */
+    public int getCount(AttendanceStatus status) {
+        requireNonNull(status);
+        return counts.get(status);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the fraction of records that are {@code PRESENT}, or 0 if there are no records.
+     */
+    public double getAttendanceRate() {
+        if (total == 0) {
+            return 0.0;
+        }
+        return (double) counts.get(AttendanceStatus.PRESENT) / total;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AttendanceCounts)) {
+            return false;
+        }
+
+        AttendanceCounts otherCounts = (AttendanceCounts) other;
+        return counts.equals(otherCounts.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return counts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(this);
+        counts.forEach((status, count) -> builder.add(status.name(), count));
+        return builder.toString();
+    }
+}
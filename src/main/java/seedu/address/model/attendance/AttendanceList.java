@@ -1,10 +1,17 @@
 package seedu.address.model.attendance;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 import seedu.address.model.lesson.Lesson;
 
@@ -14,17 +21,30 @@ import seedu.address.model.lesson.Lesson;
  *
  * AttendanceList provides methods to mark attendance, retrieve records,
  * calculate attendance rate, and handle updates for lessons.
+ *
+ * Records are keyed by {@code Lesson} in insertion order, and additionally grouped by case-folded subject name so
+ * that per-subject queries do not have to visit every record. Per-status counts, overall and per subject, are kept
+ * up to date on every change so that attendance rates do not need a pass over the records.
  */
 public class AttendanceList {
 
-    // Each student’s attendance records
-    private final List<AttendanceRecord> studentAttendance;
+    // Each student’s attendance records, in the order they were first marked
+    private final Map<Lesson, AttendanceRecord> studentAttendance;
+    private final Map<String, Map<Lesson, AttendanceRecord>> attendanceBySubject;
+    private final Collection<AttendanceRecord> unmodifiableRecords;
+    private final AttendanceCounts counts;
+    private final Map<String, AttendanceCounts> countsBySubject;
+    private int modificationCount;
 
     /**
      * Creates a new AttendanceList for a student.
      */
     public AttendanceList() {
-        this.studentAttendance = new ArrayList<>();
+        this.studentAttendance = new LinkedHashMap<>();
+        this.attendanceBySubject = new LinkedHashMap<>();
+        this.unmodifiableRecords = Collections.unmodifiableCollection(studentAttendance.values());
+        this.counts = new AttendanceCounts();
+        this.countsBySubject = new HashMap<>();
     }
 
     /**
@@ -38,28 +58,132 @@ public class AttendanceList {
     public void markAttendance(Lesson lesson, AttendanceStatus status) {
         requireAllNonNull(lesson, status);
 
-        AttendanceRecord newRecord = new AttendanceRecord(lesson, status);
+        String subjectKey = toSubjectKey(lesson.getSubject());
+        AttendanceCounts subjectCounts = countsBySubject.computeIfAbsent(subjectKey, k -> new AttendanceCounts());
+        AttendanceRecord existing = studentAttendance.get(lesson);
+        if (existing != null) {
+            counts.decrement(existing.getStatus());
+            subjectCounts.decrement(existing.getStatus());
+            existing.setStatus(status);
+        } else {
+            AttendanceRecord newRecord = new AttendanceRecord(lesson, status);
+            studentAttendance.put(lesson, newRecord);
+            attendanceBySubject.computeIfAbsent(subjectKey, k -> new LinkedHashMap<>()).put(lesson, newRecord);
+        }
+        counts.increment(status);
+        subjectCounts.increment(status);
+        modificationCount++;
+    }
 
-        // Check if an existing record for the same lesson exists
-        for (AttendanceRecord record : studentAttendance) {
-            if (record.equals(newRecord)) {
-                record.setStatus(status);
-                System.out.println("Updated existing attendance record for lesson: " + lesson);
-                return;
-            }
+    /**
+     * Removes the attendance record for {@code lesson}, if there is one.
+     *
+     * @return true if a record was removed
+     */
+    public boolean removeAttendance(Lesson lesson) {
+        requireNonNull(lesson);
+        AttendanceRecord removed = studentAttendance.remove(lesson);
+        if (removed == null) {
+            return false;
         }
 
-        // Otherwise, add a new attendance record
-        studentAttendance.add(newRecord);
-        System.out.println("Added new attendance record for lesson: " + lesson);
+        String subjectKey = toSubjectKey(lesson.getSubject());
+        Map<Lesson, AttendanceRecord> subjectRecords = attendanceBySubject.get(subjectKey);
+        subjectRecords.remove(lesson);
+        if (subjectRecords.isEmpty()) {
+            attendanceBySubject.remove(subjectKey);
+            countsBySubject.remove(subjectKey);
+        } else {
+            countsBySubject.get(subjectKey).decrement(removed.getStatus());
+        }
+        counts.decrement(removed.getStatus());
+        modificationCount++;
+        return true;
     }
 
     /**
-     * Returns the list of attendance records for this student.
+     * Returns a snapshot of the attendance records for this student, in the order they were first marked.
+     * Prefer {@link #getRecords()} when a read-only view is sufficient.
      */
     public List<AttendanceRecord> getStudentAttendance() {
-        System.out.println("Returned student attendance!");
-        return List.copyOf(studentAttendance);
+        return List.copyOf(studentAttendance.values());
+    }
+
+    /**
+     * Returns an unmodifiable view of all attendance records, in the order they were first marked.
+     * The view reflects later changes to this list.
+     */
+    public Collection<AttendanceRecord> getRecords() {
+        return unmodifiableRecords;
+    }
+
+    /**
+     * Returns an unmodifiable view of the attendance records for lessons of the subject named {@code subjectName},
+     * ignoring case. The records are in the order they were first marked.
+     */
+    public Collection<AttendanceRecord> getRecordsForSubject(String subjectName) {
+        requireNonNull(subjectName);
+        Map<Lesson, AttendanceRecord> records = attendanceBySubject.get(toSubjectKey(subjectName));
+        return records == null ? List.of() : Collections.unmodifiableCollection(records.values());
+    }
+
+    /**
+     * Returns the attendance record for {@code lesson}, if one has been marked.
+     */
+    public Optional<AttendanceRecord> getRecord(Lesson lesson) {
+        requireNonNull(lesson);
+        return Optional.ofNullable(studentAttendance.get(lesson));
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * Callers can compare it with an earlier value to tell whether the records have changed since then.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the number of attendance records.
+     */
+    public int size() {
+        return studentAttendance.size();
+    }
+
+    /**
+     * Returns a copy of the per-status counts over all of this student's records.
+     */
+    public AttendanceCounts getCounts() {
+        return new AttendanceCounts(counts);
+    }
+
+    /**
+     * Returns a copy of the per-status counts over this student's records for the subject named {@code subjectName},
+     * ignoring case.
+     */
+    public AttendanceCounts getCountsForSubject(String subjectName) {
+        requireNonNull(subjectName);
+        AttendanceCounts subjectCounts = countsBySubject.get(toSubjectKey(subjectName));
+        return subjectCounts == null ? new AttendanceCounts() : new AttendanceCounts(subjectCounts);
+    }
+
+    /**
+     * Adds this student's counts for the subject named {@code subjectName} to {@code total}, without copying.
+     */
+    public void addCountsForSubjectTo(String subjectName, AttendanceCounts total) {
+        requireAllNonNull(subjectName, total);
+        AttendanceCounts subjectCounts = countsBySubject.get(toSubjectKey(subjectName));
+        if (subjectCounts != null) {
+            total.add(subjectCounts);
+        }
+    }
+
+    /**
+     * Adds this student's overall counts to {@code total}, without copying.
+     */
+    public void addCountsTo(AttendanceCounts total) {
+        requireNonNull(total);
+        total.add(counts);
     }
 
     /**
@@ -68,19 +192,26 @@ public class AttendanceList {
      * @return the fraction of lessons attended (PRESENT / total)
      */
     public double getAttendanceRate() {
-        if (studentAttendance.isEmpty()) {
-            return 0.0;
-        }
+        return counts.getAttendanceRate();
+    }
 
-        long presentCount = studentAttendance.stream()
-                .filter(r -> r.getStatus() == AttendanceStatus.PRESENT)
-                .count();
+    /**
+     * Calculates the attendance rate for the student in the subject named {@code subjectName}, ignoring case.
+     *
+     * @return the fraction of that subject's lessons attended (PRESENT / total)
+     */
+    public double getAttendanceRate(String subjectName) {
+        requireNonNull(subjectName);
+        AttendanceCounts subjectCounts = countsBySubject.get(toSubjectKey(subjectName));
+        return subjectCounts == null ? 0.0 : subjectCounts.getAttendanceRate();
+    }
 
-        return (double) presentCount / studentAttendance.size();
+    private static String toSubjectKey(String subjectName) {
+        return subjectName.trim().toLowerCase(Locale.ROOT);
     }
 
     /**
-     * Returns true if both attendance lists contain the same data.
+     * Returns true if both attendance lists contain the same data, in the same order.
      */
     @Override
     public boolean equals(Object other) {
@@ -93,7 +224,16 @@ public class AttendanceList {
         }
 
         AttendanceList otherList = (AttendanceList) other;
-        return studentAttendance.equals(otherList.studentAttendance);
+        if (studentAttendance.size() != otherList.studentAttendance.size()) {
+            return false;
+        }
+        Iterator<AttendanceRecord> otherRecords = otherList.studentAttendance.values().iterator();
+        for (AttendanceRecord record : studentAttendance.values()) {
+            if (!record.equals(otherRecords.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -101,7 +241,11 @@ public class AttendanceList {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(studentAttendance);
+        int hashCode = 1;
+        for (AttendanceRecord record : studentAttendance.values()) {
+            hashCode = 31 * hashCode + record.hashCode();
+        }
+        return 31 + hashCode;
     }
 
     /**
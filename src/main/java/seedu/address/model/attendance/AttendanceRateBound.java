@@ -0,0 +1,122 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a bound on the attendance rate of a student, such as {@code <0.75}.
+ * Guarantees: immutable; is valid as declared in {@link #isValidBound(String)}
+ */
+public class AttendanceRateBound {
+
+    public static final String MESSAGE_CONSTRAINTS = "An attendance rate bound should be one of <, <=, > or >= "
+            + "followed by a rate from 0 to 1, e.g. <0.75";
+
+    /*
+     * The longer symbols come first, so that "<=0.5" is not read as "<" followed by "=0.5".
+     */
+    public static final String VALIDATION_REGEX = "(<=|>=|<|>)\\s*(\\d*\\.?\\d+)";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /**
+     * How a rate is compared with the bound.
+     */
+    private enum Comparison {
+        LESS_THAN("<"),
+        AT_MOST("<="),
+        GREATER_THAN(">"),
+        AT_LEAST(">=");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        private static Comparison fromSymbol(String symbol) {
+            for (Comparison comparison : values()) {
+                if (comparison.symbol.equals(symbol)) {
+                    return comparison;
+                }
+            }
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+
+        private boolean compare(double rate, double bound) {
+            switch (this) {
+            case LESS_THAN:
+                return rate < bound;
+            case AT_MOST:
+                return rate <= bound;
+            case GREATER_THAN:
+                return rate > bound;
+            default:
+                return rate >= bound;
+            }
+        }
+    }
+
+    private final Comparison comparison;
+    private final double rate;
+
+    /**
+     * Constructs an {@code AttendanceRateBound}.
+     *
+     * @param bound A valid attendance rate bound.
+     */
+    public AttendanceRateBound(String bound) {
+        requireNonNull(bound);
+        checkArgument(isValidBound(bound), MESSAGE_CONSTRAINTS);
+        Matcher matcher = VALIDATION_PATTERN.matcher(bound);
+        matcher.matches();
+        comparison = Comparison.fromSymbol(matcher.group(1));
+        rate = Double.parseDouble(matcher.group(2));
+    }
+
+    /**
+     * Returns true if a given string is a valid attendance rate bound.
+     */
+    public static boolean isValidBound(String test) {
+        Matcher matcher = VALIDATION_PATTERN.matcher(test);
+        return matcher.matches() && Double.parseDouble(matcher.group(2)) <= 1;
+    }
+
+    /**
+     * Returns true if the attendance rate of {@code counts} is within this bound. Counts of no records have no rate,
+     * so they are never within a bound.
+     */
+    public boolean isSatisfiedBy(AttendanceCounts counts) {
+        requireNonNull(counts);
+        return counts.getTotal() > 0 && comparison.compare(counts.getAttendanceRate(), rate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceRateBound)) {
+            return false;
+        }
+
+        AttendanceRateBound otherBound = (AttendanceRateBound) other;
+        return comparison == otherBound.comparison && Double.compare(rate, otherBound.rate) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(comparison, rate);
+    }
+
+    @Override
+    public String toString() {
+        return comparison.symbol + rate;
+    }
+}
@@ -37,9 +37,10 @@ public class AttendanceRecord {
     }
 
     /**
-     * Sets the status of this attendance record
+     * Sets the status of this attendance record.
+     * Only {@code AttendanceList} may change a status, so that its counts stay in step.
      */
-    public void setStatus(AttendanceStatus status) {
+    void setStatus(AttendanceStatus status) {
         this.status = status;
     }
 
@@ -16,7 +16,7 @@ public class Lesson {
 
     private final String name;
     private final String subject;
-    private AttendanceStatus attendanceStatus;
+    private final AttendanceStatus attendanceStatus;
 
     /**
      * Creates a Lesson object.
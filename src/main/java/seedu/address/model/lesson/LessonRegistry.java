@@ -0,0 +1,53 @@
+package seedu.address.model.lesson;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import seedu.address.model.attendance.AttendanceStatus;
+
+/**
+ * Interns {@code Lesson}s so that every reference to the same (subject, lesson name) pair is the same object.
+ * Storage, parsers and the address book obtain their lessons here, so a lesson shared by many students' attendance
+ * records is held in memory once.
+ *
+ * Entries are weakly held and disappear once no part of the model refers to the lesson any more.
+ * Canonical lessons always carry the default attendance status.
+ */
+public final class LessonRegistry {
+
+    private static final Map<Lesson, WeakReference<Lesson>> canonicalLessons = new WeakHashMap<>();
+
+    private LessonRegistry() {}
+
+    /**
+     * Returns the canonical lesson named {@code name} in the subject {@code subject}, creating it if necessary.
+     * Both names are trimmed, as in {@link Lesson#Lesson(String, String)}.
+     */
+    public static Lesson intern(String name, String subject) {
+        requireAllNonNull(name, subject);
+        return intern(new Lesson(name, subject));
+    }
+
+    /**
+     * Returns the canonical lesson equal to {@code lesson}.
+     * If there is none yet, {@code lesson} becomes the canonical instance, unless it carries a non-default
+     * attendance status, in which case a default copy is registered instead.
+     */
+    public static synchronized Lesson intern(Lesson lesson) {
+        requireAllNonNull(lesson);
+        WeakReference<Lesson> reference = canonicalLessons.get(lesson);
+        Lesson canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        canonical = lesson.getAttendanceStatus() == AttendanceStatus.ABSENT
+                ? lesson
+                : new Lesson(lesson.getName(), lesson.getSubject());
+        canonicalLessons.put(canonical, new WeakReference<>(canonical));
+        return canonical;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from trigrams (three-letter sequences) to the case-folded name words containing them, for finding the
+ * words that a mistyped or partly typed word could have been meant as. Names share words, so there are far fewer
+ * words to look through than persons.
+ *
+ * <p>A search first takes as candidates the words sharing enough trigrams with what was typed: a word within
+ * {@code d} edits of it shares all but at most {@code 4d} of its trigrams. Candidates are then confirmed with a
+ * bounded edit distance, which counts swapping two adjacent letters as one edit, so that "jonh" is one edit from
+ * "john". When so few trigrams must be shared that none need be, every word is a candidate.
+ */
+class NameTrigramIndex {
+
+    /** Words are padded so that their first and last letters form trigrams of their own. */
+    private static final String WORD_START = "  ";
+    private static final String WORD_END = " ";
+
+    /** The most trigrams that a single edit can remove: those overlapping the two letters of a swap. */
+    private static final int MAX_TRIGRAMS_PER_EDIT = 4;
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Set<String> words = new HashSet<>();
+
+    /**
+     * Adds the case-folded {@code word} to the index.
+     */
+    void addWord(String word) {
+        requireNonNull(word);
+        if (!words.add(word)) {
+            return;
+        }
+        for (String trigram : toTrigrams(WORD_START + word + WORD_END)) {
+            wordsByTrigram.computeIfAbsent(trigram, k -> new HashSet<>(2)).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index.
+     */
+    void removeWord(String word) {
+        requireNonNull(word);
+        if (!words.remove(word)) {
+            return;
+        }
+        for (String trigram : toTrigrams(WORD_START + word + WORD_END)) {
+            Set<String> wordsWithTrigram = wordsByTrigram.get(trigram);
+            if (wordsWithTrigram != null && wordsWithTrigram.remove(word) && wordsWithTrigram.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    void clear() {
+        wordsByTrigram.clear();
+        words.clear();
+    }
+
+    /**
+     * Returns the indexed words that start with the case-folded {@code prefix}.
+     */
+    Set<String> findWordsStartingWith(String prefix) {
+        requireNonNull(prefix);
+        // Words starting with the prefix have every trigram of the padded prefix, so the rarest holds them all
+        Set<String> candidates = words;
+        for (String trigram : toTrigrams(WORD_START + prefix)) {
+            Set<String> wordsWithTrigram = wordsByTrigram.getOrDefault(trigram, Set.of());
+            if (wordsWithTrigram.size() < candidates.size()) {
+                candidates = wordsWithTrigram;
+            }
+        }
+
+        Set<String> found = new HashSet<>();
+        for (String candidate : candidates) {
+            if (candidate.startsWith(prefix)) {
+                found.add(candidate);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the indexed words within {@code maxEdits} edits of the case-folded {@code word}.
+     */
+    Set<String> findSimilarWords(String word, int maxEdits) {
+        requireNonNull(word);
+        Set<String> trigrams = new HashSet<>(toTrigrams(WORD_START + word + WORD_END));
+        int minSharedTrigrams = trigrams.size() - MAX_TRIGRAMS_PER_EDIT * maxEdits;
+
+        Set<String> candidates = words;
+        if (minSharedTrigrams > 0) {
+            Map<String, int[]> sharedTrigrams = new HashMap<>();
+            for (String trigram : trigrams) {
+                for (String candidate : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                    sharedTrigrams.computeIfAbsent(candidate, unused -> new int[1])[0]++;
+                }
+            }
+            sharedTrigrams.values().removeIf(count -> count[0] < minSharedTrigrams);
+            candidates = sharedTrigrams.keySet();
+        }
+
+        Set<String> found = new HashSet<>();
+        for (String candidate : candidates) {
+            if (getDistance(word, candidate, maxEdits) <= maxEdits) {
+                found.add(candidate);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of edits allowed between a typed string of {@code length} letters and a name: none for one
+     * or two letters, one for up to five, and two beyond that.
+     */
+    static int getMaxEdits(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and swaps of adjacent letters that turn {@code first}
+     * into {@code second}, or {@code maxDistance + 1} if it is more than {@code maxDistance}.
+     */
+    static int getDistance(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1),
+                        previous[j - 1] + substitutionCost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[second.length()], maxDistance + 1);
+    }
+
+    private static List<String> toTrigrams(String paddedWord) {
+        List<String> trigrams = new ArrayList<>(paddedWord.length());
+        for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -3,8 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +31,15 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity lookups are served by a hash index keyed on the case-folded full name, which is kept in step with the
+ * backing {@code ObservableList}. Only the (usually single) persons sharing that key are compared with
+ * {@code isSamePerson}, so membership checks no longer scan the whole list.
+ *
+ * Name searches are served by a second index from each case-folded word of a name to the persons whose name contains
+ * it, and searches tolerant of typing mistakes by a third from the trigrams of those words (see
+ * {@link NameTrigramIndex}). All indexes are updated before the backing list, so that listeners of the list see them
+ * up to date.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +47,26 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, List<Person>> identityIndex = new HashMap<>();
+    private final Map<String, Set<Person>> nameWordIndex = new HashMap<>();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return getPersonsWithSameName(toCheck.getName()).stream().anyMatch(toCheck::isSamePerson);
+    }
+
+    /**
+     * Returns the persons in the list whose full name matches {@code name}, ignoring case.
+     * The returned list is empty if there are no such persons.
+     */
+    public List<Person> getPersonsWithSameName(Name name) {
+        requireNonNull(name);
+        List<Person> matches = identityIndex.get(toIdentityKey(name));
+        return matches == null ? List.of() : Collections.unmodifiableList(matches);
     }
 
     /**
@@ -45,6 +78,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
@@ -52,8 +86,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person instance that was replaced.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
         int index = internalList.indexOf(target);
@@ -65,18 +101,22 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person replaced = internalList.get(index);
+        unindex(replaced);
+        index(editedPerson);
         internalList.set(index, editedPerson);
+        return replaced;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the person instance that was removed.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        return removeEquivalent(toRemove);
     }
 
     /**
@@ -86,9 +126,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void archive(Person toArchive) {
         requireNonNull(toArchive);
-        if (!internalList.remove(toArchive)) {
-            throw new PersonNotFoundException();
-        }
+        removeEquivalent(toArchive);
     }
 
     /**
@@ -97,6 +135,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -110,9 +149,90 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndex(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns a predicate that is true for the persons in this list whose name contains every one of {@code keywords}
+     * as a whole word, ignoring case. It looks persons up in the name word index, rather than reading their names,
+     * and stays correct as the list changes.
+     */
+    public Predicate<Person> getNameSearch(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        // Look in the smallest set of persons first, so that most persons are ruled out by a single lookup
+        String[] words = keywords.stream()
+                .map(UniquePersonList::toWordKey)
+                .distinct()
+                .sorted(Comparator.comparingInt(word -> nameWordIndex.getOrDefault(word, Set.of()).size()))
+                .toArray(String[]::new);
+        return person -> {
+            for (String word : words) {
+                Set<Person> personsWithWord = nameWordIndex.get(word);
+                if (personsWithWord == null || !personsWithWord.contains(person)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in this list whose name has, for every one of {@code keywords},
+     * a word that starts with the keyword or is a near miss of it, ignoring case; see {@link NameTrigramIndex}. The
+     * similar words are found when this is called, and persons are then looked up in the name word index as
+     * {@link #getNameSearch(Collection)} does, so edited and added persons match as long as their names use words
+     * that were in the list at the time.
+     */
+    public Predicate<Person> getSimilarNameSearch(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        List<Set<String>> similarWords = new ArrayList<>();
+        for (String keyword : keywords.stream().map(UniquePersonList::toWordKey).distinct().toList()) {
+            int maxEdits = NameTrigramIndex.getMaxEdits(keyword.length());
+            Set<String> words = nameTrigramIndex.findSimilarWords(keyword, maxEdits);
+            words.addAll(nameTrigramIndex.findWordsStartingWith(keyword));
+            similarWords.add(words);
+        }
+        if (similarWords.isEmpty()) {
+            return person -> false;
+        }
+        return person -> similarWords.stream().allMatch(words -> words.stream().anyMatch(word -> {
+            Set<Person> personsWithWord = nameWordIndex.get(word);
+            return personsWithWord != null && personsWithWord.contains(person);
+        }));
+    }
+
+    /**
+     * Returns the person in this list whose full name is the nearest miss of {@code name}, ignoring case, if any is
+     * near enough to be a mistyping of it; see {@link NameTrigramIndex}. Of persons equally near, the first in
+     * alphabetical order is returned.
+     */
+    public Optional<Person> getPersonWithSimilarName(Name name) {
+        requireNonNull(name);
+        String typedName = String.join(" ", toNameWords(name));
+        int maxEdits = NameTrigramIndex.getMaxEdits(typedName.length());
+
+        // Unless the edits split or join words, a name that near has a word that near to each typed word
+        List<Set<String>> similarWords = new ArrayList<>();
+        for (String word : toNameWords(name)) {
+            similarWords.add(nameTrigramIndex.findSimilarWords(word, maxEdits));
+        }
+
+        Person closest = null;
+        int closestDistance = maxEdits + 1;
+        for (Person candidate : getPersonsWithWordsFrom(similarWords)) {
+            String candidateName = String.join(" ", toNameWords(candidate.getName()));
+            int distance = NameTrigramIndex.getDistance(typedName, candidateName, maxEdits);
+            boolean isCloser = distance < closestDistance || distance == closestDistance && closest != null
+                    && candidate.getName().fullName.compareTo(closest.getName().fullName) < 0;
+            if (isCloser) {
+                closest = candidate;
+                closestDistance = distance;
+            }
+        }
+        return Optional.ofNullable(closest);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -122,7 +242,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -154,13 +274,128 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Map<String, List<Person>> seen = new HashMap<>();
+        for (Person person : persons) {
+            List<Person> sameName = seen.computeIfAbsent(toIdentityKey(person.getName()), k -> new ArrayList<>(1));
+            if (sameName.stream().anyMatch(person::isSamePerson)) {
+                return false;
             }
+            sameName.add(person);
         }
         return true;
     }
+
+    /**
+     * Removes the first person equal to {@code toRemove} from the list and the identity index.
+     */
+    private Person removeEquivalent(Person toRemove) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        Person removed = internalList.remove(index);
+        unindex(removed);
+        return removed;
+    }
+
+    private void index(Person person) {
+        identityIndex.computeIfAbsent(toIdentityKey(person.getName()), k -> new ArrayList<>(1)).add(person);
+        for (String word : toNameWords(person.getName())) {
+            nameWordIndex.computeIfAbsent(word, k -> {
+                nameTrigramIndex.addWord(word);
+                return Collections.newSetFromMap(new IdentityHashMap<>(1));
+            }).add(person);
+        }
+    }
+
+    private void unindex(Person person) {
+        for (String word : toNameWords(person.getName())) {
+            Set<Person> personsWithWord = nameWordIndex.get(word);
+            if (personsWithWord != null && personsWithWord.remove(person) && personsWithWord.isEmpty()) {
+                nameWordIndex.remove(word);
+                nameTrigramIndex.removeWord(word);
+            }
+        }
+
+        String key = toIdentityKey(person.getName());
+        List<Person> sameName = identityIndex.get(key);
+        if (sameName == null) {
+            return;
+        }
+        sameName.removeIf(indexed -> indexed == person);
+        if (sameName.isEmpty()) {
+            identityIndex.remove(key);
+        }
+    }
+
+    /**
+     * Returns the persons whose name has a word from each of {@code wordSets}.
+     */
+    private Set<Person> getPersonsWithWordsFrom(List<Set<String>> wordSets) {
+        if (wordSets.isEmpty()) {
+            return Set.of();
+        }
+        // Gather the persons with the fewest matching words, then check only those against the other sets
+        List<Set<String>> bySelectivity = new ArrayList<>(wordSets);
+        bySelectivity.sort(Comparator.comparingInt(this::countPersonsWithWords));
+
+        Set<Person> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : bySelectivity.get(0)) {
+            for (Person person : nameWordIndex.getOrDefault(word, Set.of())) {
+                if (hasWordsFromEach(person, bySelectivity)) {
+                    found.add(person);
+                }
+            }
+        }
+        return found;
+    }
+
+    private int countPersonsWithWords(Set<String> words) {
+        return words.stream().mapToInt(word -> nameWordIndex.getOrDefault(word, Set.of()).size()).sum();
+    }
+
+    private static boolean hasWordsFromEach(Person person, List<Set<String>> wordSets) {
+        List<String> nameWords = toNameWords(person.getName());
+        return wordSets.stream().allMatch(words -> nameWords.stream().anyMatch(words::contains));
+    }
+
+    private void rebuildIndex(List<Person> persons) {
+        identityIndex.clear();
+        nameWordIndex.clear();
+        nameTrigramIndex.clear();
+        persons.forEach(this::index);
+    }
+
+    private static String toIdentityKey(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT);
+    }
+
+    private static String toWordKey(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the case-folded words of {@code name}, which are separated by whitespace.
+     */
+    static List<String> toNameWords(Name name) {
+        return toNameWords(name.fullName);
+    }
+
+    /**
+     * Returns the case-folded words of {@code fullName}, which are separated by whitespace.
+     */
+    static List<String> toNameWords(String fullName) {
+        List<String> words = new ArrayList<>(3);
+        int wordStart = -1;
+        for (int i = 0; i <= fullName.length(); i++) {
+            boolean isSeparator = i == fullName.length() || Character.isWhitespace(fullName.charAt(i));
+            if (!isSeparator && wordStart == -1) {
+                wordStart = i;
+            } else if (isSeparator && wordStart != -1) {
+                words.add(toWordKey(fullName.substring(wordStart, i)));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
 }
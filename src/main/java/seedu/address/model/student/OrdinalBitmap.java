@@ -0,0 +1,420 @@
+package seedu.address.model.student;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative ints, laid out like a roaring bitmap. Ints are grouped into chunks by their high 16
+ * bits, and each chunk keeps their low 16 bits either as a sorted array, while it holds few of them, or as a bitmap
+ * of all 65536 bits once the array would take more space. Sparse sets thus take two bytes per member and dense ones
+ * about a bit per possible member, and intersections and unions go a chunk at a time, a word at a time where both
+ * chunks are bitmaps.
+ */
+final class OrdinalBitmap {
+
+    /** A chunk holding more ints than this is kept as a bitmap, which then takes less space than the array. */
+    static final int MAX_ARRAY_CARDINALITY = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int BITMAP_WORDS = (1 << CHUNK_BITS) / Long.SIZE;
+
+    /** The high bits of each chunk, in increasing order, followed by unused slots. */
+    private char[] keys = new char[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount;
+
+    /**
+     * Adds {@code value} to this set.
+     */
+    void add(int value) {
+        checkArgument(value >= 0, "Only non-negative ints can be added");
+        char key = (char) (value >>> CHUNK_BITS);
+        int i = Arrays.binarySearch(keys, 0, chunkCount, key);
+        if (i >= 0) {
+            chunks[i] = chunks[i].add((char) value);
+            return;
+        }
+
+        int insertAt = -i - 1;
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, chunkCount - insertAt);
+        System.arraycopy(chunks, insertAt, chunks, insertAt + 1, chunkCount - insertAt);
+        keys[insertAt] = key;
+        chunks[insertAt] = new ArrayChunk().add((char) value);
+        chunkCount++;
+    }
+
+    /**
+     * Removes {@code value} from this set, if it is there.
+     */
+    void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int i = Arrays.binarySearch(keys, 0, chunkCount, (char) (value >>> CHUNK_BITS));
+        if (i < 0) {
+            return;
+        }
+        chunks[i] = chunks[i].remove((char) value);
+        if (chunks[i].getCardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, chunkCount - i - 1);
+            System.arraycopy(chunks, i + 1, chunks, i, chunkCount - i - 1);
+            chunkCount--;
+            chunks[chunkCount] = null;
+        }
+    }
+
+    boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int i = Arrays.binarySearch(keys, 0, chunkCount, (char) (value >>> CHUNK_BITS));
+        return i >= 0 && chunks[i].contains((char) value);
+    }
+
+    boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Returns the number of ints in this set.
+     */
+    int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].getCardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns a new set of the ints in both this set and {@code other}.
+     */
+    OrdinalBitmap and(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Chunk intersection = chunks[i].and(other.chunks[j]);
+                if (intersection.getCardinality() > 0) {
+                    result.appendChunk(keys[i], intersection);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the ints in either this set or {@code other}.
+     */
+    OrdinalBitmap or(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], chunks[i].copy());
+                i++;
+            } else if (i == chunkCount || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Passes each int in this set to {@code action}, in increasing order.
+     */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << CHUNK_BITS, action);
+        }
+    }
+
+    /**
+     * Adds a chunk after all the chunks of this set. {@code key} must be greater than their keys.
+     */
+    private void appendChunk(char key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        keys[chunkCount] = key;
+        chunks[chunkCount] = chunk;
+        chunkCount++;
+    }
+
+    /**
+     * The low 16 bits of the ints in one chunk. Changes return the chunk to use from then on, which is of the other
+     * kind when the number of ints crosses {@link #MAX_ARRAY_CARDINALITY}.
+     */
+    private interface Chunk {
+        Chunk add(char low);
+
+        Chunk remove(char low);
+
+        boolean contains(char low);
+
+        int getCardinality();
+
+        Chunk and(Chunk other);
+
+        Chunk or(Chunk other);
+
+        Chunk copy();
+
+        void forEach(int base, IntConsumer action);
+    }
+
+    /**
+     * A chunk of few ints, kept as a sorted array.
+     */
+    private static final class ArrayChunk implements Chunk {
+        private char[] values;
+        private int cardinality;
+
+        ArrayChunk() {
+            this(new char[4], 0);
+        }
+
+        ArrayChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Chunk add(char low) {
+            int i = Arrays.binarySearch(values, 0, cardinality, low);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_CARDINALITY) {
+                return toBitmapChunk().add(low);
+            }
+
+            int insertAt = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(4, cardinality * 2), MAX_ARRAY_CARDINALITY));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+            values[insertAt] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Chunk remove(char low) {
+            int i = Arrays.binarySearch(values, 0, cardinality, low);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        public int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Chunk and(Chunk other) {
+            char[] result = new char[Math.min(cardinality, other.getCardinality())];
+            int count = 0;
+            if (other instanceof ArrayChunk) {
+                ArrayChunk otherArray = (ArrayChunk) other;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < otherArray.cardinality) {
+                    if (values[i] < otherArray.values[j]) {
+                        i++;
+                    } else if (values[i] > otherArray.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        public Chunk or(Chunk other) {
+            if (other instanceof BitmapChunk) {
+                return other.or(this);
+            }
+
+            ArrayChunk otherArray = (ArrayChunk) other;
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || (i < cardinality && values[i] < otherArray.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[count++] = otherArray.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayChunk union = new ArrayChunk(result, count);
+            return count > MAX_ARRAY_CARDINALITY ? union.toBitmapChunk() : union;
+        }
+
+        @Override
+        public Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        private BitmapChunk toBitmapChunk() {
+            BitmapChunk bitmap = new BitmapChunk(new long[BITMAP_WORDS], 0);
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * A chunk of many ints, kept as one bit for each of the 65536 ints it could hold.
+     */
+    private static final class BitmapChunk implements Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Chunk add(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                words[low >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Chunk remove(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) != 0) {
+                words[low >>> 6] &= ~bit;
+                cardinality--;
+            }
+            return cardinality <= MAX_ARRAY_CARDINALITY ? toArrayChunk() : this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Chunk and(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.and(this);
+            }
+
+            long[] otherWords = ((BitmapChunk) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapChunk intersection = new BitmapChunk(result, count);
+            return count <= MAX_ARRAY_CARDINALITY ? intersection.toArrayChunk() : intersection;
+        }
+
+        @Override
+        public Chunk or(Chunk other) {
+            BitmapChunk union = (BitmapChunk) copy();
+            if (other instanceof ArrayChunk) {
+                other.forEach(0, low -> union.add((char) low));
+                return union;
+            }
+
+            long[] otherWords = ((BitmapChunk) other).words;
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                union.words[i] |= otherWords[i];
+                count += Long.bitCount(union.words[i]);
+            }
+            union.cardinality = count;
+            return union;
+        }
+
+        @Override
+        public Chunk copy() {
+            return new BitmapChunk(words.clone(), cardinality);
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private ArrayChunk toArrayChunk() {
+            char[] values = new char[cardinality];
+            int[] count = new int[1];
+            forEach(0, low -> values[count[0]++] = (char) low);
+            return new ArrayChunk(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bitmap indexes over the fields of students that take few distinct values: their class, payment status, assignment
+ * status and subjects. Each student is given a small ordinal, and each value of a field maps to a bitmap of the
+ * ordinals of the students having it, so that the students meeting several such criteria are found by intersecting
+ * bitmaps instead of reading every student. Values are compared ignoring case.
+ *
+ * <p>Ordinals freed by removed students are given to the next students added, so that they stay dense and the
+ * bitmaps compact. Students are kept by identity, as in the lists holding them.
+ */
+public class StudentBitmapIndex {
+
+    private final Map<Student, Integer> ordinals = new IdentityHashMap<>();
+    /** The student given each ordinal, or null if the ordinal is free. */
+    private final List<Student> students = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final Map<String, OrdinalBitmap> byClass = new HashMap<>();
+    private final Map<String, OrdinalBitmap> byPaymentStatus = new HashMap<>();
+    private final Map<String, OrdinalBitmap> byAssignmentStatus = new HashMap<>();
+    private final Map<String, OrdinalBitmap> bySubject = new HashMap<>();
+
+    /**
+     * Adds {@code student} to the index, unless it is already there.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        if (ordinals.containsKey(student)) {
+            return;
+        }
+
+        int ordinal = takeFreeOrdinal();
+        ordinals.put(student, ordinal);
+        students.set(ordinal, student);
+        addTo(byClass, student.getStudentClass(), ordinal);
+        addTo(byPaymentStatus, student.getPaymentStatus(), ordinal);
+        addTo(byAssignmentStatus, student.getAssignmentStatus(), ordinal);
+        for (String subjectName : student.getSubjectNames()) {
+            addTo(bySubject, subjectName, ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code student} from the index, if it is there.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        Integer ordinal = ordinals.remove(student);
+        if (ordinal == null) {
+            return;
+        }
+
+        students.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+        removeFrom(byClass, student.getStudentClass(), ordinal);
+        removeFrom(byPaymentStatus, student.getPaymentStatus(), ordinal);
+        removeFrom(byAssignmentStatus, student.getAssignmentStatus(), ordinal);
+        for (String subjectName : student.getSubjectNames()) {
+            removeFrom(bySubject, subjectName, ordinal);
+        }
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    public void clear() {
+        ordinals.clear();
+        students.clear();
+        freeOrdinals.clear();
+        byClass.clear();
+        byPaymentStatus.clear();
+        byAssignmentStatus.clear();
+        bySubject.clear();
+    }
+
+    /**
+     * Returns the students in the class named {@code studentClass}, ignoring case.
+     */
+    public List<Student> getStudentsInClass(String studentClass) {
+        requireNonNull(studentClass);
+        return toStudents(byClass.get(toKey(studentClass)));
+    }
+
+    /**
+     * Returns the students meeting the class, payment status, assignment status and subject criteria of
+     * {@code filter}, in no particular order, or an empty {@code Optional} if it has none of these criteria. Its
+     * attendance rate bound is not checked.
+     */
+    public Optional<List<Student>> findStudentsMatching(StudentFilter filter) {
+        requireNonNull(filter);
+        List<OrdinalBitmap> bitmaps = new ArrayList<>();
+        filter.getStudentClass().ifPresent(studentClass -> bitmaps.add(getBitmap(byClass, studentClass)));
+        filter.getPaymentStatus().ifPresent(status -> bitmaps.add(getBitmap(byPaymentStatus, status)));
+        filter.getAssignmentStatus().ifPresent(status -> bitmaps.add(getBitmap(byAssignmentStatus, status)));
+        filter.getSubjectNames().forEach(subjectName -> bitmaps.add(getBitmap(bySubject, subjectName)));
+        if (bitmaps.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Starting from the smallest bitmap keeps every intersection at most that size
+        bitmaps.sort(Comparator.comparingInt(OrdinalBitmap::getCardinality));
+        OrdinalBitmap matches = bitmaps.get(0);
+        for (int i = 1; i < bitmaps.size() && !matches.isEmpty(); i++) {
+            matches = matches.and(bitmaps.get(i));
+        }
+        return Optional.of(toStudents(matches));
+    }
+
+    private int takeFreeOrdinal() {
+        if (freeOrdinals.isEmpty()) {
+            students.add(null);
+            return students.size() - 1;
+        }
+        return freeOrdinals.pop();
+    }
+
+    private List<Student> toStudents(OrdinalBitmap bitmap) {
+        if (bitmap == null) {
+            return List.of();
+        }
+        List<Student> found = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach(ordinal -> found.add(students.get(ordinal)));
+        return found;
+    }
+
+    private static OrdinalBitmap getBitmap(Map<String, OrdinalBitmap> index, String value) {
+        return index.getOrDefault(toKey(value), new OrdinalBitmap());
+    }
+
+    private static void addTo(Map<String, OrdinalBitmap> index, String value, int ordinal) {
+        index.computeIfAbsent(toKey(value), k -> new OrdinalBitmap()).add(ordinal);
+    }
+
+    private static void removeFrom(Map<String, OrdinalBitmap> index, String value, int ordinal) {
+        String key = toKey(value);
+        OrdinalBitmap bitmap = index.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.remove(ordinal);
+        if (bitmap.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static String toKey(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
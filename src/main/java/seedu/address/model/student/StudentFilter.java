@@ -0,0 +1,137 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.attendance.AttendanceCounts;
+import seedu.address.model.attendance.AttendanceRateBound;
+import seedu.address.model.person.Person;
+
+/**
+ * The criteria a student must meet to be shown by a filter: a class, subjects they must all be enrolled in, a payment
+ * status, an assignment status and a bound on their attendance rate. Criteria that are not given match every student.
+ * Text is compared ignoring case.
+ */
+public class StudentFilter {
+
+    private final String studentClass;
+    private final List<String> subjectNames;
+    private final String paymentStatus;
+    private final String assignmentStatus;
+    private final AttendanceRateBound attendanceRateBound;
+
+    /**
+     * Creates a filter with the given criteria, any of which may be null to match every student. The attendance rate
+     * of a student is over the given subjects, or over all their subjects if none are given.
+     */
+    public StudentFilter(String studentClass, List<String> subjectNames, String paymentStatus,
+                         String assignmentStatus, AttendanceRateBound attendanceRateBound) {
+        requireNonNull(subjectNames);
+        this.studentClass = studentClass;
+        this.subjectNames = List.copyOf(subjectNames);
+        this.paymentStatus = paymentStatus;
+        this.assignmentStatus = assignmentStatus;
+        this.attendanceRateBound = attendanceRateBound;
+    }
+
+    public Optional<String> getStudentClass() {
+        return Optional.ofNullable(studentClass);
+    }
+
+    /**
+     * Returns the subjects a student must all be enrolled in, as an unmodifiable list.
+     */
+    public List<String> getSubjectNames() {
+        return subjectNames;
+    }
+
+    public Optional<String> getPaymentStatus() {
+        return Optional.ofNullable(paymentStatus);
+    }
+
+    public Optional<String> getAssignmentStatus() {
+        return Optional.ofNullable(assignmentStatus);
+    }
+
+    public Optional<AttendanceRateBound> getAttendanceRateBound() {
+        return Optional.ofNullable(attendanceRateBound);
+    }
+
+    /**
+     * Compiles the criteria into a predicate that is true for the students meeting all of them. Only the given
+     * criteria are checked, the cheapest first, so that most students are ruled out before their subjects are read
+     * or their attendance is counted.
+     */
+    public Predicate<Person> toPredicate() {
+        List<Predicate<Student>> checks = new ArrayList<>();
+        if (studentClass != null) {
+            checks.add(student -> student.getStudentClass().equalsIgnoreCase(studentClass));
+        }
+        if (paymentStatus != null) {
+            checks.add(student -> student.getPaymentStatus().equalsIgnoreCase(paymentStatus));
+        }
+        if (assignmentStatus != null) {
+            checks.add(student -> student.getAssignmentStatus().equalsIgnoreCase(assignmentStatus));
+        }
+        for (String subjectName : subjectNames) {
+            checks.add(student -> student.getSubjects().stream().anyMatch(s -> s.equalsIgnoreCase(subjectName)));
+        }
+        if (attendanceRateBound != null) {
+            checks.add(student -> attendanceRateBound.isSatisfiedBy(countAttendance(student)));
+        }
+
+        Predicate<Student> meetsAll = checks.stream().reduce(student -> true, Predicate::and);
+        return person -> person instanceof Student && meetsAll.test((Student) person);
+    }
+
+    private AttendanceCounts countAttendance(Student student) {
+        AttendanceCounts counts = new AttendanceCounts();
+        if (subjectNames.isEmpty()) {
+            student.getAttendanceList().addCountsTo(counts);
+        } else {
+            subjectNames.forEach(subjectName -> student.getAttendanceList().addCountsForSubjectTo(subjectName, counts));
+        }
+        return counts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentFilter)) {
+            return false;
+        }
+
+        StudentFilter otherFilter = (StudentFilter) other;
+        return Objects.equals(studentClass, otherFilter.studentClass)
+                && subjectNames.equals(otherFilter.subjectNames)
+                && Objects.equals(paymentStatus, otherFilter.paymentStatus)
+                && Objects.equals(assignmentStatus, otherFilter.assignmentStatus)
+                && Objects.equals(attendanceRateBound, otherFilter.attendanceRateBound);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentClass, subjectNames, paymentStatus, assignmentStatus, attendanceRateBound);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentClass", studentClass)
+                .add("subjectNames", subjectNames)
+                .add("paymentStatus", paymentStatus)
+                .add("assignmentStatus", assignmentStatus)
+                .add("attendanceRateBound", attendanceRateBound)
+                .toString();
+    }
+}
@@ -2,8 +2,12 @@ package seedu.address.model.subject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.subject.exceptions.DuplicateSubjectException;
@@ -12,15 +16,20 @@ import seedu.address.model.subject.exceptions.SubjectNotFoundException;
 /**
  * Represents a list of lessons for a specific subject.
  * Each LessonList instance is tied to a single subject.
+ *
+ * Subjects are kept in insertion order for display, and indexed by their trimmed, case-folded name so that lookups
+ * by name take constant time. At most one subject may exist per normalized name.
  */
 public class SubjectList {
     private final List<Subject> subjects;
+    private final Map<String, Subject> subjectsByName;
 
     /**
      * Creates a SubjectList for the TutorTrack.
      */
     public SubjectList() {
         this.subjects = new ArrayList<>();
+        this.subjectsByName = new HashMap<>();
     }
 
     /**
@@ -29,35 +38,33 @@ public class SubjectList {
      */
     public boolean contains(Subject subject) {
         Objects.requireNonNull(subject);
-        return subjects.contains(subject);
+        return subject.equals(subjectsByName.get(toKey(subject.getName())));
     }
 
     /**
-     * Returns true if the list contains an equivalent subject.
+     * Returns true if the list contains a subject with the given name, ignoring case.
      * @param subjectName is a String
      */
     public boolean contains(String subjectName) {
         Objects.requireNonNull(subjectName, "subjectName");
-        return subjects.stream()
-                .map(Subject::getName) // or s -> s.getName()
-                .filter(Objects::nonNull)
-                .anyMatch(name -> name.equalsIgnoreCase(subjectName));
+        return subjectsByName.containsKey(toKey(subjectName));
     }
 
     /**
      * Adds a subject to the list.
-     * The subject must not already exist in the list.
+     * The list must not already contain a subject with the same name, ignoring case.
      *
      * @param subject the subject to add
      * @throws DuplicateSubjectException if the subject is a duplicate of an
-     *                                   existing lesson
+     *                                   existing subject
      */
     public void addSubject(Subject subject) {
         Objects.requireNonNull(subject);
-        if (contains(subject)) {
+        if (contains(subject.getName())) {
             throw new DuplicateSubjectException(); // Add to exceptions
         }
         subjects.add(subject);
+        subjectsByName.put(toKey(subject.getName()), subject);
     }
 
     /**
@@ -84,9 +91,11 @@ public class SubjectList {
      */
     public void deleteSubject(Subject subject) {
         Objects.requireNonNull(subject);
-        if (!subjects.remove(subject)) {
+        if (!contains(subject)) {
             throw new SubjectNotFoundException(); // Add exception
         }
+        Subject removed = subjectsByName.remove(toKey(subject.getName()));
+        subjects.remove(removed);
     }
 
     /**
@@ -99,61 +108,35 @@ public class SubjectList {
     }
 
     /**
-     * Gets an existing subject by name, or creates and adds it if it doesn't exist.
+     * Gets an existing subject by name, ignoring case, or creates and adds it if it doesn't exist.
+     * This ensures that all subjects with the same name share a single instance within the list.
      */
     public Subject getOrCreateSubject(String subjectName) {
         Objects.requireNonNull(subjectName, "subjectName");
-        String trimmedName = subjectName.trim();
-        for (Subject subject : subjects) {
-            if (subject.getName().equalsIgnoreCase(trimmedName)) {
-                return subject;
-            }
+        Subject existing = subjectsByName.get(toKey(subjectName));
+        if (existing != null) {
+            return existing;
         }
-        Subject newSubject = new Subject(trimmedName);
-        subjects.add(newSubject);
+        Subject newSubject = new Subject(subjectName.trim());
+        addSubject(newSubject);
         return newSubject;
     }
 
     /**
-     * Gets an existing subject by name.
+     * Gets an existing subject by name, ignoring case.
      */
-    public java.util.Optional<Subject> getSubject(String subjectName) {
+    public Optional<Subject> getSubject(String subjectName) {
         Objects.requireNonNull(subjectName, "subjectName");
-        String trimmedName = subjectName.trim();
-        return subjects.stream()
-                .filter(subject -> subject.getName().equalsIgnoreCase(trimmedName)).findFirst();
-    }
-    /**
-     * Returns the {@code Subject} in this list whose name matches the given {@code name},
-     * ignoring case. Returns {@code null} if no such subject exists.
-     */
-    public Subject findByName(String name) {
-        for (Subject s : subjects) {
-            if (s.getName().equalsIgnoreCase(name)) {
-                return s;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Retrieves an existing {@code Subject} with the given {@code name} if it exists,
-     * or creates and adds a new one if it does not.
-     * This ensures that all subjects with the same name share a single instance within the list.
-     */
-    public Subject getOrAdd(String name) {
-        Objects.requireNonNull(name);
-        Subject existing = findByName(name);
-        if (existing != null) {
-            return existing;
-        }
-        Subject created = new Subject(name);
-        subjects.add(created);
-        return created;
+        return Optional.ofNullable(subjectsByName.get(toKey(subjectName)));
     }
 
     public void clear() {
         subjects.clear();
+        subjectsByName.clear();
+    }
+
+    private static String toKey(String subjectName) {
+        return subjectName.trim().toLowerCase(Locale.ROOT);
     }
 
     @Override
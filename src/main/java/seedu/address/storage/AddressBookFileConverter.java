@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@code AddressBookStorage} for each {@link DataFileFormat} and converts data files between them.
+ */
+public final class AddressBookFileConverter {
+
+    private AddressBookFileConverter() {}
+
+    /**
+     * Returns a storage that reads and writes the file at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, DataFileFormat format) {
+        requireAllNonNull(filePath, format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JournaledAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the format of the existing file at {@code filePath}, or an empty {@code Optional} if there is none.
+     * Any file not in the binary format is taken to be JSON.
+     */
+    public static Optional<DataFileFormat> detectFormat(Path filePath) throws IOException {
+        requireAllNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(BinaryAddressBookStorage.isBinaryFile(filePath) ? DataFileFormat.BINARY
+                : DataFileFormat.JSON);
+    }
+
+    /**
+     * Reads the data at {@code source} in {@code sourceFormat} and writes it to {@code target} in
+     * {@code targetFormat}. The two paths may be the same.
+     *
+     * @return false if there is no data at {@code source}.
+     * @throws DataLoadingException if the data at {@code source} could not be read.
+     * @throws IOException if the data could not be written to {@code target}.
+     */
+    public static boolean convert(Path source, DataFileFormat sourceFormat, Path target, DataFileFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, sourceFormat, target, targetFormat);
+        Optional<ReadOnlyAddressBook> addressBook = createStorage(source, sourceFormat).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+
+        createStorage(target, targetFormat).saveAddressBook(addressBook.get());
+        if (targetFormat != DataFileFormat.JSON) {
+            // A journal left next to the file would otherwise be replayed if it is ever converted back to JSON.
+            Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(target));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the path of the data file in {@code format} for the data file named {@code filePath} in the
+     * preferences, which is {@code filePath} with its extension replaced by that of {@code format}.
+     * For example, the binary data file for {@code data/tutortrack.json} is {@code data/tutortrack.ttab}.
+     */
+    public static Path getFilePath(Path filePath, DataFileFormat format) {
+        requireAllNonNull(filePath, format);
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + format.getFileExtension());
+    }
+
+    /**
+     * Returns the existing data file for the data file named {@code filePath} in the preferences, or an empty
+     * {@code Optional} if there is none. The file named for {@code format} is preferred, then {@code filePath}
+     * itself, then the file named for another format.
+     */
+    public static Optional<Path> findDataFile(Path filePath, DataFileFormat format) {
+        requireAllNonNull(filePath, format);
+        List<Path> candidates = new ArrayList<>();
+        candidates.add(getFilePath(filePath, format));
+        candidates.add(filePath);
+        for (DataFileFormat otherFormat : DataFileFormat.values()) {
+            candidates.add(getFilePath(filePath, otherFormat));
+        }
+        return candidates.stream().filter(Files::exists).findFirst();
+    }
+
+    /**
+     * Moves the data file named {@code filePath} in the preferences to the file named for {@code format}, as given
+     * by {@link #getFilePath}, converting it if it is stored in another format. This keeps the existing data when
+     * the format is switched in the preferences, and also renames a file saved before names followed the format.
+     * The archive file beside it is moved along; it is read in either format, so it is not converted.
+     *
+     * @return true if the file was converted or moved.
+     * @throws DataLoadingException if the existing file could not be read.
+     * @throws IOException if the converted file could not be written.
+     */
+    public static boolean convertIfNeeded(Path filePath, DataFileFormat format)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(filePath, format);
+        Optional<Path> sourcePath = findDataFile(filePath, format);
+        if (!sourcePath.isPresent()) {
+            return false;
+        }
+
+        Path source = sourcePath.get();
+        Path target = getFilePath(filePath, format);
+        DataFileFormat currentFormat = detectFormat(source).orElse(format);
+        if (source.equals(target)) {
+            return currentFormat != format && convert(target, currentFormat, target, format);
+        }
+
+        // The archive is moved first, so that an interrupted move is completed at the next launch
+        moveArchive(source, target);
+        try {
+            convert(source, currentFormat, target, format);
+        } catch (DataLoadingException | IOException e) {
+            try {
+                moveArchive(target, source);
+            } catch (IOException moveBackError) {
+                e.addSuppressed(moveBackError);
+            }
+            throw e;
+        }
+        Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(source));
+        Files.delete(source);
+        return true;
+    }
+
+    /**
+     * Moves the archive file of the data file at {@code source}, if there is one, to be the archive of the data file
+     * at {@code target}.
+     */
+    private static void moveArchive(Path source, Path target) throws IOException {
+        Path sourceArchive = TieredAddressBookStorage.getArchiveFilePath(source);
+        if (Files.exists(sourceArchive)) {
+            Files.move(sourceArchive, TieredAddressBookStorage.getArchiveFilePath(target),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
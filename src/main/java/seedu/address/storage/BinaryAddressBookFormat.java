@@ -0,0 +1,495 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonList;
+import seedu.address.model.lesson.LessonRegistry;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.student.Student;
+import seedu.address.model.subject.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the compact binary snapshot format used by {@link BinaryAddressBookStorage}.
+ *
+ * <p>Every string is stored once in a string table and referred to by its index elsewhere. Lessons and subjects
+ * are likewise stored once in tables, so a student refers to its subjects and attended lessons by index instead of
+ * repeating them. All counts and indices are unsigned LEB128 varints, and attendance statuses are packed four to a
+ * byte. The layout is:
+ * <pre>
+ * file       := MAGIC version strings lessons subjects bookLessons persons archivedPersons
+ * strings    := count (byteLength utf8Bytes)*
+ * lessons    := count (name:string subject:string)*
+ * subjects   := count (name:string lessonCount lesson*)*
+ * bookLessons := count lesson*
+ * persons    := count person*
+ * person     := KIND_PERSON name:string phone:string email:string address:string tagCount tag:string*
+ *             | KIND_STUDENT name:string class:string emergencyContact:string paymentStatus:string
+ *               assignmentStatus:string subjectCount subject* recordCount lesson* packedStatuses
+ * </pre>
+ *
+ * <p>Loading adds the persons and lessons to a new {@code AddressBook} in the same order as
+ * {@link JsonSerializableAddressBook#toModelType()}, so both formats produce the same model.
+ */
+final class BinaryAddressBookFormat {
+
+    /** The first bytes of every file in this format. */
+    static final byte[] MAGIC = {'T', 'T', 'A', 'B'};
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY = "Data is not in the binary address book format.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book format version %d is not supported.";
+    static final String MESSAGE_CORRUPT = "Binary address book data is corrupt: %s";
+
+    private static final String EMERGENCY_CONTACT_REGEX = "\\d{8}";
+
+    private static final int KIND_PERSON = 0;
+    private static final int KIND_STUDENT = 1;
+
+    /** Attendance statuses by their 2-bit code. The order is part of the file format. */
+    private static final AttendanceStatus[] STATUSES = {
+        AttendanceStatus.PRESENT, AttendanceStatus.ABSENT, AttendanceStatus.LATE, AttendanceStatus.EXCUSED
+    };
+    private static final int BITS_PER_STATUS = 2;
+    private static final int STATUSES_PER_BYTE = Byte.SIZE / BITS_PER_STATUS;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code source} to {@code out}. Does not close {@code out}.
+     */
+    static void write(ReadOnlyAddressBook source, OutputStream out) throws IOException {
+        new Encoder().write(source, new DataOutputStream(out));
+    }
+
+    /**
+     * Reads an address book from {@code in}. Does not close {@code in}.
+     *
+     * @throws IllegalValueException if the data is not a valid address book in this format.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        return new Decoder(new DataInputStream(in)).read();
+    }
+
+    /**
+     * Returns true if {@code header} starts with the bytes that mark this format.
+     */
+    static boolean hasMagic(byte[] header) {
+        return header.length >= MAGIC.length && Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    //// encoding
+
+    /**
+     * Builds the tables while writing the persons into a separate buffer, since the tables go first in the file.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final Map<Lesson, Integer> lessons = new LinkedHashMap<>();
+        private final Map<String, Integer> subjectIndices = new HashMap<>();
+        private final List<SubjectEntry> subjects = new ArrayList<>();
+
+        void write(ReadOnlyAddressBook source, DataOutputStream out) throws IOException {
+            ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+            DataOutputStream body = new DataOutputStream(bodyBytes);
+            List<Lesson> bookLessons = source.getLessonList().getInternalList();
+            writeVarint(body, bookLessons.size());
+            for (Lesson lesson : bookLessons) {
+                writeVarint(body, lessonRef(lesson));
+            }
+            writePersons(body, source.getPersonList());
+            writePersons(body, source.getArchivedPersonList());
+            body.flush();
+
+            out.write(MAGIC);
+            writeVarint(out, VERSION);
+            writeVarint(out, strings.size());
+            for (String string : strings.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarint(out, bytes.length);
+                out.write(bytes);
+            }
+            writeVarint(out, lessons.size());
+            for (Lesson lesson : lessons.keySet()) {
+                writeVarint(out, stringRef(lesson.getName()));
+                writeVarint(out, stringRef(lesson.getSubject()));
+            }
+            writeVarint(out, subjects.size());
+            for (SubjectEntry subject : subjects) {
+                writeVarint(out, subject.nameRef);
+                writeVarint(out, subject.lessonRefs.size());
+                for (int lessonRef : subject.lessonRefs) {
+                    writeVarint(out, lessonRef);
+                }
+            }
+            bodyBytes.writeTo(out);
+            out.flush();
+        }
+
+        private void writePersons(DataOutputStream out, List<Person> persons) throws IOException {
+            writeVarint(out, persons.size());
+            for (Person person : persons) {
+                if (person instanceof Student) {
+                    writeStudent(out, (Student) person);
+                } else {
+                    writePerson(out, person);
+                }
+            }
+        }
+
+        private void writePerson(DataOutputStream out, Person person) throws IOException {
+            out.writeByte(KIND_PERSON);
+            writeVarint(out, stringRef(person.getName().fullName));
+            writeVarint(out, stringRef(person.getPhone().value));
+            writeVarint(out, stringRef(person.getEmail().value));
+            writeVarint(out, stringRef(person.getAddress().value));
+            writeVarint(out, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarint(out, stringRef(tag.tagName));
+            }
+        }
+
+        private void writeStudent(DataOutputStream out, Student student) throws IOException {
+            out.writeByte(KIND_STUDENT);
+            writeVarint(out, stringRef(student.getName().fullName));
+            writeVarint(out, stringRef(student.getStudentClass()));
+            writeVarint(out, stringRef(student.getEmergencyContact()));
+            writeVarint(out, stringRef(student.getPaymentStatus()));
+            writeVarint(out, stringRef(student.getAssignmentStatus()));
+
+            List<Subject> studentSubjects = student.getSubjects();
+            writeVarint(out, studentSubjects.size());
+            for (Subject subject : studentSubjects) {
+                writeVarint(out, subjectRef(subject));
+            }
+
+            List<AttendanceRecord> records = new ArrayList<>(student.getAttendanceList().getRecords());
+            writeVarint(out, records.size());
+            for (AttendanceRecord record : records) {
+                writeVarint(out, lessonRef(record.getLesson()));
+            }
+            byte[] packedStatuses = new byte[(records.size() + STATUSES_PER_BYTE - 1) / STATUSES_PER_BYTE];
+            for (int i = 0; i < records.size(); i++) {
+                int shift = (i % STATUSES_PER_BYTE) * BITS_PER_STATUS;
+                packedStatuses[i / STATUSES_PER_BYTE] |= (byte) (statusCode(records.get(i).getStatus()) << shift);
+            }
+            out.write(packedStatuses);
+        }
+
+        private int stringRef(String string) {
+            return strings.computeIfAbsent(string, unused -> strings.size());
+        }
+
+        private int lessonRef(Lesson lesson) {
+            Integer ref = lessons.get(lesson);
+            if (ref == null) {
+                // Registers the strings before the lesson table is written.
+                stringRef(lesson.getName());
+                stringRef(lesson.getSubject());
+                ref = lessons.size();
+                lessons.put(lesson, ref);
+            }
+            return ref;
+        }
+
+        /**
+         * Returns the index of the subject named like {@code subject}, adding any of its lessons not yet recorded.
+         * Loading merges subjects of the same name into one, so merging them here loses nothing.
+         */
+        private int subjectRef(Subject subject) {
+            Integer ref = subjectIndices.get(subject.getName());
+            if (ref == null) {
+                ref = subjects.size();
+                subjectIndices.put(subject.getName(), ref);
+                subjects.add(new SubjectEntry(stringRef(subject.getName())));
+            }
+            SubjectEntry entry = subjects.get(ref);
+            for (Lesson lesson : subject.getLessons().getInternalList()) {
+                entry.addLesson(lessonRef(lesson));
+            }
+            return ref;
+        }
+
+        private static int statusCode(AttendanceStatus status) {
+            for (int code = 0; code < STATUSES.length; code++) {
+                if (STATUSES[code] == status) {
+                    return code;
+                }
+            }
+            throw new IllegalArgumentException("Unknown attendance status: " + status);
+        }
+    }
+
+    /**
+     * A subject and the lessons recorded for it, in the order they were first seen.
+     */
+    private static class SubjectEntry {
+        private final int nameRef;
+        private final List<Integer> lessonRefs = new ArrayList<>();
+        private final Set<Integer> lessonRefSet = new HashSet<>();
+
+        SubjectEntry(int nameRef) {
+            this.nameRef = nameRef;
+        }
+
+        void addLesson(int lessonRef) {
+            if (lessonRefSet.add(lessonRef)) {
+                lessonRefs.add(lessonRef);
+            }
+        }
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        assert value >= 0 : "Only non-negative values are written as varints";
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    //// decoding
+
+    /**
+     * Reads the tables, then builds the persons from them.
+     * Tables grow as entries are read rather than being sized from the counts in the file, so a corrupt count ends
+     * in an error at the end of the data instead of a huge allocation.
+     */
+    private static class Decoder {
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+        private final List<Lesson> lessons = new ArrayList<>();
+        private final List<Subject> subjects = new ArrayList<>();
+
+        Decoder(DataInputStream in) {
+            this.in = in;
+        }
+
+        AddressBook read() throws IOException, IllegalValueException {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!hasMagic(magic)) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            int version = readVarint();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            readStrings();
+            readLessons();
+            readSubjects();
+
+            List<Lesson> bookLessons = new ArrayList<>();
+            int bookLessonCount = readVarint();
+            for (int i = 0; i < bookLessonCount; i++) {
+                bookLessons.add(readRef(lessons, "lesson"));
+            }
+
+            List<Person> persons = readPersons();
+            List<Person> archivedPersons = readPersons();
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons, archivedPersons);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            for (Lesson lesson : bookLessons) {
+                addressBook.addLesson(lesson);
+            }
+            return addressBook;
+        }
+
+        private List<Person> readPersons() throws IOException, IllegalValueException {
+            int personCount = readVarint();
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson());
+            }
+            return persons;
+        }
+
+        private void readStrings() throws IOException, IllegalValueException {
+            int stringCount = readVarint();
+            for (int i = 0; i < stringCount; i++) {
+                int length = readVarint();
+                byte[] bytes = in.readNBytes(length);
+                if (bytes.length != length) {
+                    throw new EOFException();
+                }
+                strings.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+
+        private void readLessons() throws IOException, IllegalValueException {
+            int lessonCount = readVarint();
+            for (int i = 0; i < lessonCount; i++) {
+                String name = readString();
+                String subject = readString();
+                if (name.isBlank() || subject.isBlank()) {
+                    throw new IllegalValueException(Lesson.MESSAGE_CONSTRAINTS);
+                }
+                lessons.add(LessonRegistry.intern(name, subject));
+            }
+        }
+
+        private void readSubjects() throws IOException, IllegalValueException {
+            int subjectCount = readVarint();
+            for (int i = 0; i < subjectCount; i++) {
+                String name = readString();
+                if (name.isBlank()) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "blank subject name"));
+                }
+                LessonList lessonList = new LessonList(name);
+                int lessonCount = readVarint();
+                for (int j = 0; j < lessonCount; j++) {
+                    Lesson lesson = readRef(lessons, "lesson");
+                    if (lessonList.contains(lesson)) {
+                        throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "repeated subject lesson"));
+                    }
+                    lessonList.addLesson(lesson);
+                }
+                subjects.add(new Subject(name, lessonList));
+            }
+        }
+
+        private Person readPerson() throws IOException, IllegalValueException {
+            int kind = in.readUnsignedByte();
+            switch (kind) {
+            case KIND_PERSON:
+                return readPlainPerson();
+            case KIND_STUDENT:
+                return readStudent();
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "unknown person kind " + kind));
+            }
+        }
+
+        private Person readPlainPerson() throws IOException, IllegalValueException {
+            Name name = readName();
+            String phone = readString();
+            if (!Phone.isValidPhone(phone)) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            String email = readString();
+            if (!Email.isValidEmail(email)) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            String address = readString();
+            if (!Address.isValidAddress(address)) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            }
+            Set<Tag> tags = new HashSet<>();
+            int tagCount = readVarint();
+            for (int i = 0; i < tagCount; i++) {
+                String tagName = readString();
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags.add(new Tag(tagName));
+            }
+            return new Person(name, new Phone(phone), new Email(email), new Address(address), tags);
+        }
+
+        private Student readStudent() throws IOException, IllegalValueException {
+            Name name = readName();
+            String studentClass = readString();
+            if (studentClass.isBlank()) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "blank student class"));
+            }
+            String emergencyContact = readString();
+            if (!emergencyContact.matches(EMERGENCY_CONTACT_REGEX)) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "invalid emergency contact"));
+            }
+            String paymentStatus = readString();
+            String assignmentStatus = readString();
+
+            int subjectCount = readVarint();
+            if (subjectCount == 0) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "student without subjects"));
+            }
+            List<Subject> studentSubjects = new ArrayList<>();
+            for (int i = 0; i < subjectCount; i++) {
+                studentSubjects.add(readRef(subjects, "subject"));
+            }
+            Student student = new Student(name, studentSubjects, studentClass, emergencyContact, paymentStatus,
+                    assignmentStatus);
+
+            int recordCount = readVarint();
+            List<Lesson> attendedLessons = new ArrayList<>();
+            for (int i = 0; i < recordCount; i++) {
+                attendedLessons.add(readRef(lessons, "lesson"));
+            }
+            byte[] packedStatuses = new byte[(recordCount + STATUSES_PER_BYTE - 1) / STATUSES_PER_BYTE];
+            in.readFully(packedStatuses);
+            for (int i = 0; i < recordCount; i++) {
+                int shift = (i % STATUSES_PER_BYTE) * BITS_PER_STATUS;
+                int code = (packedStatuses[i / STATUSES_PER_BYTE] >>> shift) & ((1 << BITS_PER_STATUS) - 1);
+                student.getAttendanceList().markAttendance(attendedLessons.get(i), STATUSES[code]);
+            }
+            return student;
+        }
+
+        private Name readName() throws IOException, IllegalValueException {
+            String name = readString();
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            return new Name(name);
+        }
+
+        private String readString() throws IOException, IllegalValueException {
+            return readRef(strings, "string");
+        }
+
+        private <T> T readRef(List<T> table, String tableName) throws IOException, IllegalValueException {
+            int ref = readVarint();
+            if (ref >= table.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT, tableName + " index out of range"));
+            }
+            return table.get(ref);
+        }
+
+        private int readVarint() throws IOException, IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "malformed number"));
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ *
+ * The snapshot has the same format as the file written by {@code JsonAddressBookStorage}. Each save appends only
+ * the persons that changed since the previous save to the journal, one JSON entry per line. Once the journal grows
+ * past a threshold it is compacted: a fresh snapshot is written and the journal is removed. Reading replays the
+ * journal over the snapshot.
+ *
+ * Every snapshot written here records a generation, and a journal starts with the generation of the snapshot it was
+ * appended to. A compaction writes a snapshot of a new generation before removing the journal, so a journal left
+ * behind by a crash in between no longer matches the snapshot and is ignored when reading.
+ *
+ * Persons are immutable apart from a student's attendance, so a person is treated as changed if it is a different
+ * object from the one last saved, or if its attendance has been modified since. A change to the lesson list
+ * rewrites the snapshot, because it can change the subjects stored with every enrolled student.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Journal size above which the journal is folded into a new snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThresholdBytes;
+
+    /** What was last written to {@code filePath}, or null if the files on disk are not known to match. */
+    private SavedState savedState;
+    /** Generation of the snapshot last written to {@code filePath}, or 0 if none has been written. */
+    private long generation;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it exceeds {@code compactionThresholdBytes} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalPath = getJournalFilePath(filePath);
+        Optional<JsonSerializableAddressBook> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (!snapshot.isPresent() && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        // Journaled persons are stored whole, so only the snapshot's persons refer to its subject and lesson tables.
+        JsonSerializableAddressBook book = snapshot.orElseGet(() -> new JsonSerializableAddressBook(new AddressBook()));
+        Map<String, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+        Map<String, JsonAdaptedPerson> archivedPersons = new LinkedHashMap<>();
+        book.getPersons().forEach(person -> persons.put(person.getName(), person));
+        book.getArchivedPersons().forEach(person -> archivedPersons.put(person.getName(), person));
+
+        try {
+            replayJournal(journalPath, book.getJournalGeneration(), persons, archivedPersons);
+            return Optional.of(book.withPersons(new ArrayList<>(persons.values()),
+                    new ArrayList<>(archivedPersons.values())).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalPath} to {@code persons} and {@code archivedPersons}, unless
+     * the journal was appended to a snapshot other than the one of generation {@code snapshotGeneration}.
+     * A journal without a header belongs to generation 0.
+     */
+    private void replayJournal(Path journalPath, long snapshotGeneration, Map<String, JsonAdaptedPerson> persons,
+            Map<String, JsonAdaptedPerson> archivedPersons) throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        logger.info("Replaying " + lines.size() + " journal entries from " + journalPath);
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    // The last entry may have been cut short by a crash while it was being appended.
+                    logger.warning("Ignoring incomplete last journal entry in " + journalPath);
+                    return;
+                }
+                throw e;
+            }
+            if (i == 0) {
+                long journalGeneration = entry.isHeader() ? entry.getGeneration() : 0;
+                if (journalGeneration != snapshotGeneration) {
+                    logger.warning("Ignoring journal " + journalPath + " of generation " + journalGeneration
+                            + ", left behind by an interrupted compaction of snapshot generation "
+                            + snapshotGeneration);
+                    return;
+                }
+            }
+            if (!entry.isHeader()) {
+                entry.applyTo(persons, archivedPersons);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to a path other than this storage's own always write a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        if (savedState == null || !savedState.hasSameLessons(addressBook)) {
+            compact(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        savedState.persons.collectChanges(addressBook.getPersonList(), JsonAdaptedJournalEntry.LIST_PERSONS,
+                entries);
+        savedState.archivedPersons.collectChanges(addressBook.getArchivedPersonList(),
+                JsonAdaptedJournalEntry.LIST_ARCHIVED_PERSONS, entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        appendToJournal(entries);
+        savedState = new SavedState(addressBook);
+        if (Files.size(getJournalFilePath(filePath)) > compactionThresholdBytes) {
+            compact(addressBook);
+        }
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(journalPath)) {
+            lines.insert(0, JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.header(generation))
+                    + System.lineSeparator());
+        }
+        FileUtil.createParentDirsOfFile(journalPath);
+        Files.write(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} of a new generation and discards the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal into snapshot " + filePath);
+        savedState = null;
+        Path journalPath = getJournalFilePath(filePath);
+        long newGeneration = Math.max(generation, readJournalGeneration(journalPath)) + 1;
+        writeSnapshot(addressBook, newGeneration, filePath);
+        generation = newGeneration;
+        Files.deleteIfExists(journalPath);
+        savedState = new SavedState(addressBook);
+    }
+
+    /**
+     * Returns the generation recorded at the start of the journal at {@code journalPath}, or 0 if there is no
+     * journal or it has no readable header.
+     */
+    private static long readJournalGeneration(Path journalPath) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+        String firstLine;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            firstLine = reader.readLine();
+        }
+        if (firstLine == null) {
+            return 0;
+        }
+        try {
+            JsonAdaptedJournalEntry entry = JsonUtil.fromJsonString(firstLine, JsonAdaptedJournalEntry.class);
+            return entry.isHeader() ? entry.getGeneration() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        writeSnapshot(addressBook, null, filePath);
+    }
+
+    /**
+     * Writes a full snapshot of generation {@code generation} to {@code filePath}, replacing any existing file in one
+     * step. A null generation writes a plain snapshot.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Long generation, Path filePath)
+            throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createIfMissing(tempPath);
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(tempPath, false)) {
+            JsonSerializableAddressBook.writeModel(addressBook, generation, generator);
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Identifies the persons and lessons as of the last save.
+     */
+    private static class SavedState {
+        private final SavedPersonList persons;
+        private final SavedPersonList archivedPersons;
+        private final List<Lesson> lessons;
+
+        SavedState(ReadOnlyAddressBook addressBook) {
+            persons = new SavedPersonList(addressBook.getPersonList());
+            archivedPersons = new SavedPersonList(addressBook.getArchivedPersonList());
+            lessons = List.copyOf(addressBook.getLessonList().getInternalList());
+        }
+
+        boolean hasSameLessons(ReadOnlyAddressBook addressBook) {
+            return lessons.equals(addressBook.getLessonList().getInternalList());
+        }
+    }
+
+    /**
+     * The persons of one list as of the last save, together with the attendance version of each student.
+     * Persons are matched by name, since a snapshot of the address book holds a new copy of each changed student.
+     */
+    private static class SavedPersonList {
+        private final List<Person> persons;
+        private final int[] attendanceVersions;
+
+        SavedPersonList(List<Person> current) {
+            persons = new ArrayList<>(current);
+            attendanceVersions = new int[persons.size()];
+            for (int i = 0; i < attendanceVersions.length; i++) {
+                attendanceVersions[i] = attendanceVersionOf(persons.get(i));
+            }
+        }
+
+        /**
+         * Adds to {@code entries} the changes needed to turn this list into {@code current}.
+         * The order of the list is only journaled if the names in it have changed.
+         */
+        void collectChanges(List<Person> current, String listName, List<JsonAdaptedJournalEntry> entries) {
+            boolean isSameOrder = current.size() == persons.size();
+            for (int i = 0; isSameOrder && i < persons.size(); i++) {
+                isSameOrder = nameOf(current.get(i)).equals(nameOf(persons.get(i)));
+            }
+
+            if (isSameOrder) {
+                for (int i = 0; i < persons.size(); i++) {
+                    if (isChanged(current.get(i), persons.get(i), attendanceVersions[i])) {
+                        entries.add(JsonAdaptedJournalEntry.put(listName, new JsonAdaptedPerson(current.get(i))));
+                    }
+                }
+                return;
+            }
+
+            Map<String, Integer> savedIndices = new HashMap<>();
+            for (int i = 0; i < persons.size(); i++) {
+                savedIndices.put(nameOf(persons.get(i)), i);
+            }
+            for (Person person : current) {
+                Integer savedIndex = savedIndices.get(nameOf(person));
+                if (savedIndex == null || isChanged(person, persons.get(savedIndex), attendanceVersions[savedIndex])) {
+                    entries.add(JsonAdaptedJournalEntry.put(listName, new JsonAdaptedPerson(person)));
+                }
+            }
+            entries.add(JsonAdaptedJournalEntry.order(listName, current.stream()
+                    .map(SavedPersonList::nameOf)
+                    .collect(Collectors.toList())));
+        }
+
+        /**
+         * Returns true if {@code person} differs from {@code saved}, the person of the same name as last saved.
+         * Persons are replaced when they are edited, and students are copied when a snapshot is taken after they
+         * changed, so only the same object with the same attendance version is unchanged.
+         */
+        private static boolean isChanged(Person person, Person saved, int savedAttendanceVersion) {
+            return person != saved || attendanceVersionOf(person) != savedAttendanceVersion;
+        }
+
+        private static String nameOf(Person person) {
+            return person.getName().fullName;
+        }
+
+        private static int attendanceVersionOf(Person person) {
+            return person instanceof Student
+                    ? ((Student) person).getAttendanceList().getModificationCount()
+                    : 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.attendance.AttendanceStatus;
+
+/**
+ * Jackson-friendly version of an {@link AttendanceRecord} in the normalized schema.
+ * Stored as a {@code [lessonId, status]} pair that refers to the lesson table.
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"lesson", "status"})
+class JsonAdaptedAttendance {
+
+    public static final String MESSAGE_INVALID_STATUS = "Invalid attendance status: %s";
+    public static final String MESSAGE_MISSING_LESSON = "Attendance record is missing its lesson.";
+
+    private final Integer lesson;
+    private final String status;
+
+    /**
+     * Constructs a {@code JsonAdaptedAttendance} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedAttendance(@JsonProperty("lesson") Integer lesson, @JsonProperty("status") String status) {
+        this.lesson = lesson;
+        this.status = status;
+    }
+
+    /**
+     * Converts a given {@code AttendanceRecord} into this class, referring to its lesson through {@code ids}.
+     */
+    public JsonAdaptedAttendance(AttendanceRecord source, JsonIdTables ids) {
+        this.lesson = ids.getLessonId(source.getLesson());
+        this.status = source.getStatus().name();
+    }
+
+    /**
+     * Marks this attendance on {@code attendance}, resolving the lesson through {@code ids}.
+     *
+     * @throws IllegalValueException if the lesson id is unknown or the status is invalid.
+     */
+    void addTo(AttendanceList attendance, JsonIdTables ids)
+            throws IllegalValueException {
+        if (lesson == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_LESSON);
+        }
+        AttendanceStatus modelStatus;
+        try {
+            modelStatus = AttendanceStatus.valueOf(status);
+        } catch (RuntimeException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STATUS, status));
+        }
+        attendance.markAttendance(ids.getLesson(lesson), modelStatus);
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of one change recorded in the address book journal.
+ * An entry either puts a person into one of the person lists, replacing any person with the same name in place,
+ * or sets the order of a list by name, dropping any person not named.
+ * A journal starts with a header entry that records the generation of the snapshot the journal applies to.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    static final String LIST_PERSONS = "persons";
+    static final String LIST_ARCHIVED_PERSONS = "archivedPersons";
+
+    public static final String MESSAGE_UNKNOWN_LIST = "Journal entry refers to unknown list: %s";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Journal entry orders unknown person: %s";
+    public static final String MESSAGE_EMPTY_ENTRY = "Journal entry has no change.";
+
+    private final String list;
+    private final JsonAdaptedPerson person;
+    private final List<String> order;
+    private final Long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("list") String list,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("order") List<String> order,
+                                   @JsonProperty("generation") Long generation) {
+        this.list = list;
+        this.person = person;
+        this.order = order == null ? null : new ArrayList<>(order);
+        this.generation = generation;
+    }
+
+    /**
+     * Returns a header entry for a journal that applies to the snapshot of generation {@code generation}.
+     */
+    static JsonAdaptedJournalEntry header(long generation) {
+        return new JsonAdaptedJournalEntry(null, null, null, generation);
+    }
+
+    /**
+     * Returns an entry that puts {@code person} into the list named {@code list}.
+     */
+    static JsonAdaptedJournalEntry put(String list, JsonAdaptedPerson person) {
+        return new JsonAdaptedJournalEntry(list, person, null, null);
+    }
+
+    /**
+     * Returns an entry that sets the list named {@code list} to the persons named {@code order}, in that order.
+     */
+    static JsonAdaptedJournalEntry order(String list, List<String> order) {
+        return new JsonAdaptedJournalEntry(list, null, order, null);
+    }
+
+    boolean isHeader() {
+        return generation != null;
+    }
+
+    /**
+     * Returns the snapshot generation recorded by this header entry.
+     */
+    long getGeneration() {
+        assert isHeader();
+        return generation;
+    }
+
+    /**
+     * Applies this change to {@code persons} or {@code archivedPersons}, which are keyed by person name.
+     *
+     * @throws IllegalValueException if the entry is malformed or refers to a person that does not exist.
+     */
+    void applyTo(Map<String, JsonAdaptedPerson> persons, Map<String, JsonAdaptedPerson> archivedPersons)
+            throws IllegalValueException {
+        Map<String, JsonAdaptedPerson> target;
+        if (LIST_PERSONS.equals(list)) {
+            target = persons;
+        } else if (LIST_ARCHIVED_PERSONS.equals(list)) {
+            target = archivedPersons;
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LIST, list));
+        }
+
+        if (person != null) {
+            target.put(person.getName(), person);
+        } else if (order != null) {
+            Map<String, JsonAdaptedPerson> reordered = new LinkedHashMap<>();
+            for (String name : order) {
+                JsonAdaptedPerson named = target.get(name);
+                if (named == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, name));
+                }
+                reordered.put(name, named);
+            }
+            target.clear();
+            target.putAll(reordered);
+        } else {
+            throw new IllegalValueException(MESSAGE_EMPTY_ENTRY);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonRegistry;
 
 /**
  * Jackson-friendly version of {@link Lesson}.
@@ -44,6 +45,6 @@ class JsonAdaptedLesson {
         if (subject == null) {
             throw new IllegalValueException("Subject cannot be null");
         }
-        return new Lesson(name, subject);
+        return LessonRegistry.intern(name, subject);
     }
 }
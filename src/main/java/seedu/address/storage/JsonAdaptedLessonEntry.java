@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of an entry in the lesson table of the normalized schema.
+ * The lesson's subject is referred to by its id in the subject table.
+ */
+class JsonAdaptedLessonEntry {
+
+    private final Integer id;
+    private final String name;
+    private final Integer subject;
+
+    /**
+     * Constructs a {@code JsonAdaptedLessonEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedLessonEntry(@JsonProperty("id") Integer id, @JsonProperty("name") String name,
+                                  @JsonProperty("subject") Integer subject) {
+        this.id = id;
+        this.name = name;
+        this.subject = subject;
+    }
+
+    Integer getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Integer getSubject() {
+        return subject;
+    }
+}
@@ -9,6 +9,7 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -16,6 +17,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.attendance.AttendanceList;
 import seedu.address.model.attendance.AttendanceStatus;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonRegistry;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -30,6 +32,11 @@ import seedu.address.model.tag.Tag;
  *
  * <p>This class is converts the data from the model layer to JSON stored on the disk.
  * It supports both {@code Person} and {@code Student} data storage.
+ *
+ * <p>A student is stored in one of two layouts. The embedded layout carries full copies of its subjects and
+ * {@code "lesson|subject|STATUS"} attendance strings, so the person can be read on its own. The normalized layout
+ * refers to subjects and lessons by id in a {@link JsonIdTables}, with attendance as {@code [lessonId, status]}
+ * pairs.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedPerson {
@@ -56,6 +63,7 @@ public class JsonAdaptedPerson {
     private final String phone;
     private final String email;
     private final String address;
+    @JsonIgnore
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     // Student-only fields
@@ -67,6 +75,21 @@ public class JsonAdaptedPerson {
     private final List<String> attendanceList;
     private final boolean isArchived;
 
+    // Student-only fields of the normalized layout
+    private final List<Integer> subjectIds;
+    private final List<JsonAdaptedAttendance> attendance;
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} in the embedded layout with the given JSON properties.
+     */
+    public JsonAdaptedPerson(String type, String name, String phone, String email, String address,
+                             List<JsonAdaptedTag> tags, String studentClass, List<JsonAdaptedSubject> subjects,
+                             String emergencyContact, String paymentStatus, String assignmentStatus,
+                             List<String> attendanceList, Boolean isArchived) {
+        this(type, name, phone, email, address, tags, studentClass, subjects, emergencyContact, paymentStatus,
+                assignmentStatus, attendanceList, isArchived, null, null);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given JSON properties.
      * Called by Jackson during deserialization.
@@ -85,7 +108,9 @@ public class JsonAdaptedPerson {
             @JsonProperty("paymentStatus") String paymentStatus,
             @JsonProperty("assignmentStatus") String assignmentStatus,
             @JsonProperty("attendanceList") List<String> attendanceList,
-            @JsonProperty("isArchived") Boolean isArchived) {
+            @JsonProperty("isArchived") Boolean isArchived,
+            @JsonProperty("subjectIds") List<Integer> subjectIds,
+            @JsonProperty("attendance") List<JsonAdaptedAttendance> attendance) {
 
         this.type = normalizeType(type);
         this.name = trimOrNull(name);
@@ -105,6 +130,8 @@ public class JsonAdaptedPerson {
         this.attendanceList = (attendanceList == null) ? null : new ArrayList<>(attendanceList);
 
         this.isArchived = (isArchived != null) ? isArchived : false;
+        this.subjectIds = (subjectIds == null) ? null : new ArrayList<>(subjectIds);
+        this.attendance = (attendance == null) ? null : new ArrayList<>(attendance);
 
         if (type == null || type.isBlank()) {
             LOGGER.fine("Missing 'type' in JSON; defaulting to 'person'.");
@@ -140,7 +167,7 @@ public class JsonAdaptedPerson {
             this.assignmentStatus = s.getAssignmentStatus();
 
             this.attendanceList = new ArrayList<>();
-            s.getAttendanceList().getStudentAttendance().forEach(record ->
+            s.getAttendanceList().getRecords().forEach(record ->
                     this.attendanceList.add(
                             record.getLesson().getName()
                                     + "|"
@@ -159,6 +186,45 @@ public class JsonAdaptedPerson {
         }
 
         this.isArchived = false;
+        this.subjectIds = null;
+        this.attendance = null;
+    }
+
+    /**
+     * Converts a given {@link Person} (or {@link Student}) into this class in the normalized layout,
+     * referring to subjects and lessons by their ids in {@code ids}.
+     */
+    public JsonAdaptedPerson(Person source, JsonIdTables ids) {
+        this.type = (source instanceof Student) ? TYPE_STUDENT : TYPE_PERSON;
+        this.name = source.getName().fullName;
+        this.phone = source.getPhone().value;
+        this.email = source.getEmail().value;
+        this.address = source.getAddress().value;
+        source.getTags().forEach(tag -> this.tagged.add(new JsonAdaptedTag(tag)));
+        this.subjects = null;
+        this.attendanceList = null;
+        this.isArchived = false;
+
+        if (source instanceof Student) {
+            Student s = (Student) source;
+            this.studentClass = s.getStudentClass();
+            this.subjectIds = s.getSubjects().stream()
+                    .map(ids::getSubjectId)
+                    .collect(Collectors.toList());
+            this.emergencyContact = s.getEmergencyContact();
+            this.paymentStatus = s.getPaymentStatus();
+            this.assignmentStatus = s.getAssignmentStatus();
+            this.attendance = s.getAttendanceList().getRecords().stream()
+                    .map(record -> new JsonAdaptedAttendance(record, ids))
+                    .collect(Collectors.toList());
+        } else {
+            this.studentClass = null;
+            this.subjectIds = null;
+            this.emergencyContact = null;
+            this.paymentStatus = null;
+            this.assignmentStatus = null;
+            this.attendance = null;
+        }
     }
 
     @JsonProperty("type")
@@ -233,6 +299,11 @@ public class JsonAdaptedPerson {
         return isArchived;
     }
 
+    @JsonProperty("subjectIds")
+    public List<Integer> getSubjectIds() {
+        return (subjectIds == null) ? null : Collections.unmodifiableList(subjectIds);
+    }
+
     /**
      * Returns the subjects as JsonAdaptedSubject list (for testing).
      */
@@ -242,12 +313,28 @@ public class JsonAdaptedPerson {
 
     /**
      * Converts this JSON Object into a {@link Person} or {@link Student}.
+     * The person must be in the embedded layout.
      *
      * @throws IllegalValueException if any required field is missing or invalid.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(JsonIdTables.empty());
+    }
+
+    /**
+     * Converts this JSON Object into a {@link Person} or {@link Student}, resolving any subject and lesson ids
+     * through {@code ids}.
+     *
+     * @throws IllegalValueException if any required field is missing or invalid, or an id is unknown.
+     */
+    Person toModelType(JsonIdTables ids) throws IllegalValueException {
         BaseFields base = parseBaseFields();
         AttendanceList modelAttendance = parseAttendance(attendanceList);
+        if (attendance != null) {
+            for (JsonAdaptedAttendance record : attendance) {
+                record.addTo(modelAttendance, ids);
+            }
+        }
 
         if (isStudentLike()) {
             List<Subject> modelSubjects = new ArrayList<>();
@@ -256,6 +343,11 @@ public class JsonAdaptedPerson {
                     modelSubjects.add(jsonSubject.toModelType());
                 }
             }
+            if (subjectIds != null) {
+                for (Integer subjectId : subjectIds) {
+                    modelSubjects.add(ids.getSubject(subjectId));
+                }
+            }
 
             return buildStudent(base, modelAttendance, modelSubjects);
         }
@@ -290,7 +382,9 @@ public class JsonAdaptedPerson {
                 || emergencyContact != null
                 || paymentStatus != null
                 || assignmentStatus != null
-                || attendanceList != null;
+                || attendanceList != null
+                || subjectIds != null
+                || attendance != null;
     }
 
     private BaseFields parseBaseFields() throws IllegalValueException {
@@ -348,7 +442,7 @@ public class JsonAdaptedPerson {
 
             final Lesson lesson;
             try {
-                lesson = new Lesson(parts[0], parts[1]);
+                lesson = LessonRegistry.intern(parts[0], parts[1]);
             } catch (RuntimeException ex) {
                 LOGGER.warning(() -> "Bad attendance lesson in '" + recordString + "': " + ex.getMessage());
                 throw new IllegalValueException(String.format(MESSAGE_INVALID_ATTENDANCE_LESSON, recordString));
@@ -378,7 +472,7 @@ public class JsonAdaptedPerson {
                 paymentStatus,
                 assignmentStatus);
 
-        modelAttendance.getStudentAttendance()
+        modelAttendance.getRecords()
                 .forEach(r -> student.getAttendanceList().markAttendance(r.getLesson(), r.getStatus()));
 
         return student;
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of an entry in the subject table of the normalized schema.
+ * The subject's lessons are referred to by their ids in the lesson table.
+ */
+class JsonAdaptedSubjectEntry {
+
+    private final Integer id;
+    private final String name;
+    private final List<Integer> lessons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSubjectEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSubjectEntry(@JsonProperty("id") Integer id, @JsonProperty("name") String name,
+                                   @JsonProperty("lessons") List<Integer> lessons) {
+        this.id = id;
+        this.name = name;
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+    }
+
+    Integer getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<Integer> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Records that the lesson with id {@code lessonId} belongs to this subject, unless it is already recorded.
+     */
+    void addLesson(int lessonId) {
+        if (!lessons.contains(lessonId)) {
+            lessons.add(lessonId);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonList;
+import seedu.address.model.lesson.LessonRegistry;
+import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+import seedu.address.model.subject.Subject;
+
+/**
+ * The subject and lesson tables of the normalized JSON schema, through which persons refer to subjects and lessons
+ * by id instead of embedding them.
+ *
+ * Subjects are identified by name: subjects with the same name are merged into one entry with the lessons of all of
+ * them, as loading would merge them into one shared subject anyway.
+ */
+class JsonIdTables {
+
+    public static final String MESSAGE_UNKNOWN_SUBJECT = "Unknown subject id: %s";
+    public static final String MESSAGE_UNKNOWN_LESSON = "Unknown lesson id: %s";
+    public static final String MESSAGE_DUPLICATE_ID = "Duplicate id in %s table: %s";
+    public static final String MESSAGE_INVALID_ENTRY = "Invalid %s table entry with id %s";
+
+    private final List<JsonAdaptedSubjectEntry> subjectEntries = new ArrayList<>();
+    private final List<JsonAdaptedLessonEntry> lessonEntries = new ArrayList<>();
+
+    // Writing
+    private final Map<String, JsonAdaptedSubjectEntry> subjectEntriesByName = new HashMap<>();
+    private final Map<Lesson, Integer> lessonIds = new HashMap<>();
+
+    // Reading
+    private final Map<Integer, Subject> subjectsById = new HashMap<>();
+    private final Map<Integer, Lesson> lessonsById = new HashMap<>();
+
+    private JsonIdTables() {}
+
+    /**
+     * Returns tables with no entries, for data in the embedded layout.
+     */
+    static JsonIdTables empty() {
+        return new JsonIdTables();
+    }
+
+    /**
+     * Returns tables assigning ids to every subject and lesson that {@code source} refers to.
+     * Ids are assigned in the order the book lists its lessons and persons, so they are stable across saves of an
+     * unchanged book.
+     */
+    static JsonIdTables of(ReadOnlyAddressBook source) {
+        JsonIdTables ids = new JsonIdTables();
+        Set<Subject> seenSubjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        source.getLessonList().getInternalList().forEach(ids::addLesson);
+        for (List<Person> persons : List.of(source.getPersonList(), source.getArchivedPersonList())) {
+            for (Person person : persons) {
+                if (!(person instanceof Student)) {
+                    continue;
+                }
+                Student student = (Student) person;
+                for (Subject subject : student.getSubjects()) {
+                    if (seenSubjects.add(subject)) {
+                        ids.addSubject(subject);
+                    }
+                }
+                for (AttendanceRecord record : student.getAttendanceList().getRecords()) {
+                    ids.addLesson(record.getLesson());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns tables that resolve the ids in {@code subjectEntries} and {@code lessonEntries} to model objects.
+     *
+     * @throws IllegalValueException if an entry is invalid, an id is repeated or an entry refers to an unknown id.
+     */
+    static JsonIdTables fromEntries(List<JsonAdaptedSubjectEntry> subjectEntries,
+            List<JsonAdaptedLessonEntry> lessonEntries) throws IllegalValueException {
+        JsonIdTables ids = new JsonIdTables();
+        ids.subjectEntries.addAll(subjectEntries);
+        ids.lessonEntries.addAll(lessonEntries);
+
+        Map<Integer, String> subjectNames = new HashMap<>();
+        for (JsonAdaptedSubjectEntry entry : subjectEntries) {
+            if (entry.getId() == null || entry.getName() == null || entry.getName().isBlank()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "subject", entry.getId()));
+            }
+            if (subjectNames.put(entry.getId(), entry.getName()) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, "subject", entry.getId()));
+            }
+        }
+
+        for (JsonAdaptedLessonEntry entry : lessonEntries) {
+            if (entry.getId() == null || entry.getName() == null || entry.getName().isBlank()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "lesson", entry.getId()));
+            }
+            String subjectName = subjectNames.get(entry.getSubject());
+            if (subjectName == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_SUBJECT, entry.getSubject()));
+            }
+            Lesson lesson = LessonRegistry.intern(entry.getName(), subjectName);
+            if (ids.lessonsById.put(entry.getId(), lesson) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, "lesson", entry.getId()));
+            }
+        }
+
+        for (JsonAdaptedSubjectEntry entry : subjectEntries) {
+            LessonList lessonList = new LessonList(entry.getName());
+            for (Integer lessonId : entry.getLessons()) {
+                Lesson lesson = ids.getLesson(lessonId);
+                if (!lessonList.contains(lesson)) {
+                    lessonList.addLesson(lesson);
+                }
+            }
+            ids.subjectsById.put(entry.getId(), new Subject(entry.getName(), lessonList));
+        }
+        return ids;
+    }
+
+    List<JsonAdaptedSubjectEntry> getSubjectEntries() {
+        return subjectEntries;
+    }
+
+    List<JsonAdaptedLessonEntry> getLessonEntries() {
+        return lessonEntries;
+    }
+
+    /**
+     * Returns the id of the subject named like {@code subject}.
+     * The subject must have been included when these tables were built.
+     */
+    int getSubjectId(Subject subject) {
+        JsonAdaptedSubjectEntry entry = subjectEntriesByName.get(subject.getName());
+        assert entry != null : "Subject was not assigned an id: " + subject.getName();
+        return entry.getId();
+    }
+
+    /**
+     * Returns the id of {@code lesson}.
+     * The lesson must have been included when these tables were built.
+     */
+    int getLessonId(Lesson lesson) {
+        Integer id = lessonIds.get(lesson);
+        assert id != null : "Lesson was not assigned an id: " + lesson;
+        return id;
+    }
+
+    /**
+     * Returns the subject with the given id.
+     *
+     * @throws IllegalValueException if there is no such subject.
+     */
+    Subject getSubject(Integer id) throws IllegalValueException {
+        Subject subject = subjectsById.get(id);
+        if (subject == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_SUBJECT, id));
+        }
+        return subject;
+    }
+
+    /**
+     * Returns the lesson with the given id.
+     *
+     * @throws IllegalValueException if there is no such lesson.
+     */
+    Lesson getLesson(Integer id) throws IllegalValueException {
+        Lesson lesson = lessonsById.get(id);
+        if (lesson == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LESSON, id));
+        }
+        return lesson;
+    }
+
+    private void addSubject(Subject subject) {
+        JsonAdaptedSubjectEntry entry = getOrAddSubjectEntry(subject.getName());
+        for (Lesson lesson : subject.getLessons().getInternalList()) {
+            entry.addLesson(addLesson(lesson));
+        }
+    }
+
+    private JsonAdaptedSubjectEntry getOrAddSubjectEntry(String name) {
+        return subjectEntriesByName.computeIfAbsent(name, unused -> {
+            JsonAdaptedSubjectEntry entry = new JsonAdaptedSubjectEntry(subjectEntries.size(), name, null);
+            subjectEntries.add(entry);
+            return entry;
+        });
+    }
+
+    private int addLesson(Lesson lesson) {
+        Integer id = lessonIds.get(lesson);
+        if (id == null) {
+            id = lessonEntries.size();
+            int subjectId = getOrAddSubjectEntry(lesson.getSubject()).getId();
+            lessonEntries.add(new JsonAdaptedLessonEntry(id, lesson.getName(), subjectId));
+            lessonIds.put(lesson, id);
+        }
+        return id;
+    }
+}
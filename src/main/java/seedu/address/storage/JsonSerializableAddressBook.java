@@ -1,33 +1,91 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
+/**
+ * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * <p>Data is written in the normalized schema: subjects and lessons are stored once in tables, and persons refer to
+ * them by id. Data in the original embedded schema, where every student carries its own copies of its subjects and
+ * lessons, is still read, so an old file is migrated the next time it is saved.
+ */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"schemaVersion", "journalGeneration", "subjectTable", "lessonTable", "lessonList", "persons",
+    "archivedPersons"})
 class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data is not a JSON object.";
+    public static final String MESSAGE_NOT_A_LIST = "Field %s of the address book is not a list.";
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA = "Address book schema version %d is not supported.";
+    public static final String MESSAGE_INVALID_PERSONS = "Found %d invalid person(s):\n%s";
 
+    /** Version of the normalized schema. Files without a version are in the embedded schema. */
+    static final int SCHEMA_VERSION = 2;
+
+    private static final Set<String> LIST_FIELDS = Set.of("subjectTable", "lessonTable", "lessonList", "persons",
+            "students", "archivedPersons", "lessons");
+    private static final List<String> PERSON_LIST_FIELDS = List.of("persons", "students", "archivedPersons");
+
+    private final int schemaVersion;
+    /** Generation of a snapshot kept by {@code JournaledAddressBookStorage}, or null for a plain file. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalGeneration;
+    private final List<JsonAdaptedSubjectEntry> subjectTable = new ArrayList<>();
+    private final List<JsonAdaptedLessonEntry> lessonTable = new ArrayList<>();
+    private final List<Integer> lessonList = new ArrayList<>();
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedPerson> archivedPersons = new ArrayList<>();
-    private final List<JsonAdaptedSubject> subjectList = new ArrayList<>();
-    private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
+
+    /** Lessons of the address book in the embedded schema, which are only ever read. */
+    @JsonIgnore
+    private final List<JsonAdaptedLesson> embeddedLessons = new ArrayList<>();
 
     @JsonCreator
     public JsonSerializableAddressBook(
+            @JsonProperty("schemaVersion") Integer schemaVersion,
+            @JsonProperty("journalGeneration") Long journalGeneration,
+            @JsonProperty("subjectTable") List<JsonAdaptedSubjectEntry> subjectTable,
+            @JsonProperty("lessonTable") List<JsonAdaptedLessonEntry> lessonTable,
+            @JsonProperty("lessonList") List<Integer> lessonList,
             @JsonProperty("persons") List<JsonAdaptedPerson> persons,
             @JsonProperty("students") List<JsonAdaptedPerson> students,
             @JsonProperty("archivedPersons") List<JsonAdaptedPerson> archivedPersons,
             @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.schemaVersion = schemaVersion == null ? 1 : schemaVersion;
+        this.journalGeneration = journalGeneration;
+        if (subjectTable != null) {
+            this.subjectTable.addAll(subjectTable);
+        }
+        if (lessonTable != null) {
+            this.lessonTable.addAll(lessonTable);
+        }
+        if (lessonList != null) {
+            this.lessonList.addAll(lessonList);
+        }
         if (persons != null) {
             this.persons.addAll(persons);
         } else if (students != null) {
@@ -37,40 +95,246 @@ class JsonSerializableAddressBook {
             this.archivedPersons.addAll(archivedPersons);
         }
         if (lessons != null) {
-            this.lessons.addAll(lessons);
+            this.embeddedLessons.addAll(lessons);
         }
     }
 
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, in the normalized schema.
+     */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        JsonIdTables ids = JsonIdTables.of(source);
+        schemaVersion = SCHEMA_VERSION;
+        journalGeneration = null;
+        subjectTable.addAll(ids.getSubjectEntries());
+        lessonTable.addAll(ids.getLessonEntries());
+        lessonList.addAll(source.getLessonList().getInternalList().stream()
+                .map(ids::getLessonId).collect(Collectors.toList()));
         persons.addAll(source.getPersonList().stream()
-                .map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+                .map(person -> new JsonAdaptedPerson(person, ids)).collect(Collectors.toList()));
         archivedPersons.addAll(source.getArchivedPersonList().stream()
-                .map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        subjectList.addAll(source.getSubjectList().getSubjects().stream()
-                .map(JsonAdaptedSubject::new).collect(Collectors.toList()));
-        lessons.addAll(source.getLessonList().getInternalList().stream()
-                .map(JsonAdaptedLesson::new).collect(Collectors.toList()));
+                .map(person -> new JsonAdaptedPerson(person, ids)).collect(Collectors.toList()));
+    }
+
+    private JsonSerializableAddressBook(JsonSerializableAddressBook tables, List<JsonAdaptedPerson> persons,
+            List<JsonAdaptedPerson> archivedPersons) {
+        this(tables.schemaVersion, tables.journalGeneration, tables.subjectTable, tables.lessonTable,
+                tables.lessonList, persons, null, archivedPersons, tables.embeddedLessons);
+    }
+
+    /**
+     * Returns the journal generation this snapshot was written with, or 0 if it was written without one.
+     */
+    long getJournalGeneration() {
+        return journalGeneration == null ? 0 : journalGeneration;
+    }
+
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<JsonAdaptedPerson> getArchivedPersons() {
+        return archivedPersons;
+    }
+
+    /**
+     * Returns a copy of this address book with its persons replaced, keeping the subject and lesson tables and the
+     * lessons of the book.
+     */
+    JsonSerializableAddressBook withPersons(List<JsonAdaptedPerson> persons, List<JsonAdaptedPerson> archivedPersons) {
+        return new JsonSerializableAddressBook(this, persons, archivedPersons);
     }
 
+    /**
+     * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are converted in parallel on the common fork/join pool, and every invalid person is reported together.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        return toModelType(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, converting the persons on {@code pool}.
+     */
+    AddressBook toModelType(ForkJoinPool pool) throws IllegalValueException {
+        checkSchemaVersion(schemaVersion);
+        JsonIdTables ids = JsonIdTables.fromEntries(subjectTable, lessonTable);
+        ParallelPersonConverter personConverter = new ParallelPersonConverter("persons", ids, pool);
+        personConverter.addAll(persons);
+        ParallelPersonConverter archivedPersonConverter = new ParallelPersonConverter("archivedPersons", ids, pool);
+        archivedPersonConverter.addAll(archivedPersons);
+        return buildModel(personConverter, archivedPersonConverter, ids, lessonList, embeddedLessons);
+    }
+
+    /**
+     * Reads an address book from {@code parser}, converting each person to a model object as soon as it has been
+     * parsed, so that the adapted form of the whole list is never held in memory at once.
+     * Accepts the same input as {@link #toModelType()} on a deserialized {@code JsonSerializableAddressBook}, as long
+     * as the subject and lesson tables come before the persons, as they do in files written by this class.
+     * Each full batch of persons is converted in parallel before reading resumes, so reading waits for the conversion.
+     *
+     * @throws IllegalValueException if the data is not a valid address book.
+     */
+    static AddressBook readModel(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
         }
-        for (JsonAdaptedPerson jsonAdaptedPerson : archivedPersons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasArchivedPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+
+        List<JsonAdaptedSubjectEntry> subjectEntries = new ArrayList<>();
+        List<JsonAdaptedLessonEntry> lessonEntries = new ArrayList<>();
+        JsonIdTables ids = null;
+        Map<String, ParallelPersonConverter> personConverters = new HashMap<>();
+        boolean hasPersons = false;
+        List<Integer> lessonIds = new ArrayList<>();
+        List<JsonAdaptedLesson> jsonLessons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (LIST_FIELDS.contains(fieldName) && valueToken != JsonToken.START_ARRAY) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_A_LIST, fieldName));
+            }
+            if (ids == null && (PERSON_LIST_FIELDS.contains(fieldName) || fieldName.equals("lessonList"))) {
+                ids = JsonIdTables.fromEntries(subjectEntries, lessonEntries);
+                createPersonConverters(personConverters, ids);
+            }
+
+            switch (fieldName) {
+            case "schemaVersion":
+                checkSchemaVersion(JsonUtil.readValue(parser, Integer.class));
+                break;
+            case "subjectTable":
+                while (hasNextElement(parser)) {
+                    subjectEntries.add(JsonUtil.readValue(parser, JsonAdaptedSubjectEntry.class));
+                }
+                break;
+            case "lessonTable":
+                while (hasNextElement(parser)) {
+                    lessonEntries.add(JsonUtil.readValue(parser, JsonAdaptedLessonEntry.class));
+                }
+                break;
+            case "lessonList":
+                while (hasNextElement(parser)) {
+                    lessonIds.add(JsonUtil.readValue(parser, Integer.class));
+                }
+                break;
+            case "persons":
+            case "students":
+            case "archivedPersons":
+                hasPersons |= fieldName.equals("persons");
+                ParallelPersonConverter converter = personConverters.get(fieldName);
+                while (hasNextElement(parser)) {
+                    converter.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                }
+                break;
+            case "lessons":
+                while (hasNextElement(parser)) {
+                    jsonLessons.add(JsonUtil.readValue(parser, JsonAdaptedLesson.class));
+                }
+                break;
+            default:
+                parser.skipChildren();
             }
-            addressBook.addArchivedPerson(person);
         }
-        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
+
+        if (ids == null) {
+            ids = JsonIdTables.fromEntries(subjectEntries, lessonEntries);
+            createPersonConverters(personConverters, ids);
+        }
+        return buildModel(personConverters.get(hasPersons ? "persons" : "students"),
+                personConverters.get("archivedPersons"), ids, lessonIds, jsonLessons);
+    }
+
+    private static void createPersonConverters(Map<String, ParallelPersonConverter> personConverters,
+            JsonIdTables ids) {
+        for (String fieldName : PERSON_LIST_FIELDS) {
+            personConverters.put(fieldName, new ParallelPersonConverter(fieldName, ids, ForkJoinPool.commonPool()));
+        }
+    }
+
+    /**
+     * Returns an address book of the converted persons and the given lessons.
+     *
+     * @throws IllegalValueException if any person was invalid, reporting all of them, or if there are duplicate
+     *     persons or unknown lessons.
+     */
+    private static AddressBook buildModel(ParallelPersonConverter persons, ParallelPersonConverter archivedPersons,
+            JsonIdTables ids, List<Integer> lessonIds, List<JsonAdaptedLesson> jsonLessons)
+            throws IllegalValueException {
+        List<String> errors = new ArrayList<>(persons.getErrors());
+        errors.addAll(archivedPersons.getErrors());
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSONS, errors.size(),
+                    String.join("\n", errors)));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons.getPersons(), archivedPersons.getPersons());
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        for (Integer lessonId : lessonIds) {
+            addressBook.addLesson(ids.getLesson(lessonId));
+        }
+        for (JsonAdaptedLesson jsonAdaptedLesson : jsonLessons) {
             addressBook.addLesson(jsonAdaptedLesson.toModelType());
         }
         return addressBook;
     }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as a serialized
+     * {@code JsonSerializableAddressBook}, adapting one person at a time as it is written.
+     */
+    static void writeModel(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        writeModel(source, null, generator);
+    }
+
+    /**
+     * Similar to {@link #writeModel(ReadOnlyAddressBook, JsonGenerator)}, recording {@code journalGeneration} in the
+     * output unless it is null.
+     */
+    static void writeModel(ReadOnlyAddressBook source, Long journalGeneration, JsonGenerator generator)
+            throws IOException {
+        JsonIdTables ids = JsonIdTables.of(source);
+        generator.writeStartObject();
+        generator.writeNumberField("schemaVersion", SCHEMA_VERSION);
+        if (journalGeneration != null) {
+            generator.writeNumberField("journalGeneration", journalGeneration);
+        }
+        writeList(generator, "subjectTable", ids.getSubjectEntries(), Function.identity());
+        writeList(generator, "lessonTable", ids.getLessonEntries(), Function.identity());
+        writeList(generator, "lessonList", source.getLessonList().getInternalList(), ids::getLessonId);
+        writeList(generator, "persons", source.getPersonList(), person -> new JsonAdaptedPerson(person, ids));
+        writeList(generator, "archivedPersons", source.getArchivedPersonList(),
+                person -> new JsonAdaptedPerson(person, ids));
+        generator.writeEndObject();
+    }
+
+    private static <T> void writeList(JsonGenerator generator, String fieldName, List<T> items,
+            Function<T, ?> adapter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T item : items) {
+            JsonUtil.writeValue(generator, adapter.apply(item));
+        }
+        generator.writeEndArray();
+    }
+
+    private static void checkSchemaVersion(Integer version) throws IllegalValueException {
+        if (version == null || version > SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA, version));
+        }
+    }
+
+    /**
+     * Advances {@code parser} to the next element of the current list, returning false at the end of the list.
+     */
+    private static boolean hasNextElement(JsonParser parser) throws IOException {
+        return parser.nextToken() != JsonToken.END_ARRAY;
+    }
 }
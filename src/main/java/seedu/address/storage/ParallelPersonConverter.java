@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts a list of adapted persons into model persons on a fork/join pool.
+ *
+ * Persons are converted in batches as they are added, so a caller streaming them from a file holds at most one batch
+ * of adapted persons at a time. Adding the person that fills a batch converts it before returning. The converted
+ * persons keep the order in which they were added, and an invalid person does not stop the conversion: every error
+ * is recorded with the position of the person that caused it.
+ */
+class ParallelPersonConverter {
+
+    /** Number of adapted persons held before they are converted. */
+    static final int BATCH_SIZE = 4096;
+
+    /** Number of persons below which a task converts its range itself instead of splitting it. */
+    private static final int SPLIT_THRESHOLD = 64;
+
+    private final String listName;
+    private final JsonIdTables ids;
+    private final ForkJoinPool pool;
+
+    private final List<JsonAdaptedPerson> batch = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private int convertedCount;
+
+    /**
+     * Creates a converter for the list named {@code listName}, which resolves ids with {@code ids} and runs on
+     * {@code pool}.
+     */
+    ParallelPersonConverter(String listName, JsonIdTables ids, ForkJoinPool pool) {
+        requireNonNull(listName);
+        requireNonNull(ids);
+        requireNonNull(pool);
+        this.listName = listName;
+        this.ids = ids;
+        this.pool = pool;
+    }
+
+    /**
+     * Adds {@code person} to the end of the list, converting the pending batch if it is full.
+     */
+    void add(JsonAdaptedPerson person) {
+        requireNonNull(person);
+        batch.add(person);
+        if (batch.size() >= BATCH_SIZE) {
+            convertBatch();
+        }
+    }
+
+    /**
+     * Adds all of {@code persons} to the end of the list.
+     */
+    void addAll(List<JsonAdaptedPerson> persons) {
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons converted so far, in the order they were added. Invalid persons are left out.
+     */
+    List<Person> getPersons() {
+        convertBatch();
+        return Collections.unmodifiableList(persons);
+    }
+
+    /**
+     * Returns a description of every invalid person added so far, in the order they were added.
+     */
+    List<String> getErrors() {
+        convertBatch();
+        return Collections.unmodifiableList(errors);
+    }
+
+    private void convertBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Person[] converted = new Person[batch.size()];
+        IllegalValueException[] failures = new IllegalValueException[batch.size()];
+        pool.invoke(new ConvertTask(converted, failures, 0, batch.size()));
+
+        for (int i = 0; i < converted.length; i++) {
+            if (failures[i] != null) {
+                errors.add(String.format("%s[%d]: %s", listName, convertedCount + i, failures[i].getMessage()));
+            } else {
+                persons.add(converted[i]);
+            }
+        }
+        convertedCount += batch.size();
+        batch.clear();
+    }
+
+    /**
+     * Converts the persons of the pending batch in {@code [from, to)}, splitting the range while it is large.
+     * Each person's result is written to its own slot, so the tasks share no mutable state.
+     */
+    private class ConvertTask extends RecursiveAction {
+        private final Person[] converted;
+        private final IllegalValueException[] failures;
+        private final int from;
+        private final int to;
+
+        ConvertTask(Person[] converted, IllegalValueException[] failures, int from, int to) {
+            this.converted = converted;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        converted[i] = batch.get(i).toModelType(ids);
+                    } catch (IllegalValueException e) {
+                        failures[i] = e;
+                    }
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConvertTask(converted, failures, from, mid),
+                    new ConvertTask(converted, failures, mid, to));
+        }
+    }
+}
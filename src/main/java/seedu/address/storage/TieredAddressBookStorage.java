@@ -0,0 +1,336 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ArchiveLoader;
+import seedu.address.model.DataShard;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.LessonList;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.SubjectList;
+
+/**
+ * A class to access AddressBook data stored in two tiers: the current persons and lessons in the data file, kept by
+ * another {@code AddressBookStorage}, and the archived persons in an archive file next to it.
+ *
+ * The archive file is read on a background thread and handed to the address book only when archived data is first
+ * accessed, so startup time depends on the current persons alone.
+ *
+ * Each file is written only when the {@link DataShard}s it holds have changed since this storage last read or wrote
+ * them, as told by the shard versions of the address book. A data file that holds archived persons takes precedence
+ * over the archive file. Such a file is read as it is, as saved before the archive was split off, and split on the
+ * next save.
+ *
+ * An archive file that cannot be read is kept: it is renamed to a backup before the archive is next written.
+ */
+public class TieredAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(TieredAddressBookStorage.class);
+
+    private static final String ARCHIVE_SUFFIX = ".archive";
+    private static final String BACKUP_SUFFIX = ".bak";
+
+    /** Shard version that matches no address book, so that the shard is written on the next save. */
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final AddressBookStorage currentStorage;
+    private final DataFileFormat archiveFormat;
+
+    /** Versions of the shards as last read from or written to the default files. */
+    private final Map<DataShard, Long> savedVersions = new EnumMap<>(DataShard.class);
+
+    /** Whether the default data file holds the archived persons, which then take precedence over the archive file. */
+    private boolean isArchiveInDataFile;
+
+    /** An archive file that could not be read, and is to be backed up before it is overwritten, or null. */
+    private volatile Path unreadableArchiveFilePath;
+
+    /**
+     * Creates a storage that keeps the current data in {@code currentStorage} and writes the archive file in
+     * {@code archiveFormat}. An archive file in the other format can still be read.
+     */
+    public TieredAddressBookStorage(AddressBookStorage currentStorage, DataFileFormat archiveFormat) {
+        requireAllNonNull(currentStorage, archiveFormat);
+        this.currentStorage = currentStorage;
+        this.archiveFormat = archiveFormat;
+        for (DataShard shard : DataShard.values()) {
+            savedVersions.put(shard, UNKNOWN_VERSION);
+        }
+    }
+
+    /**
+     * Returns the path of the archive file for the data file at {@code filePath}.
+     * For example, the archive of {@code data/addressbook.json} is {@code data/addressbook.archive.json}.
+     */
+    public static Path getArchiveFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String archiveFileName = extensionStart > 0
+                ? fileName.substring(0, extensionStart) + ARCHIVE_SUFFIX + fileName.substring(extensionStart)
+                : fileName + ARCHIVE_SUFFIX;
+        return filePath.resolveSibling(archiveFileName);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return currentStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The archived persons of the returned address book are loaded on first access, unless the data file itself
+     * still holds them.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the current data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path archiveFilePath = getArchiveFilePath(filePath);
+        Optional<ReadOnlyAddressBook> currentData = currentStorage.readAddressBook(filePath);
+        if (!currentData.isPresent() && !Files.exists(archiveFilePath)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = currentData.map(TieredAddressBookStorage::toAddressBook)
+                .orElseGet(AddressBook::new);
+        boolean hasArchiveInDataFile = !addressBook.getArchivedPersonList().isEmpty();
+        if (hasArchiveInDataFile) {
+            logger.info("Data file " + filePath + " holds archived persons; they will be moved to "
+                    + archiveFilePath + " on the next save.");
+        } else if (Files.exists(archiveFilePath)) {
+            addressBook.setArchiveLoader(startLoadingArchive(archiveFilePath,
+                    () -> unreadableArchiveFilePath = archiveFilePath));
+        }
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            markSaved(addressBook, DataShard.values());
+            isArchiveInDataFile = hasArchiveInDataFile;
+            if (hasArchiveInDataFile) {
+                savedVersions.put(DataShard.ARCHIVED_PERSONS, UNKNOWN_VERSION);
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the files holding shards that changed since this storage last read or wrote them are written, and the
+     * archive is written only if it is loaded. Each file is replaced as a whole, and the files are written in an
+     * order that leaves one consistent version of the address book to read if a save fails part way:
+     * <ul>
+     *     <li>If both files need writing, the whole address book is first written to the data file, where it takes
+     *     precedence over the old archive file. The archive file and the data file without archived persons follow.
+     *     <li>An archive file is only written while the data file holds the archived persons, or when the data file
+     *     does not need writing.
+     * </ul>
+     * Every file is written when saving to a path other than the default one.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            if (addressBook.isArchiveLoaded()) {
+                saveArchive(addressBook, filePath);
+            }
+            saveCurrent(addressBook, filePath);
+            return;
+        }
+
+        boolean isCurrentChanged = isChanged(addressBook, DataShard.PERSONS)
+                || isChanged(addressBook, DataShard.LESSONS);
+        boolean isArchiveChanged = addressBook.isArchiveLoaded() && isChanged(addressBook, DataShard.ARCHIVED_PERSONS);
+        if (isCurrentChanged && isArchiveChanged && !isArchiveInDataFile) {
+            currentStorage.saveAddressBook(addressBook, filePath);
+            markSaved(addressBook, DataShard.PERSONS, DataShard.LESSONS);
+            isArchiveInDataFile = true;
+        }
+        if (isArchiveChanged) {
+            saveArchive(addressBook, filePath);
+            markSaved(addressBook, DataShard.ARCHIVED_PERSONS);
+        }
+        if (isCurrentChanged || isArchiveInDataFile) {
+            saveCurrent(addressBook, filePath);
+            markSaved(addressBook, DataShard.PERSONS, DataShard.LESSONS);
+            isArchiveInDataFile = false;
+        }
+    }
+
+    private boolean isChanged(ReadOnlyAddressBook addressBook, DataShard shard) {
+        return addressBook.getShardVersion(shard) != savedVersions.get(shard);
+    }
+
+    private void markSaved(ReadOnlyAddressBook addressBook, DataShard... shards) {
+        for (DataShard shard : shards) {
+            savedVersions.put(shard, addressBook.getShardVersion(shard));
+        }
+    }
+
+    /**
+     * Writes the archived persons to the archive file of {@code filePath}, replacing any existing file in one step.
+     */
+    private void saveArchive(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path archiveFilePath = getArchiveFilePath(filePath);
+        if (archiveFilePath.equals(unreadableArchiveFilePath)) {
+            backUpUnreadableArchive(archiveFilePath);
+        }
+        ReadOnlyAddressBook archive = new PartialAddressBook(FXCollections.emptyObservableList(),
+                addressBook.getArchivedPersonList(), new SubjectList(), new LessonList());
+        if (archiveFormat == DataFileFormat.BINARY) {
+            // The binary backend already writes a temporary file and moves it into place.
+            new BinaryAddressBookStorage(archiveFilePath).saveAddressBook(archive);
+            return;
+        }
+
+        Path tempPath = archiveFilePath.resolveSibling(archiveFilePath.getFileName() + ".tmp");
+        new JsonAddressBookStorage(tempPath).saveAddressBook(archive);
+        Files.move(tempPath, archiveFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Renames the unreadable archive file at {@code archiveFilePath} to a backup that is never overwritten, so that
+     * writing the archive does not destroy the archived persons it may still hold.
+     */
+    private void backUpUnreadableArchive(Path archiveFilePath) throws IOException {
+        if (Files.exists(archiveFilePath)) {
+            Path backupPath = archiveFilePath.resolveSibling(archiveFilePath.getFileName() + "."
+                    + System.currentTimeMillis() + BACKUP_SUFFIX);
+            Files.move(archiveFilePath, backupPath, StandardCopyOption.ATOMIC_MOVE);
+            logger.warning("Unreadable archive file " + archiveFilePath + " was backed up to " + backupPath);
+        }
+        unreadableArchiveFilePath = null;
+    }
+
+    private void saveCurrent(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        currentStorage.saveAddressBook(new PartialAddressBook(addressBook.getPersonList(),
+                FXCollections.emptyObservableList(), addressBook.getSubjectList(), addressBook.getLessonList()),
+                filePath);
+    }
+
+    private static AddressBook toAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBook ? (AddressBook) addressBook : new AddressBook(addressBook);
+    }
+
+    /**
+     * Starts reading the archive file at {@code archiveFilePath} on a background thread, and returns a loader that
+     * waits for it to finish. {@code onUnreadable} is run if the loader fails because the file could not be read.
+     */
+    private static ArchiveLoader startLoadingArchive(Path archiveFilePath, Runnable onUnreadable) {
+        FutureTask<List<Person>> archiveRead = new FutureTask<>(() -> readArchive(archiveFilePath));
+        Thread thread = new Thread(archiveRead, "archive-loader");
+        thread.setDaemon(true);
+        thread.start();
+
+        return () -> {
+            try {
+                return archiveRead.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    onUnreadable.run();
+                }
+                if (cause instanceof DataLoadingException) {
+                    throw (DataLoadingException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new DataLoadingException((Exception) cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataLoadingException(e);
+            }
+        };
+    }
+
+    private static List<Person> readArchive(Path archiveFilePath) throws DataLoadingException {
+        long start = System.nanoTime();
+        AddressBookStorage archiveStorage;
+        try {
+            archiveStorage = BinaryAddressBookStorage.isBinaryFile(archiveFilePath)
+                    ? new BinaryAddressBookStorage(archiveFilePath)
+                    : new JsonAddressBookStorage(archiveFilePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        List<Person> archivedPersons = archiveStorage.readAddressBook()
+                .map(archive -> List.copyOf(archive.getArchivedPersonList()))
+                .orElse(List.of());
+        logger.fine(() -> String.format("Read %d archived persons from %s in %.1f ms", archivedPersons.size(),
+                archiveFilePath, (System.nanoTime() - start) / 1e6));
+        return archivedPersons;
+    }
+
+    /**
+     * A view of part of an address book, which is what each tier stores.
+     */
+    private static class PartialAddressBook implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Person> archivedPersons;
+        private final SubjectList subjectList;
+        private final LessonList lessonList;
+
+        PartialAddressBook(ObservableList<Person> persons, ObservableList<Person> archivedPersons,
+                SubjectList subjectList, LessonList lessonList) {
+            this.persons = persons;
+            this.archivedPersons = archivedPersons;
+            this.subjectList = subjectList;
+            this.lessonList = lessonList;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Person> getArchivedPersonList() {
+            return archivedPersons;
+        }
+
+        @Override
+        public SubjectList getSubjectList() {
+            return subjectList;
+        }
+
+        @Override
+        public LessonList getLessonList() {
+            return lessonList;
+        }
+    }
+}
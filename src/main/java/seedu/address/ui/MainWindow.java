@@ -112,7 +112,6 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        archivedPersonListPanel = new ArchivedPersonListPanel(logic.getFilteredArchivedPersonList()); // THIS LINE
 
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
@@ -174,6 +173,10 @@ public class MainWindow extends UiPart<Stage> {
      * Switches to show archived persons list.
      */
     private void showArchivedPersonList() {
+        if (archivedPersonListPanel == null) {
+            // Created on first use, as building it loads the archived persons
+            archivedPersonListPanel = new ArchivedPersonListPanel(logic.getFilteredArchivedPersonList());
+        }
         personListPanelPlaceholder.getChildren().clear();
         personListPanelPlaceholder.getChildren().add(archivedPersonListPanel.getRoot());
     }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,10 +40,74 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchScriptPath_success() {
+        parametersStub.namedParameters.put("batch", "script.txt");
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_batchScriptPathAfterFlag_success() {
+        parametersStub.unnamedParameters.addAll(List.of("--batch", "term start.txt"));
+        expected.setBatchScriptPath(Paths.get("term start.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_batchFlagWithoutPath_startsNormally() {
+        parametersStub.unnamedParameters.add("--batch");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_headlessFlag_success() {
+        parametersStub.unnamedParameters.add("--headless");
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_apiPort_success() {
+        parametersStub.namedParameters.put("api-port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_apiPortAfterFlag_success() {
+        parametersStub.unnamedParameters.addAll(List.of("--api-port", "0"));
+        expected.setApiPort(0);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidApiPort_notServed() {
+        parametersStub.namedParameters.put("api-port", "http");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("api-port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawParameters_sameAsJavaFx() {
+        parametersStub.namedParameters.put("config", "config.json");
+        parametersStub.unnamedParameters.addAll(List.of("--headless", "--batch", "script.txt"));
+        assertEquals(AppParameters.parse(parametersStub),
+                AppParameters.parse(List.of("--config=config.json", "--headless", "--batch", "script.txt")));
+
+        expected.setBatchScriptPath(Paths.get("a=b.txt"));
+        assertEquals(expected, AppParameters.parse(List.of("--batch=a=b.txt")));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchScriptPath=" + appParameters.getBatchScriptPath()
+                + ", isHeadless=" + appParameters.isHeadless()
+                + ", apiPort=" + appParameters.getApiPort() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,10 +131,26 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different headless flag -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setHeadless(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different command API port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setApiPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
+        private List<String> unnamedParameters = new ArrayList<>();
 
         @Override
         public List<String> getRaw() {
@@ -78,7 +159,7 @@ public class AppParametersTest {
 
         @Override
         public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
+            return Collections.unmodifiableList(unnamedParameters);
         }
 
         @Override
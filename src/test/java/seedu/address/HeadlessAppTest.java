@@ -0,0 +1,95 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("tutortrack.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(new ModelManager(), storage),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_commandsUntilEndOfInput_resultsPrinted() throws Exception {
+        assertEquals(1, app.run(reader("list", "", "unknowncommand", "list"), false));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + ListCommand.MESSAGE_SUCCESS + "\n", output(out));
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + "\n", output(err));
+    }
+
+    @Test
+    public void run_exitCommand_remainingLinesNotRun() throws Exception {
+        assertEquals(0, app.run(reader(ExitCommand.COMMAND_WORD, "list"), false));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + "\n", output(out));
+    }
+
+    @Test
+    public void run_interactive_promptBeforeEachLine() throws Exception {
+        app.run(reader("list"), true);
+        assertEquals(HeadlessApp.PROMPT + ListCommand.MESSAGE_SUCCESS + "\n" + HeadlessApp.PROMPT, output(out));
+    }
+
+    @Test
+    public void runScript_validScript_resultPrinted() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of("list"));
+        assertTrue(app.runScript(scriptPath));
+        assertTrue(output(out).startsWith("Ran 1 of 1 commands"));
+    }
+
+    @Test
+    public void runScript_failingLine_returnsFalse() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("failing.txt");
+        Files.write(scriptPath, List.of("list", "unknowncommand"));
+        assertFalse(app.runScript(scriptPath));
+        assertTrue(output(out).startsWith("Ran 1 of 2 commands"));
+    }
+
+    @Test
+    public void runScript_missingScript_returnsFalse() {
+        assertFalse(app.runScript(temporaryFolder.resolve("missing.txt")));
+        assertTrue(output(err).startsWith("Could not open script file"));
+    }
+
+    private static BufferedReader reader(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Measures the latency of the command API with a few hundred clients sending requests at once: mostly attendance
+ * queries, some student list queries, and attendance commands.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class CommandServerBenchmark {
+
+    private static final int STUDENT_COUNT = 1_000;
+    private static final int LESSON_COUNT = 10;
+    private static final int CLIENT_COUNT = 300;
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    /** One in this many requests is a command, and one in this many is a student list query. */
+    private static final int COMMAND_INTERVAL = 10;
+    private static final int STUDENT_LIST_INTERVAL = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void concurrentClients() throws Exception {
+        Logic logic = createLogic();
+        String token = CommandServer.createToken();
+        CommandServer server = new CommandServer(logic, 0, Runnable::run, token, false);
+        server.start();
+
+        HttpClient client = HttpClient.newHttpClient();
+        String baseUri = "http://127.0.0.1:" + server.getPort();
+        ConcurrentLinkedQueue<Long> queryNanos = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Long> commandNanos = new ConcurrentLinkedQueue<>();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int c = 0; c < CLIENT_COUNT; c++) {
+            int clientIndex = c;
+            results.add(clients.submit(() -> {
+                startSignal.await();
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    int i = clientIndex * REQUESTS_PER_CLIENT + r;
+                    boolean isCommand = i % COMMAND_INTERVAL == 0;
+                    HttpRequest request = isCommand
+                            ? HttpRequest.newBuilder(URI.create(baseUri + CommandServer.COMMANDS_PATH))
+                                    .header("Authorization", CommandServer.AUTHORIZATION_SCHEME + token)
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofString(markAttendanceCommand(i))).build()
+                            : HttpRequest.newBuilder(URI.create(baseUri + queryPath(i)))
+                                    .header("Authorization", CommandServer.AUTHORIZATION_SCHEME + token)
+                                    .GET().build();
+
+                    long start = System.nanoTime();
+                    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                    (isCommand ? commandNanos : queryNanos).add(System.nanoTime() - start);
+                    assertEquals(CommandServer.STATUS_OK, response.statusCode(), response.body());
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startSignal.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        clients.shutdown();
+        server.stop();
+        logic.shutdown();
+
+        int requestCount = CLIENT_COUNT * REQUESTS_PER_CLIENT;
+        System.out.printf("%,d clients, %,d requests in %.2f s, %,.0f requests/s%n", CLIENT_COUNT, requestCount,
+                seconds, requestCount / seconds);
+        printLatencies("queries", queryNanos);
+        printLatencies("commands", commandNanos);
+    }
+
+    private Logic createLogic() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("tutortrack.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+        Logic logic = new LogicManager(new ModelManager(), storage);
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            logic.execute("add n/\"Student " + toLetters(i) + "\" c/3B s/Math ec/9" + (1_000_000 + i));
+        }
+        for (int i = 0; i < LESSON_COUNT; i++) {
+            logic.execute("addlesson s/Math n/Lesson" + toLetters(i));
+        }
+        return logic;
+    }
+
+    private static String markAttendanceCommand(int i) {
+        return "{\"" + CommandServer.COMMAND_FIELD + "\":\"markattendance n/Student " + toLetters(i % STUDENT_COUNT)
+                + " s/Math l/Lesson" + toLetters(i % LESSON_COUNT) + " st/PRESENT\"}";
+    }
+
+    private static String queryPath(int i) {
+        if (i % STUDENT_LIST_INTERVAL == 1) {
+            return CommandServer.STUDENTS_PATH;
+        }
+        return CommandServer.ATTENDANCE_PATH + "?" + CommandServer.STUDENT_PARAMETER + "=Student+"
+                + toLetters(i % STUDENT_COUNT);
+    }
+
+    private static void printLatencies(String kind, ConcurrentLinkedQueue<Long> nanos) {
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        System.out.printf("%s: %,d, latency p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, max %.1f ms%n", kind,
+                sorted.size(), percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                sorted.get(sorted.size() - 1) / 1e6);
+    }
+
+    private static double percentile(List<Long> sorted, int percent) {
+        return sorted.get((sorted.size() - 1) * percent / 100) / 1e6;
+    }
+
+    private static String toLetters(int i) {
+        return "" + (char) ('a' + i / 676 % 26) + (char) ('a' + i / 26 % 26) + (char) ('a' + i % 26);
+    }
+}
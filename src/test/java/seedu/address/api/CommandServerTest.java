@@ -0,0 +1,185 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.StudentBuilder;
+
+public class CommandServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private static final String TOKEN = "test-token";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private CommandServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Model model = new ModelManager();
+        model.addPerson(new StudentBuilder().build());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("tutortrack.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new CommandServer(new LogicManager(model, storage), 0, Runnable::run, TOKEN, false);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void commands_markAttendance_attendanceQueryUpdated() throws Exception {
+        HttpResponse<String> response = post("addlesson s/Math n/Algebra");
+        assertEquals(CommandServer.STATUS_OK, response.statusCode());
+        assertTrue(response.body().contains("\"exit\":false"));
+
+        String attendance = get("/attendance?student=ben%20tan").body();
+        assertTrue(attendance.startsWith("{\"student\":\"Ben Tan\""));
+        assertTrue(attendance.contains("\"lesson\":\"Algebra\""));
+        assertFalse(attendance.contains("PRESENT"));
+
+        assertEquals(CommandServer.STATUS_OK,
+                post("markattendance n/Ben Tan s/Math l/Algebra st/PRESENT").statusCode());
+        assertTrue(get("/attendance?student=Ben+Tan").body().contains("PRESENT"));
+        assertTrue(get("/attendance?student=Ben+Tan&subject=Science").body().endsWith("\"attendance\":[]}"));
+    }
+
+    @Test
+    public void students_afterCommand_snapshotTakenAgain() throws Exception {
+        HttpResponse<String> response = get("/students");
+        assertEquals(CommandServer.STATUS_OK, response.statusCode());
+        assertTrue(response.body().contains("\"name\":\"Ben Tan\""));
+        assertFalse(response.body().contains("Amy Lee"));
+
+        ApiSnapshot snapshot = server.getSnapshot();
+        get("/students");
+        assertEquals(snapshot, server.getSnapshot());
+
+        assertEquals(CommandServer.STATUS_OK, post("add n/\"Amy Lee\" c/3B s/Math ec/91234567").statusCode());
+        assertTrue(get("/students").body().contains("\"name\":\"Amy Lee\""));
+    }
+
+    @Test
+    public void commands_invalidCommand_badRequest() throws Exception {
+        assertError(CommandServer.STATUS_BAD_REQUEST, MESSAGE_UNKNOWN_COMMAND, post("unknowncommand"));
+    }
+
+    @Test
+    public void attendance_invalidQuery_errorReturned() throws Exception {
+        assertError(CommandServer.STATUS_BAD_REQUEST,
+                String.format(CommandServer.MESSAGE_MISSING_PARAMETER, CommandServer.STUDENT_PARAMETER),
+                get("/attendance"));
+        assertError(CommandServer.STATUS_NOT_FOUND,
+                String.format(CommandServer.MESSAGE_STUDENT_NOT_FOUND, "Nobody"),
+                get("/attendance?student=Nobody"));
+    }
+
+    @Test
+    public void request_wrongPathOrMethod_errorReturned() throws Exception {
+        assertError(CommandServer.STATUS_NOT_FOUND, String.format(CommandServer.MESSAGE_NOT_FOUND, "/students/1"),
+                get("/students/1"));
+        assertError(CommandServer.STATUS_METHOD_NOT_ALLOWED,
+                String.format(CommandServer.MESSAGE_METHOD_NOT_ALLOWED, CommandServer.COMMANDS_PATH, "POST"),
+                get(CommandServer.COMMANDS_PATH));
+    }
+
+    @Test
+    public void request_missingOrWrongToken_unauthorized() throws Exception {
+        assertError(CommandServer.STATUS_UNAUTHORIZED, CommandServer.MESSAGE_UNAUTHORIZED,
+                client.send(HttpRequest.newBuilder(uri(CommandServer.STUDENTS_PATH)).GET().build(),
+                        HttpResponse.BodyHandlers.ofString()));
+        assertError(CommandServer.STATUS_UNAUTHORIZED, CommandServer.MESSAGE_UNAUTHORIZED,
+                send(commandRequest(JsonUtil.toCompactJsonString(Map.of(CommandServer.COMMAND_FIELD, "list")))
+                        .setHeader("Authorization", CommandServer.AUTHORIZATION_SCHEME + "wrong-token")));
+    }
+
+    @Test
+    public void request_fromWebPage_forbidden() throws Exception {
+        assertError(CommandServer.STATUS_FORBIDDEN, CommandServer.MESSAGE_CROSS_ORIGIN,
+                send(authorized(uri(CommandServer.STUDENTS_PATH)).header("Origin", "http://example.com").GET()));
+    }
+
+    @Test
+    public void commands_notJson_rejected() throws Exception {
+        assertError(CommandServer.STATUS_UNSUPPORTED_MEDIA_TYPE, CommandServer.MESSAGE_UNSUPPORTED_MEDIA_TYPE,
+                send(authorized(uri(CommandServer.COMMANDS_PATH)).header("Content-Type", "text/plain")
+                        .POST(HttpRequest.BodyPublishers.ofString("clearcurrent"))));
+        String invalidBody = String.format(CommandServer.MESSAGE_INVALID_BODY, CommandServer.COMMAND_FIELD);
+        assertError(CommandServer.STATUS_BAD_REQUEST, invalidBody, send(commandRequest("clearcurrent")));
+        assertError(CommandServer.STATUS_BAD_REQUEST, invalidBody, send(commandRequest("{\"command\":1}")));
+    }
+
+    @Test
+    public void writeTokenFile_posixFileSystem_readableByOwnerOnly() throws Exception {
+        Path tokenFile = temporaryFolder.resolve("data").resolve("api-token");
+        String token = CommandServer.createToken();
+        CommandServer.writeTokenFile(token, tokenFile);
+        CommandServer.writeTokenFile(token, tokenFile);
+
+        assertEquals(token, Files.readString(tokenFile));
+        assertNotEquals(token, CommandServer.createToken());
+        if (Files.getFileStore(tokenFile).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(tokenFile));
+        }
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return send(authorized(uri(pathAndQuery)).GET());
+    }
+
+    private HttpResponse<String> post(String commandText) throws Exception {
+        return send(commandRequest(JsonUtil.toCompactJsonString(Map.of(CommandServer.COMMAND_FIELD, commandText))));
+    }
+
+    private HttpRequest.Builder commandRequest(String body) {
+        return authorized(uri(CommandServer.COMMANDS_PATH)).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static HttpRequest.Builder authorized(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Authorization", CommandServer.AUTHORIZATION_SCHEME + TOKEN);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery);
+    }
+
+    private static void assertError(int expectedStatus, String expectedMessage, HttpResponse<String> response)
+            throws Exception {
+        assertEquals(expectedStatus, response.statusCode());
+        assertEquals(JsonUtil.toCompactJsonString(Map.of("error", expectedMessage)), response.body());
+    }
+}
@@ -27,6 +27,19 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_noWhitespace() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), "{\"name\":\"This is a test class\","
+                + "\"listOfLocalDateTimes\":[\"-999999999-01-01T00:00:00\",\"+999999999-12-31T23:59:59.999999999\","
+                + "\"0001-01-01T01:01:00\"],"
+                + "\"mapOfIntegerToString\":{\"1\":\"One\",\"2\":\"Two\",\"3\":\"Three\"}}");
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
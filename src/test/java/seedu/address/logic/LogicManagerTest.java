@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -8,15 +10,26 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ListArchiveCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -24,6 +37,8 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -66,6 +81,176 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void executeKeepingView_viewCommand_throwsCommandException() throws Exception {
+        model.setViewingArchived(false);
+        assertThrows(CommandException.class, LogicManager.MESSAGE_VIEW_COMMAND_NOT_ALLOWED, () ->
+                logic.executeKeepingView(ListArchiveCommand.COMMAND_WORD));
+        assertFalse(model.isViewingArchived());
+
+        logic.executeKeepingView(AddCommand.COMMAND_WORD + " n/\"John Tan\" c/3B s/Math ec/91234567");
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertThrows(CommandException.class, LogicManager.MESSAGE_VIEW_COMMAND_NOT_ALLOWED, () ->
+                logic.executeKeepingView(EditCommand.COMMAND_WORD + " 1 c/4A"));
+        assertEquals("3B", ((Student) model.getFilteredPersonList().get(0)).getStudentClass());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_errorReportedInResult() throws Exception {
+        assertSaveErrorReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_storageThrowsAdException_errorReportedInResult() throws Exception {
+        assertSaveErrorReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_validCommand_savedInBackground() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("tutortrack.json");
+        logic.execute(AddCommand.COMMAND_WORD
+                + " n/\"John Tan\" c/3B s/Math ec/91234567");
+        logic.flushSaves();
+
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_readOnlyOrUnchangingCommands_notSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("tutortrack.json");
+        assertEquals(0, logic.getSaveSkipRate());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(1, logic.getSaveSkipRate());
+
+        logic.execute(AddCommand.COMMAND_WORD + " n/\"John Tan\" c/3B s/Math ec/91234567");
+        logic.flushSaves();
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(2.0 / 3, logic.getSaveSkipRate());
+    }
+
+    @Test
+    public void execute_runCommand_savedOnce() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(AddCommand.COMMAND_WORD + " n/\"John Tan\" c/3B s/Math ec/91234567",
+                AddCommand.COMMAND_WORD + " n/\"Amy Lee\" c/3B s/Math ec/91234568"));
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("tutortrack.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), 0);
+
+        logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+        logic.flushSaves();
+
+        assertEquals(1, saveCount[0]);
+        assertEquals(2, addressBookStorage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_concurrentCommandsAndSaves_snapshotsUnchanged() throws Exception {
+        int studentCount = 20;
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("tutortrack.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), 0);
+        for (int i = 0; i < studentCount; i++) {
+            logic.execute(AddCommand.COMMAND_WORD + " n/\"Student " + (char) ('a' + i) + "\" c/3B s/Math ec/"
+                    + (91_000_000 + i));
+        }
+        logic.execute("addlesson s/Math n/Algebra");
+
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        for (int w = 0; w < 2; w++) {
+            int writer = w;
+            results.add(threads.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    logic.execute("markattendance n/Student " + (char) ('a' + i % studentCount)
+                            + " s/Math l/Algebra st/" + ((i + writer) % 2 == 0 ? "PRESENT" : "ABSENT"));
+                }
+                return null;
+            }));
+        }
+        for (int r = 0; r < 2; r++) {
+            results.add(threads.submit(() -> {
+                long lastVersion = 0;
+                for (int i = 0; i < 200; i++) {
+                    ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+                    assertTrue(snapshot.getVersion() >= lastVersion);
+                    lastVersion = snapshot.getVersion();
+
+                    String attendance = describeAttendance(snapshot);
+                    Thread.yield();
+                    assertEquals(attendance, describeAttendance(snapshot));
+                    assertEquals(studentCount, snapshot.getPersonList().size());
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        threads.shutdown();
+        logic.flushSaves();
+
+        assertEquals(describeAttendance(model.getAddressBook()), describeAttendance(logic.getAddressBookSnapshot()));
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(temporaryFolder.resolve("tutortrack.json"))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void execute_attendanceMarkedWithJournaledStorage_onlyChangedStudentJournaled() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("tutortrack.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(addressBookPath);
+        logic = new LogicManager(model, new StorageManager(new JournaledAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), 0);
+        for (int i = 0; i < 20; i++) {
+            logic.execute(AddCommand.COMMAND_WORD + " n/\"Student " + (char) ('a' + i) + "\" c/3B s/Math ec/"
+                    + (91_000_000 + i));
+        }
+        logic.execute("addlesson s/Math n/Algebra");
+        logic.flushSaves();
+        assertFalse(Files.exists(journalPath));
+
+        // Saves go through snapshots, which copy the changed student; each save journals that student alone
+        logic.execute("markattendance n/Student h s/Math l/Algebra st/PRESENT");
+        logic.flushSaves();
+        logic.execute("markattendance n/Student h s/Math l/Algebra st/LATE");
+        logic.flushSaves();
+
+        List<String> journal = Files.readAllLines(journalPath);
+        assertEquals(3, journal.size());
+        for (String entry : journal.subList(1, journal.size())) {
+            assertTrue(entry.contains("\"person\"") && entry.contains("Student h"));
+            assertFalse(entry.contains("\"order\""));
+        }
+        assertEquals(describeAttendance(model.getAddressBook()),
+                describeAttendance(new JournaledAddressBookStorage(addressBookPath).readAddressBook().get()));
+    }
+
+    private static String describeAttendance(ReadOnlyAddressBook addressBook) {
+        StringBuilder description = new StringBuilder();
+        for (Person person : addressBook.getPersonList()) {
+            Student student = (Student) person;
+            description.append(student.getName()).append(':');
+            student.getAttendanceList().getRecords().forEach(record -> description.append(record.getStatus()));
+            description.append(';');
+        }
+        return description.toString();
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -128,16 +313,24 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported to the user by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveErrorReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving,
+        // once the test allows saves to proceed
+        CountDownLatch saveAllowed = new CountDownLatch(1);
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
                     throws IOException {
+                try {
+                    saveAllowed.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
                 throw e;
             }
         };
@@ -146,15 +339,18 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, 0);
 
-        // Triggers the saveAddressBook method by executing an add command
+        // Triggers a background save by executing an add command, which cannot fail before the command returns;
+        // flushing runs after it on the save thread
         String addCommand = AddCommand.COMMAND_WORD
-            + " n/John Tan c/3B s/Math s/Science ec/91234567 att/Present pay/Paid asg/Completed";
+            + " n/\"John Tan\" c/3B s/Math s/Science ec/91234567";
+        logic.execute(addCommand);
+        saveAllowed.countDown();
+        assertThrows(IOException.class, e.getMessage(), logic::flushSaves);
 
-        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        // The failed background save is reported with the result of the next command, once only
+        CommandResult result = logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + expectedMessage, result.getFeedbackToUser());
     }
 }
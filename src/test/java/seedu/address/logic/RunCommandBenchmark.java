@@ -0,0 +1,98 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.AddressBookFileConverter;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TieredAddressBookStorage;
+
+/**
+ * Measures the throughput, in commands per second, of a 10k-line term start script: adding students, adding lessons
+ * and marking attendance. Compares running it with {@code run}, which saves once at the end, with entering the same
+ * lines one at a time and saving after each, as typing them into the command box does.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class RunCommandBenchmark {
+
+    private static final int STUDENT_COUNT = 5_000;
+    private static final int LESSON_COUNT = 20;
+    private static final int SCRIPT_LINES = 10_000;
+
+    /** Lines entered one at a time; the rest of the script would take minutes this way. */
+    private static final int TYPED_LINES = 1_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void compareRunWithTypedCommands() throws Exception {
+        List<String> script = createScript();
+        Path scriptPath = testFolder.resolve("term-start.txt");
+        Files.write(scriptPath, script);
+
+        LogicManager batchLogic = createLogic(testFolder.resolve("batch"));
+        long start = System.nanoTime();
+        String feedback = batchLogic.execute(RunCommand.COMMAND_WORD + " " + scriptPath).getFeedbackToUser();
+        batchLogic.flushSaves();
+        double batchSeconds = (System.nanoTime() - start) / 1e9;
+        assertEquals(STUDENT_COUNT, batchLogic.getAddressBook().getPersonList().size());
+
+        LogicManager typedLogic = createLogic(testFolder.resolve("typed"));
+        start = System.nanoTime();
+        for (String line : script.subList(0, TYPED_LINES)) {
+            typedLogic.execute(line);
+            typedLogic.flushSaves();
+        }
+        double typedSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println(feedback.lines().findFirst().orElse(feedback));
+        System.out.printf("run, including the save: %,d lines in %.2f s, %,.0f commands/s%n", SCRIPT_LINES,
+                batchSeconds, SCRIPT_LINES / batchSeconds);
+        System.out.printf("one line at a time, saving after each: first %,d lines in %.2f s, %,.0f commands/s%n",
+                TYPED_LINES, typedSeconds, TYPED_LINES / typedSeconds);
+    }
+
+    private static LogicManager createLogic(Path folder) {
+        Path dataFile = folder.resolve("tutortrack.json");
+        StorageManager storage = new StorageManager(
+                new TieredAddressBookStorage(AddressBookFileConverter.createStorage(dataFile, DataFileFormat.JSON),
+                        DataFileFormat.JSON),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+        Model model = new ModelManager();
+        return new LogicManager(model, storage, 0);
+    }
+
+    private static List<String> createScript() {
+        List<String> script = new ArrayList<>();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            script.add("add n/\"Student " + toLetters(i) + "\" c/3B s/Math s/Science ec/9" + (1_000_000 + i));
+        }
+        for (int i = 0; i < LESSON_COUNT; i++) {
+            script.add("addlesson s/" + (i % 2 == 0 ? "Math" : "Science") + " n/Lesson" + toLetters(i));
+        }
+        for (int i = 0; script.size() < SCRIPT_LINES; i++) {
+            script.add("markattendance n/Student " + toLetters(i % STUDENT_COUNT) + " s/Math l/Lesson"
+                    + toLetters(i % LESSON_COUNT / 2 * 2) + " st/PRESENT");
+        }
+        return script;
+    }
+
+    private static String toLetters(int i) {
+        return "" + (char) ('a' + i / 676 % 26) + (char) ('a' + i / 26 % 26) + (char) ('a' + i % 26);
+    }
+}
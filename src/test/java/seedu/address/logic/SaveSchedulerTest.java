@@ -0,0 +1,79 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class SaveSchedulerTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    private final AtomicInteger saveCount = new AtomicInteger();
+
+    @Test
+    public void flush_noSaveRequested_doesNotWrite() throws Exception {
+        SaveScheduler scheduler = new SaveScheduler(saveCount::incrementAndGet, LONG_DELAY_MILLIS);
+        scheduler.flush();
+        assertEquals(0, saveCount.get());
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_writtenOnce() throws Exception {
+        SaveScheduler scheduler = new SaveScheduler(saveCount::incrementAndGet, LONG_DELAY_MILLIS);
+        for (int i = 0; i < 50; i++) {
+            scheduler.requestSave();
+        }
+        assertEquals(0, saveCount.get());
+
+        scheduler.flush();
+        scheduler.flush();
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void flush_saveFails_remainsDirtyAndRetries() throws Exception {
+        IOException failure = new IOException("disk full");
+        AtomicInteger attempts = new AtomicInteger();
+        SaveScheduler scheduler = new SaveScheduler(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw failure;
+            }
+        }, LONG_DELAY_MILLIS);
+
+        scheduler.requestSave();
+        assertThrows(IOException.class, "disk full", scheduler::flush);
+        scheduler.flush();
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void takeError_backgroundSaveFails_reportedOnce() throws Exception {
+        IOException failure = new IOException("disk full");
+        SaveScheduler scheduler = new SaveScheduler(() -> {
+            throw failure;
+        }, 0);
+
+        scheduler.requestSave();
+        assertThrows(IOException.class, scheduler::flush);
+        assertSame(failure, scheduler.takeError().get());
+        assertFalse(scheduler.takeError().isPresent());
+    }
+
+    @Test
+    public void shutdown_pendingSave_writtenBeforeStopping() throws Exception {
+        SaveScheduler scheduler = new SaveScheduler(saveCount::incrementAndGet, LONG_DELAY_MILLIS);
+        scheduler.requestSave();
+        scheduler.shutdown();
+        assertEquals(1, saveCount.get());
+
+        scheduler.requestSave();
+        scheduler.flush();
+        assertEquals(2, saveCount.get());
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.AttendanceRateBound;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentFilter;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Measures the time of {@code filter} over 100k students, for filters on a common subject, on a subject few students
+ * take, which the subject index narrows down, and on payment and attendance, which must test every student.
+ * Compares the query plan with testing each student in the filtered list with the compiled predicate, one after
+ * another.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class FilterCommandBenchmark {
+
+    private static final int STUDENT_COUNT = 100_000;
+    private static final String[] SUBJECTS = {"Math", "Science", "English", "History", "Chinese", "Art", "Music",
+        "Geography", "Physics", "Chemistry"};
+    private static final int LESSONS_PER_STUDENT = 8;
+    private static final int ROUNDS = 20;
+
+    @Test
+    public void filterLargeAddressBook() {
+        List<Student> students = new ArrayList<>(STUDENT_COUNT);
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = new StudentBuilder()
+                    .withName("Student " + toWord(i))
+                    .withStudentClass((i % 6 + 1) + "" + (char) ('A' + i % 5))
+                    .withSubjects(SUBJECTS[i % SUBJECTS.length] + "," + SUBJECTS[i / 7 % SUBJECTS.length]
+                            + (i % 100 == 0 ? ",Latin" : ""))
+                    .withPaymentStatus(i % 3 == 0 ? "Unpaid" : "Paid")
+                    .build();
+            List<String> subjectNames = student.getSubjectNames();
+            for (int lesson = 0; lesson < LESSONS_PER_STUDENT; lesson++) {
+                Lesson attended = new Lesson("L" + lesson, subjectNames.get(lesson % subjectNames.size()));
+                student.getAttendanceList().markAttendance(attended,
+                        (i + lesson) % 4 == 0 ? AttendanceStatus.ABSENT : AttendanceStatus.PRESENT);
+            }
+            students.add(student);
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(students));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        measure(model, "class and common subject", new StudentFilter("3B", List.of("Music"), null, null, null));
+        measure(model, "rare subject and attendance rate",
+                new StudentFilter(null, List.of("Latin"), null, null, new AttendanceRateBound(">=0.5")));
+        measure(model, "payment and attendance rate",
+                new StudentFilter(null, List.of(), "Unpaid", null, new AttendanceRateBound("<0.8")));
+    }
+
+    private static void measure(Model model, String name, StudentFilter filter) {
+        FilterCommand command = new FilterCommand(filter);
+        long expectedCount = model.getAddressBook().getPersonList().stream().filter(filter.toPredicate()).count();
+
+        double plannedMillis = time(() -> {
+            command.execute(model);
+            assertEquals(expectedCount, (long) model.getFilteredPersonList().size());
+        });
+        double sequentialMillis = time(() -> {
+            model.updateFilteredPersonList(filter.toPredicate());
+            assertEquals(expectedCount, (long) model.getFilteredPersonList().size());
+        });
+        System.out.printf("%s, %,d found: filter %.3f ms, testing each student in turn %.3f ms%n",
+                name, expectedCount, plannedMillis, sequentialMillis);
+    }
+
+    private static double time(Runnable round) {
+        for (int i = 0; i < ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            round.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / ROUNDS;
+    }
+
+    private static String toWord(int i) {
+        StringBuilder word = new StringBuilder();
+        for (int n = i; word.length() == 0 || n > 0; n /= 26) {
+            word.append((char) ('a' + n % 26));
+        }
+        return word.toString();
+    }
+}
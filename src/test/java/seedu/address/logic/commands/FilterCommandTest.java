@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.AttendanceRateBound;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentFilter;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration and unit tests for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+
+    private final Student amy = new StudentBuilder().withName("Amy Lee").withStudentClass("3B")
+            .withSubjects("Math,Science").withPaymentStatus("Unpaid").withAssignmentStatus("Incomplete").build();
+    private final Student ben = new StudentBuilder().withName("Ben Tan").withStudentClass("3B")
+            .withSubjects("Math").withPaymentStatus("Paid").withAssignmentStatus("Completed").build();
+    private final Student cai = new StudentBuilder().withName("Cai Lim").withStudentClass("3A")
+            .withSubjects("Science").withPaymentStatus("Unpaid").withAssignmentStatus("Completed").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        List.of(amy, ben, cai).forEach(addressBook::addPerson);
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        // Amy attends half her Math lessons and all her Science ones; Cai has no records
+        Student amyInModel = (Student) model.getFilteredPersonList().get(0);
+        model.markAttendance(amyInModel, new Lesson("L1", "Math"), AttendanceStatus.PRESENT);
+        model.markAttendance(amyInModel, new Lesson("L2", "Math"), AttendanceStatus.ABSENT);
+        model.markAttendance(amyInModel, new Lesson("S1", "Science"), AttendanceStatus.PRESENT);
+        Student benInModel = (Student) model.getFilteredPersonList().get(1);
+        model.markAttendance(benInModel, new Lesson("L1", "Math"), AttendanceStatus.PRESENT);
+    }
+
+    @Test
+    public void execute_classSubjectAndPayment_matchingStudentsListed() {
+        assertFilterResult(new StudentFilter("3b", List.of("math"), "Unpaid", null, null), List.of(amy));
+        assertFilterResult(new StudentFilter("3B", List.of("Math"), null, null, null), List.of(amy, ben));
+        assertFilterResult(new StudentFilter(null, List.of("Math", "Science"), null, null, null), List.of(amy));
+        assertFilterResult(new StudentFilter(null, List.of(), null, "Completed", null), List.of(ben, cai));
+    }
+
+    @Test
+    public void execute_attendanceRateBound_studentsWithRecordsCompared() {
+        AttendanceRateBound belowThreeQuarters = new AttendanceRateBound("<0.75");
+        // Amy attended 2 of 3 lessons, but only 1 of 2 in Math
+        assertFilterResult(new StudentFilter(null, List.of(), null, null, belowThreeQuarters), List.of(amy));
+        assertFilterResult(new StudentFilter(null, List.of("Science"), null, null, belowThreeQuarters), List.of());
+        assertFilterResult(new StudentFilter(null, List.of(), null, null, new AttendanceRateBound(">=0.5")),
+                List.of(amy, ben));
+    }
+
+    @Test
+    public void execute_noStudentMatches_noStudentsListed() {
+        assertFilterResult(new StudentFilter("3A", List.of("Math"), null, null, null), List.of());
+        assertFilterResult(new StudentFilter(null, List.of("History"), null, null, null), List.of());
+    }
+
+    @Test
+    public void execute_viewingArchived_archivedStudentsFiltered() {
+        model.archivePerson(ben);
+        model.setViewingArchived(true);
+        FilterCommand command = new FilterCommand(new StudentFilter(null, List.of("Math"), null, null, null));
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), command.execute(model).getFeedbackToUser());
+        assertEquals(List.of(ben), model.getFilteredArchivedPersonList());
+    }
+
+    @Test
+    public void equals() {
+        StudentFilter firstFilter = new StudentFilter("3B", List.of(), null, null, null);
+        StudentFilter secondFilter = new StudentFilter("3A", List.of(), null, null, null);
+        FilterCommand filterFirstCommand = new FilterCommand(firstFilter);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(new StudentFilter("3B", List.of(), null, null, null))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(filterFirstCommand.equals(new FilterCommand(secondFilter)));
+    }
+
+    private void assertFilterResult(StudentFilter filter, List<Student> expectedStudents) {
+        CommandResult result = new FilterCommand(filter).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedStudents.size()),
+                result.getFeedbackToUser());
+        assertEquals(expectedStudents, model.getFilteredPersonList());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Measures the time of {@code find} over 100k students, with a rare and a common pair of keywords. Compares looking
+ * persons up in the name word index with testing each name with {@link NameContainsKeywordsPredicate}.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class FindCommandBenchmark {
+
+    private static final int STUDENT_COUNT = 100_000;
+    private static final int WORD_COUNT = 300;
+    private static final int ROUNDS = 50;
+
+    @Test
+    public void findInLargeAddressBook() {
+        List<Person> students = new ArrayList<>(STUDENT_COUNT);
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            String fullName = toWord(i % WORD_COUNT) + " " + toWord(i / WORD_COUNT % WORD_COUNT) + " "
+                    + toWord(i / (WORD_COUNT * WORD_COUNT)) + toWord(i % 7);
+            students.add(new StudentBuilder().withName(fullName).build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(students);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        measure(model, "rare keywords", List.of(toWord(5), toWord(17)));
+        measure(model, "common keyword", List.of(toWord(5)));
+    }
+
+    private static void measure(Model model, String name, List<String> keywords) {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        FindCommand command = new FindCommand(predicate);
+        long expectedCount = model.getAddressBook().getPersonList().stream().filter(predicate).count();
+
+        double indexedMillis = time(() -> {
+            command.execute(model);
+            assertEquals(expectedCount, (long) model.getFilteredPersonList().size());
+        });
+        double lookupMillis = time(() -> model.getPersonNameSearch(keywords));
+        double scanMillis = time(() -> {
+            model.updateFilteredPersonList(predicate);
+            assertEquals(expectedCount, (long) model.getFilteredPersonList().size());
+        });
+        System.out.printf("%s, %,d found: find %.3f ms (building the search %.4f ms), testing each name %.3f ms%n",
+                name, expectedCount, indexedMillis, lookupMillis, scanMillis);
+    }
+
+    private static double time(Runnable round) {
+        for (int i = 0; i < ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            round.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / ROUNDS;
+    }
+
+    private static String toWord(int i) {
+        return "" + (char) ('A' + i / 26 % 26) + (char) ('a' + i % 26) + "n";
+    }
+}
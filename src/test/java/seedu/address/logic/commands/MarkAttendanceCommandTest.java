@@ -120,6 +120,18 @@ public class MarkAttendanceCommandTest {
         assertCommandFailure(cmd, model, String.format(Messages.MESSAGE_STUDENT_NOT_FOUND, invalidName));
     }
 
+    @Test
+    public void execute_mistypedStudentName_suggestsStudent() {
+        Name mistypedName = new Name("Alice Paulnie");
+        Lesson lesson = new Lesson(LESSON_NAME, SUBJECT.getName());
+
+        MarkAttendanceCommand cmd = new MarkAttendanceCommand(mistypedName, SUBJECT, lesson,
+                AttendanceStatus.PRESENT);
+
+        assertCommandFailure(cmd, model, String.format(Messages.MESSAGE_STUDENT_NOT_FOUND_SUGGESTION,
+                mistypedName, new Name("Alice Pauline")));
+    }
+
     @Test
     public void execute_invalidStudentFilteredList_throwsCommandException() {
         Name invalidName = INVALID_PERSON.getName();
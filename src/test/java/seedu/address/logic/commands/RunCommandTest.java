@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null));
+    }
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Path script = writeScript("# term start",
+                "add n/\"John Tan\" c/3B s/Math ec/91234567",
+                "",
+                "  addlesson s/Math n/Algebra  ",
+                "markattendance n/John Tan s/Math l/Algebra st/PRESENT");
+
+        CommandResult result = new RunCommand(script).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 3 of 3 commands from " + script));
+        assertFalse(result.getFeedbackToUser().contains("failed"));
+        assertEquals(0, ((RunCommandResult) result).getFailedCount());
+        Student john = (Student) model.getAddressBook().getPersonList().get(0);
+        assertEquals(AttendanceStatus.PRESENT,
+                john.getAttendanceList().getRecord(new Lesson("Algebra", "Math")).get().getStatus());
+    }
+
+    @Test
+    public void execute_failingLines_reportedWithLineNumbersAndRestRun() throws Exception {
+        Path script = writeScript("add n/\"John Tan\" c/3B s/Math ec/91234567",
+                "unknowncommand",
+                "add n/\"John Tan\" c/3B s/Math ec/91234567",
+                "add n/\"Amy Lee\" c/3B s/Math ec/91234568");
+
+        RunCommandResult result = (RunCommandResult) new RunCommand(script).execute(model);
+        String feedback = result.getFeedbackToUser();
+
+        assertEquals(2, result.getFailedCount());
+        assertTrue(feedback.startsWith("Ran 2 of 4 commands"));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_FAILURES, 2)));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(feedback.contains("\n" + String.format(RunCommand.MESSAGE_LINE_FAILURE, 3, "Duplicate student")));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_manyFailures_onlyFirstListed() throws Exception {
+        int failureCount = RunCommand.MAX_REPORTED_FAILURES + 5;
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < failureCount; i++) {
+            lines.add("unknowncommand");
+        }
+
+        String feedback = new RunCommand(writeScript(lines.toArray(String[]::new))).execute(model)
+                .getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_FAILURE,
+                RunCommand.MAX_REPORTED_FAILURES, MESSAGE_UNKNOWN_COMMAND)));
+        assertFalse(feedback.contains(String.format(RunCommand.MESSAGE_LINE_FAILURE,
+                RunCommand.MAX_REPORTED_FAILURES + 1, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_MORE_FAILURES, 5)));
+    }
+
+    @Test
+    public void execute_nestedRun_reportedAsFailure() throws Exception {
+        Path script = writeScript("run other.txt");
+
+        String feedback = new RunCommand(script).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_FAILURE, 1,
+                RunCommand.MESSAGE_NESTED_RUN)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missing = testFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_CANNOT_OPEN_FILE, missing), () ->
+                new RunCommand(missing).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("script.txt"));
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("script.txt"))));
+        assertFalse(runCommand.equals(null));
+        assertFalse(runCommand.equals(new ListCommand()));
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"))));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the throughput, in inputs per second, of parsing a valid input for each of the 18 command words.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class AddressBookParserBenchmark {
+
+    private static final List<String> INPUTS = List.of(
+            "add n/\"John Tan\" c/3B s/Math s/Science ec/91234567 ps/Paid as/Completed",
+            "edit 1 c/4A s/English",
+            "delete 1",
+            "archive 1",
+            "clearcurrent",
+            "cleararchive",
+            "find John Amy",
+            "list",
+            "exit",
+            "help",
+            "listarchive",
+            "markattendance n/John Tan s/Math l/Algebra st/PRESENT",
+            "addlesson s/Math n/Algebra",
+            "listattendance n/John Tan s/Math",
+            "listlessons s/Math",
+            "deletelesson s/Math n/Algebra",
+            "unarchive 1",
+            "run term-start.txt");
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 100_000;
+
+    @Test
+    public void parseAllCommandWords() throws Exception {
+        AddressBookParser parser = new AddressBookParser();
+        assertEquals(INPUTS.size(), INPUTS.stream().map(input -> input.split(" ")[0]).distinct().count());
+
+        int parsedCount = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            for (String input : INPUTS) {
+                parsedCount += parser.parseCommand(input) == null ? 0 : 1;
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            for (String input : INPUTS) {
+                parsedCount += parser.parseCommand(input) == null ? 0 : 1;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        assertEquals((WARMUP_ROUNDS + MEASURED_ROUNDS) * INPUTS.size(), parsedCount);
+
+        long inputCount = (long) MEASURED_ROUNDS * INPUTS.size();
+        System.out.printf("%,d inputs in %.2f s, %,.0f inputs/s, %.0f ns per input%n", inputCount, seconds,
+                inputCount / seconds, seconds * 1e9 / inputCount);
+    }
+}
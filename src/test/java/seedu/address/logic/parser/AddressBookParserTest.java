@@ -4,9 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,12 +22,15 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.student.StudentFilter;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -62,6 +67,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " c/3B s/Math");
+        assertEquals(new FilterCommand(new StudentFilter("3B", List.of("Math"), null, null, null)), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -70,6 +81,12 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("script.txt")),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -118,4 +135,28 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_mistypedCommand_suggestionGiven() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "markattendance"), () ->
+                parser.parseCommand("markattendence n/Ben Tan s/Math l/Algebra st/PRESENT"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "list"), () ->
+                parser.parseCommand("LIST"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ls"));
+    }
+
+    @Test
+    public void getCommandWordsStartingWith() {
+        assertEquals(List.of("list", "listarchive", "listattendance", "listlessons"),
+                parser.getCommandWordsStartingWith("li"));
+        assertEquals(List.of(), parser.getCommandWordsStartingWith("z"));
+    }
+
+    @Test
+    public void parseCommand_registeredCommand_parsedByItsParser() throws Exception {
+        AddressBookParser customParser = new AddressBookParser(
+                new CommandRegistry().register(ExitCommand.COMMAND_WORD, ExitCommand::new));
+        assertTrue(customParser.parseCommand(" " + ExitCommand.COMMAND_WORD + "\tnow") instanceof ExitCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> customParser.parseCommand("list"));
+    }
 }
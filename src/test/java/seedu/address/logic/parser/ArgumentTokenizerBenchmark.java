@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMERGENCY_CONTACT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECTS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the time to tokenize the arguments of an {@code add} command with all its prefixes. Compares scanning the
+ * arguments once with a reused tokenizer, and with a tokenizer built for each call, against searching the arguments
+ * once for each prefix, as the tokenizer used to.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ADD_PREFIXES = {PREFIX_NAME, PREFIX_CLASS, PREFIX_SUBJECTS, PREFIX_EMERGENCY_CONTACT,
+        PREFIX_PAYMENT_STATUS, PREFIX_ASSIGNMENT_STATUS, PREFIX_TAG};
+    private static final String ADD_ARGUMENTS = " n/QUOTEDNAME c/3B s/Math s/Science s/English ec/91234567"
+            + " ps/Paid as/Submitted t/new";
+
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    @Test
+    public void compareTokenizers() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(ADD_PREFIXES);
+        assertEquals(tokenizeByPrefix(ADD_ARGUMENTS).getAllValues(PREFIX_SUBJECTS),
+                tokenizer.tokenizeArguments(ADD_ARGUMENTS).getAllValues(PREFIX_SUBJECTS));
+
+        measure("single pass, reused tokenizer", tokenizer::tokenizeArguments);
+        measure("single pass, tokenizer per call", args -> ArgumentTokenizer.tokenize(args, ADD_PREFIXES));
+        measure("one search per prefix", ArgumentTokenizerBenchmark::tokenizeByPrefix);
+    }
+
+    private static void measure(String name, Function<String, ArgumentMultimap> tokenize) {
+        int preambleLength = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            preambleLength += tokenize.apply(ADD_ARGUMENTS).getPreamble().length();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            preambleLength += tokenize.apply(ADD_ARGUMENTS).getPreamble().length();
+        }
+        double nanosPerCall = (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+        assertEquals(0, preambleLength);
+        System.out.printf("%s: %.0f ns per call%n", name, nanosPerCall);
+    }
+
+    /**
+     * Tokenizes as the tokenizer used to: searching the arguments for each prefix in turn, then sorting the positions
+     * found.
+     */
+    private static ArgumentMultimap tokenizeByPrefix(String argsString) {
+        List<int[]> positions = new ArrayList<>();
+        for (int p = 0; p < ADD_PREFIXES.length; p++) {
+            int position = argsString.indexOf(" " + ADD_PREFIXES[p].getPrefix());
+            while (position != -1) {
+                positions.add(new int[] {position + 1, p});
+                position = argsString.indexOf(" " + ADD_PREFIXES[p].getPrefix(), position + 1);
+            }
+        }
+        positions.sort((first, second) -> first[0] - second[0]);
+        positions.add(0, new int[] {0, -1});
+        positions.add(new int[] {argsString.length(), -1});
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        for (int i = 0; i < positions.size() - 1; i++) {
+            Prefix prefix = positions.get(i)[1] == -1 ? new Prefix("") : ADD_PREFIXES[positions.get(i)[1]];
+            int valueStart = positions.get(i)[0] + prefix.getPrefix().length();
+            argMultimap.put(prefix, argsString.substring(valueStart, positions.get(i + 1)[0]).trim());
+        }
+        return argMultimap;
+    }
+}
@@ -136,6 +136,37 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenizeArguments_reusedTokenizer_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArguments("preamble p/one -t two");
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "one");
+        assertArgumentPresent(argMultimap, dashT, "two");
+
+        argMultimap = tokenizer.tokenizeArguments(" ^Q three  p/four\t");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, hatQ, "three");
+        assertArgumentPresent(argMultimap, pSlash, "four");
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
+    @Test
+    public void tokenizeArguments_prefixesStartingAlike_longestTaken() {
+        Prefix sSlash = new Prefix("s/");
+        Prefix stSlash = new Prefix("st/");
+        ArgumentMultimap argMultimap = new ArgumentTokenizer(sSlash, stSlash)
+                .tokenizeArguments(" s/Math st/PRESENT s/ st/");
+        assertArgumentPresent(argMultimap, sSlash, "Math", "");
+        assertArgumentPresent(argMultimap, stSlash, "PRESENT", "");
+
+        Prefix dashTt = new Prefix("-tt");
+        argMultimap = new ArgumentTokenizer(dashT, dashTt).tokenizeArguments("-t preamble -tt long -t short");
+        assertPreamblePresent(argMultimap, "-t preamble");
+        assertArgumentPresent(argMultimap, dashTt, "long");
+        assertArgumentPresent(argMultimap, dashT, "short");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<ExitCommand> exitParser = ExitCommand::new;
+    private final CommandRegistry registry = new CommandRegistry()
+            .register("exit", exitParser)
+            .register("edit", ExitCommand::new)
+            .register("delete", ClearCommand::new)
+            .register("deletelesson", ClearCommand::new);
+
+    @Test
+    public void register_invalidOrRepeatedCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("exit", ExitCommand::new));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(" ", ExitCommand::new));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("ex it", ExitCommand::new));
+    }
+
+    @Test
+    public void getParser() {
+        assertSame(exitParser, registry.getParser("exit").get());
+        assertEquals(Optional.empty(), registry.getParser("Exit"));
+    }
+
+    @Test
+    public void getCommandWordsStartingWith() {
+        assertEquals(List.of("delete", "deletelesson", "edit", "exit"), registry.getCommandWordsStartingWith(""));
+        assertEquals(List.of("delete", "deletelesson"), registry.getCommandWordsStartingWith("delete"));
+        assertEquals(List.of(), registry.getCommandWordsStartingWith("deletes"));
+    }
+
+    @Test
+    public void suggestCommandWord() {
+        assertEquals(Optional.of("deletelesson"), registry.suggestCommandWord("deletelessn"));
+        assertEquals(Optional.of("delete"), registry.suggestCommandWord("DELTE"));
+
+        // equally close words: the first in alphabetical order is suggested
+        assertEquals(Optional.of("edit"), registry.suggestCommandWord("ecit"));
+        assertEquals(Optional.of("edit"), registry.suggestCommandWord("eit"));
+
+        assertEquals(Optional.empty(), registry.suggestCommandWord("ex"));
+        assertEquals(Optional.empty(), registry.suggestCommandWord("undo"));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.attendance.AttendanceRateBound;
+import seedu.address.model.student.StudentFilter;
+
+/**
+ * Unit tests for {@link FilterCommandParser}.
+ */
+public class FilterCommandParserTest {
+
+    private final FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_allCriteria_success() {
+        FilterCommand expected = new FilterCommand(new StudentFilter("3B", List.of("Math", "Science"), "Unpaid",
+                "Incomplete", new AttendanceRateBound("<0.75")));
+        assertParseSuccess(parser, " c/3B s/Math s/Science ps/unpaid as/INCOMPLETE rate<0.75", expected);
+        assertParseSuccess(parser, " rate < 0.75 as/Incomplete s/Math ps/Unpaid s/Science c/3B ", expected);
+    }
+
+    @Test
+    public void parse_singleCriterion_success() {
+        assertParseSuccess(parser, " rate>=.5", new FilterCommand(
+                new StudentFilter(null, List.of(), null, null, new AttendanceRateBound(">=0.5"))));
+        assertParseSuccess(parser, " s/Math", new FilterCommand(
+                new StudentFilter(null, List.of("Math"), null, null, null)));
+    }
+
+    @Test
+    public void parse_noCriteriaOrPreamble_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " 3B", expectedMessage);
+        assertParseFailure(parser, " 3B c/3B", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " rate<1.5", AttendanceRateBound.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " rate=0.5", AttendanceRateBound.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ps/Later", "Payment status must be either 'Paid' or 'Unpaid'");
+        assertParseFailure(parser, " c/3B c/3A",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_CLASS));
+    }
+}
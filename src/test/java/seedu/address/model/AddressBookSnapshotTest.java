@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class AddressBookSnapshotTest {
+
+    private static final Lesson ALGEBRA = new Lesson("Algebra", "Math");
+    private static final Lesson GEOMETRY = new Lesson("Geometry", "Math");
+
+    private final AddressBook addressBook = new AddressBook();
+    private Student ben;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.addPerson(new StudentBuilder().build());
+        addressBook.addPerson(new StudentBuilder().withName("Amy Lee").build());
+        addressBook.addPerson(new PersonBuilder().build());
+        addressBook.addLesson(ALGEBRA);
+        ben = (Student) addressBook.getPersonList().get(0);
+    }
+
+    @Test
+    public void of_laterChanges_notSeen() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, null);
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+
+        addressBook.markAttendance(ben, ALGEBRA, AttendanceStatus.PRESENT);
+        addressBook.addLesson(GEOMETRY);
+        addressBook.addPerson(new StudentBuilder().withName("Carl Lim").build());
+
+        Student benCopy = (Student) snapshot.getPersonList().get(0);
+        assertEquals(AttendanceStatus.ABSENT, benCopy.getAttendanceList().getRecord(ALGEBRA).get().getStatus());
+        assertTrue(benCopy.getAttendanceList().getRecord(GEOMETRY).isEmpty());
+        assertFalse(snapshot.getLessonList().contains(GEOMETRY));
+        assertFalse(snapshot.getSubjectList().getSubject("Math").get().containsLesson(GEOMETRY));
+        assertEquals(3, snapshot.getPersonList().size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void of_previousSnapshot_unchangedCopiesShared() {
+        AddressBookSnapshot first = AddressBookSnapshot.of(addressBook, null);
+        addressBook.markAttendance(ben, ALGEBRA, AttendanceStatus.PRESENT);
+        AddressBookSnapshot second = AddressBookSnapshot.of(addressBook, first);
+
+        assertNotSame(first.getPersonList().get(0), second.getPersonList().get(0));
+        assertSame(first.getPersonList().get(1), second.getPersonList().get(1));
+        assertSame(addressBook.getPersonList().get(2), second.getPersonList().get(2));
+        assertSame(first.getSubjectList().getSubject("Math").get(), second.getSubjectList().getSubject("Math").get());
+        assertEquals(addressBook.getShardVersion(DataShard.PERSONS), second.getShardVersion(DataShard.PERSONS));
+
+        // A new lesson changes the subject, so every student in it is copied again
+        addressBook.addLesson(GEOMETRY);
+        AddressBookSnapshot third = AddressBookSnapshot.of(addressBook, second);
+        assertNotSame(second.getPersonList().get(1), third.getPersonList().get(1));
+        assertTrue(((Student) third.getPersonList().get(1)).getAttendanceList().getRecord(GEOMETRY).isPresent());
+    }
+
+    @Test
+    public void getArchivedPersonList_deferredArchive_loadedWithoutChangingAddressBook() {
+        Student archived = new StudentBuilder().withName("Dan Ng").build();
+        addressBook.setArchiveLoader(() -> List.of(archived));
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, null);
+        assertFalse(snapshot.isArchiveLoaded());
+
+        List<Person> archivedPersons = snapshot.getArchivedPersonList();
+        assertTrue(snapshot.isArchiveLoaded());
+        assertEquals(List.of(archived), archivedPersons);
+        assertNotSame(archived, archivedPersons.get(0));
+        assertFalse(addressBook.isArchiveLoaded());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_unchangedAddressBook_sameSnapshot() {
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        assertSame(snapshot, modelManager.getAddressBookSnapshot());
+
+        modelManager.addLesson(GEOMETRY);
+        assertNotSame(snapshot, modelManager.getAddressBookSnapshot());
+        assertFalse(snapshot.getLessonList().contains(GEOMETRY));
+    }
+}
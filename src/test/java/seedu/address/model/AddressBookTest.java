@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -11,28 +13,44 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.attendance.AttendanceCounts;
+import seedu.address.model.attendance.AttendanceRateBound;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonList;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentFilter;
 import seedu.address.model.subject.Subject;
 import seedu.address.model.subject.SubjectList;
 import seedu.address.model.subject.exceptions.DuplicateSubjectException;
 import seedu.address.model.subject.exceptions.SubjectNotFoundException;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class AddressBookTest {
 
+    private static final Lesson LATIN_VERBS = new Lesson("Verbs", "Latin");
+    private static final StudentFilter LATIN_3A_ATTENDING =
+            new StudentFilter("3a", List.of("latin"), null, null, new AttendanceRateBound(">=0.5"));
+
     private final AddressBook addressBook = new AddressBook();
 
     @Test
@@ -88,6 +106,21 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void hasPerson_studentWithDifferentlyCasedName_returnsTrue() {
+        addressBook.addPerson(new StudentBuilder().withName("Ben Tan").build());
+        assertTrue(addressBook.hasPerson(new StudentBuilder().withName("BEN TAN").build()));
+    }
+
+    @Test
+    public void hasSameStudent_currentAndArchivedLists_checkedSeparately() {
+        Student ben = new StudentBuilder().withName("Ben Tan").build();
+        Student benLowerCase = new StudentBuilder().withName("ben tan").build();
+        addressBook.addArchivedPerson(ben);
+        assertFalse(addressBook.hasSameStudent(benLowerCase));
+        assertTrue(addressBook.hasSameArchivedStudent(benLowerCase));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -290,6 +323,303 @@ public class AddressBookTest {
         assertTrue(subjects.contains(new Subject("Science")));
     }
 
+    @Test
+    public void setPersons_bulk_sameAsAddingEachPerson() {
+        Student john = new StudentBuilder().withName("John").withSubjects("Math,Science").build();
+        Student greg = new StudentBuilder().withName("Greg").withSubjects("Math").build();
+        Student amy = new StudentBuilder().withName("Amy").withSubjects("Science").build();
+        AddressBook expected = new AddressBook();
+        expected.addPerson(john);
+        expected.addPerson(greg);
+        expected.addArchivedPerson(amy);
+
+        int[] notificationCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> notificationCount[0]++);
+        addressBook.setPersons(List.of(john, greg), List.of(amy));
+
+        assertEquals(expected, addressBook);
+        assertEquals(expected.getArchivedPersonList(), addressBook.getArchivedPersonList());
+        assertEquals(1, notificationCount[0]);
+        assertEquals(2, addressBook.getStudentsEnrolledIn("Science").size());
+        Student storedJohn = (Student) addressBook.getPersonList().get(0);
+        Student storedGreg = (Student) addressBook.getPersonList().get(1);
+        assertSame(storedJohn.getSubjects().get(0), storedGreg.getSubjects().get(0));
+    }
+
+    @Test
+    public void setPersons_bulkWithDuplicateStudents_throwsDuplicatePersonException() {
+        Student john = new StudentBuilder().withName("John").build();
+        Student differentlyCasedJohn = new StudentBuilder().withName("JOHN").build();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.setPersons(List.of(john, differentlyCasedJohn), List.of()));
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.setPersons(List.of(), List.of(john, differentlyCasedJohn)));
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void setArchiveLoader_archiveAccessed_loadedOnceOnFirstAccess() {
+        Student amy = new StudentBuilder().withName("Amy").withSubjects("Math").build();
+        addressBook.addPerson(new StudentBuilder().withName("John").withSubjects("Math").build());
+        int[] loadCount = {0};
+        addressBook.setArchiveLoader(() -> {
+            loadCount[0]++;
+            return List.of(amy);
+        });
+        long versionBeforeLoading = addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS);
+
+        assertFalse(addressBook.isArchiveLoaded());
+        assertTrue(addressBook.hasPerson(new StudentBuilder().withName("John").build()));
+        assertEquals(0, loadCount[0]);
+
+        assertTrue(addressBook.hasArchivedPerson(amy));
+        assertEquals(List.of(amy), addressBook.getArchivedPersonList());
+        assertEquals(2, addressBook.getStudentsEnrolledIn("Math").size());
+        assertTrue(addressBook.isArchiveLoaded());
+        assertEquals(1, loadCount[0]);
+        assertEquals(versionBeforeLoading, addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS));
+    }
+
+    @Test
+    public void setArchiveLoader_loadFails_emptyArchiveWithoutChange() {
+        addressBook.setArchiveLoader(() -> {
+            throw new DataLoadingException(new IOException("corrupt archive"));
+        });
+        long versionBeforeLoading = addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS);
+
+        assertTrue(addressBook.getArchivedPersonList().isEmpty());
+        assertEquals(versionBeforeLoading, addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS));
+
+        // The failure is reported once
+        assertTrue(addressBook.takeArchiveLoadError().get().contains("corrupt archive"));
+        assertFalse(addressBook.takeArchiveLoadError().isPresent());
+    }
+
+    @Test
+    public void resetData_deferredArchive_keptDeferred() {
+        AddressBook source = new AddressBook();
+        source.setArchiveLoader(() -> List.of(new StudentBuilder().withName("Amy").build()));
+
+        addressBook.resetData(source);
+
+        assertFalse(source.isArchiveLoaded());
+        assertFalse(addressBook.isArchiveLoaded());
+        assertEquals(source.getShardVersion(DataShard.ARCHIVED_PERSONS),
+                addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS));
+        assertEquals(1, addressBook.getArchivedPersonList().size());
+    }
+
+    @Test
+    public void getShardVersion_archiveChanged_archiveVersionChanges() {
+        Student amy = new StudentBuilder().withName("Amy").withSubjects("Math").build();
+        addressBook.addPerson(amy);
+        long version = addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS);
+
+        addressBook.addLesson(new Lesson("Algebra", "Math"));
+        assertEquals(version, addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS));
+
+        addressBook.archivePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS) > version);
+        version = addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS);
+
+        addressBook.addLesson(new Lesson("Geometry", "Math"));
+        assertTrue(addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS) > version);
+    }
+
+    @Test
+    public void markAttendance_currentOrArchivedStudent_onlyItsListChanges() {
+        Lesson algebra = new Lesson("Algebra", "Math");
+        addressBook.addPerson(new StudentBuilder().withName("Amy").withSubjects("Math").build());
+        addressBook.addArchivedPerson(new StudentBuilder().withName("Bob").withSubjects("Math").build());
+        addressBook.addLesson(algebra);
+        Student amy = (Student) addressBook.getPersonList().get(0);
+        Student bob = (Student) addressBook.getArchivedPersonList().get(0);
+        long personsVersion = addressBook.getShardVersion(DataShard.PERSONS);
+        long archiveVersion = addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS);
+        long lessonsVersion = addressBook.getShardVersion(DataShard.LESSONS);
+
+        addressBook.markAttendance(amy, algebra, AttendanceStatus.PRESENT);
+        assertEquals(AttendanceStatus.PRESENT, amy.getAttendanceList().getRecord(algebra).get().getStatus());
+        assertNotEquals(personsVersion, addressBook.getShardVersion(DataShard.PERSONS));
+        assertEquals(archiveVersion, addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS));
+        personsVersion = addressBook.getShardVersion(DataShard.PERSONS);
+
+        addressBook.markAttendance(bob, algebra, AttendanceStatus.LATE);
+        assertEquals(personsVersion, addressBook.getShardVersion(DataShard.PERSONS));
+        assertNotEquals(archiveVersion, addressBook.getShardVersion(DataShard.ARCHIVED_PERSONS));
+        assertEquals(lessonsVersion, addressBook.getShardVersion(DataShard.LESSONS));
+    }
+
+    @Test
+    public void resetData_copy_sameShardVersions() {
+        addressBook.addPerson(new StudentBuilder().withName("Amy").withSubjects("Math").build());
+        addressBook.addLesson(new Lesson("Algebra", "Math"));
+
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook.getVersion(), copy.getVersion());
+        for (DataShard shard : DataShard.values()) {
+            assertEquals(addressBook.getShardVersion(shard), copy.getShardVersion(shard));
+        }
+
+        copy.removePerson(copy.getPersonList().get(0));
+        assertNotEquals(addressBook.getVersion(), copy.getVersion());
+        assertNotEquals(addressBook.getShardVersion(DataShard.PERSONS), copy.getShardVersion(DataShard.PERSONS));
+    }
+
+    @Test
+    public void getStudentsEnrolledIn_tracksAddArchiveAndRemove() {
+        Student john = new StudentBuilder().withName("John").withSubjects("Math").build();
+        Student greg = new StudentBuilder().withName("Greg").withSubjects("Science").build();
+        addressBook.addPerson(john);
+        addressBook.addPerson(greg);
+
+        assertEquals(1, addressBook.getStudentsEnrolledIn("math").size());
+        assertEquals(1, addressBook.getStudentsEnrolledIn("SCIENCE").size());
+
+        Student storedJohn = addressBook.getStudentsEnrolledIn("Math").iterator().next();
+        addressBook.archivePerson(storedJohn);
+        assertEquals(1, addressBook.getStudentsEnrolledIn("Math").size());
+
+        addressBook.removeArchivedPerson(storedJohn);
+        assertTrue(addressBook.getStudentsEnrolledIn("Math").isEmpty());
+        assertTrue(addressBook.getStudentsEnrolledIn("English").isEmpty());
+    }
+
+    @Test
+    public void getStudentsEnrolledIn_setPersonWithNewSubjects_reindexesStudent() {
+        addressBook.addPerson(new StudentBuilder().withName("John").withSubjects("Math").build());
+        Person storedJohn = addressBook.getPersonList().get(0);
+
+        addressBook.setPerson(storedJohn, new StudentBuilder().withName("John").withSubjects("English").build());
+
+        assertTrue(addressBook.getStudentsEnrolledIn("Math").isEmpty());
+        assertEquals(1, addressBook.getStudentsEnrolledIn("English").size());
+    }
+
+    @Test
+    public void addLesson_enrolledCurrentAndArchivedStudents_markedAbsent() {
+        addressBook.addPerson(new StudentBuilder().withName("John").withSubjects("Math").build());
+        addressBook.addPerson(new StudentBuilder().withName("Greg").withSubjects("Science").build());
+        addressBook.addArchivedPerson(new StudentBuilder().withName("Amy").withSubjects("math").build());
+
+        addressBook.addLesson(new Lesson("Algebra", "Math"));
+
+        Student john = (Student) addressBook.getPersonList().get(0);
+        Student greg = (Student) addressBook.getPersonList().get(1);
+        Student amy = (Student) addressBook.getArchivedPersonList().get(0);
+        assertEquals(1, john.getAttendanceList().getStudentAttendance().size());
+        assertTrue(greg.getAttendanceList().getStudentAttendance().isEmpty());
+        assertEquals(1, amy.getAttendanceList().getStudentAttendance().size());
+    }
+
+    @Test
+    public void addLesson_studentWithExistingRecord_recordKept() {
+        Lesson algebra = new Lesson("Algebra", "Math");
+        Student john = new StudentBuilder().withName("John").withSubjects("Math").build();
+        john.getAttendanceList().markAttendance(algebra, AttendanceStatus.PRESENT);
+        addressBook.addPerson(john);
+
+        addressBook.addLesson(algebra);
+
+        Student added = (Student) addressBook.getPersonList().get(0);
+        assertEquals(AttendanceStatus.PRESENT, added.getAttendanceList().getRecord(algebra).get().getStatus());
+    }
+
+    @Test
+    public void getAttendanceCounts_aggregatesCurrentStudentsBySubjectAndClass() {
+        addressBook.addPerson(new StudentBuilder().withName("John").withSubjects("Math, Science")
+                .withStudentClass("3A").build());
+        addressBook.addPerson(new StudentBuilder().withName("Greg").withSubjects("Math")
+                .withStudentClass("3B").build());
+        addressBook.addArchivedPerson(new StudentBuilder().withName("Amy").withSubjects("Math")
+                .withStudentClass("3A").build());
+        Lesson algebra = new Lesson("Algebra", "Math");
+        addressBook.addLesson(algebra);
+        addressBook.addLesson(new Lesson("Lab", "Science"));
+
+        Student john = (Student) addressBook.getPersonList().get(0);
+        john.getAttendanceList().markAttendance(algebra, AttendanceStatus.PRESENT);
+
+        AttendanceCounts math = addressBook.getAttendanceCountsForSubject("math");
+        assertEquals(2, math.getTotal());
+        assertEquals(1, math.getCount(AttendanceStatus.PRESENT));
+        assertEquals(1, math.getCount(AttendanceStatus.ABSENT));
+
+        AttendanceCounts classA = addressBook.getAttendanceCountsForClass("3a");
+        assertEquals(2, classA.getTotal());
+        assertEquals(0.5, classA.getAttendanceRate());
+
+        addressBook.deleteLesson(algebra);
+        assertEquals(0, addressBook.getAttendanceCountsForSubject("Math").getTotal());
+        assertEquals(1, addressBook.getAttendanceCountsForClass("3A").getTotal());
+    }
+
+    @Test
+    public void getPersonFilter_rareSubjectAndAttendanceRate_findsOnlyMatchingStudents() {
+        AddressBook addressBook = addressBookWithLatinStudents();
+
+        Predicate<Person> filter = addressBook.getPersonFilter(LATIN_3A_ATTENDING);
+        List<String> found = addressBook.getPersonList().stream().filter(filter)
+                .map(person -> person.getName().fullName).collect(Collectors.toList());
+        assertEquals(List.of("Uma"), found);
+    }
+
+    @Test
+    public void getPersonFilter_studentChangedWhileShown_resultFollowsChange() {
+        AddressBook addressBook = addressBookWithLatinStudents();
+        Predicate<Person> filter = addressBook.getPersonFilter(LATIN_3A_ATTENDING);
+        FilteredList<Person> shown = new FilteredList<>(addressBook.getPersonList(), filter);
+        assertEquals(List.of("Uma"), namesOf(shown));
+
+        // An edited student is a new object, which still matches
+        Student uma = (Student) shown.get(0);
+        addressBook.setPerson(uma, new StudentBuilder(uma).withEmergencyContact("98765432").build());
+        assertEquals(List.of("Uma"), namesOf(shown));
+
+        // A student added while shown is tested as it is
+        addressBook.addPerson(new StudentBuilder().withName("Xia").withSubjects("Latin").withStudentClass("3A")
+                .build());
+        assertEquals(List.of("Uma"), namesOf(shown));
+
+        // A student whose attendance changed since the filter was planned is tested again
+        Student wes = (Student) addressBook.getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals("Wes")).findFirst().get();
+        assertFalse(filter.test(wes));
+        addressBook.markAttendance(wes, LATIN_VERBS, AttendanceStatus.PRESENT);
+        assertTrue(filter.test(wes));
+    }
+
+    /**
+     * Returns an address book in which students taking Latin are few enough to be looked up in the bitmap indexes.
+     * Of them, Uma of 3A and Val of 3B attended the Latin lesson, and Wes of 3A has no attendance yet.
+     */
+    private static AddressBook addressBookWithLatinStudents() {
+        AddressBook addressBook = new AddressBook();
+        for (char first = 'a'; first <= 'f'; first++) {
+            for (char second = 'a'; second <= 'f'; second++) {
+                addressBook.addPerson(new StudentBuilder().withName("Student " + first + second).withSubjects("Math")
+                        .build());
+            }
+        }
+        addressBook.addPerson(new StudentBuilder().withName("Uma").withSubjects("Math, Latin").withStudentClass("3A")
+                .build());
+        addressBook.addPerson(new StudentBuilder().withName("Val").withSubjects("Latin").withStudentClass("3B")
+                .build());
+        addressBook.addPerson(new StudentBuilder().withName("Wes").withSubjects("Latin").withStudentClass("3A")
+                .build());
+        for (Person person : addressBook.getPersonList()) {
+            if (!person.getName().fullName.equals("Wes") && ((Student) person).getSubjectNames().contains("Latin")) {
+                addressBook.markAttendance((Student) person, LATIN_VERBS, AttendanceStatus.PRESENT);
+            }
+        }
+        return addressBook;
+    }
+
+    private static List<String> namesOf(List<Person> persons) {
+        return persons.stream().map(person -> person.getName().fullName).collect(Collectors.toList());
+    }
+
     @Test
     public void addPerson_duplicateStudentSubjects_doesNotDuplicateSubjectList() {
         AddressBook addressBook = new AddressBook();
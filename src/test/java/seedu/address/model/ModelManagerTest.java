@@ -29,6 +29,23 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void constructor_deferredArchive_notLoadedUntilArchivedListUsed() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        int[] loadCount = {0};
+        addressBook.setArchiveLoader(() -> {
+            loadCount[0]++;
+            return Arrays.asList(BENSON);
+        });
+
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredArchivedPersonList());
+        assertEquals(1, loadCount[0]);
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
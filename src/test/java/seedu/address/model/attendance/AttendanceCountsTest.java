@@ -0,0 +1,62 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceCountsTest {
+
+    @Test
+    void constructor_createsEmptyCounts() {
+        AttendanceCounts counts = new AttendanceCounts();
+        assertEquals(0, counts.getTotal());
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            assertEquals(0, counts.getCount(status));
+        }
+        assertEquals(0.0, counts.getAttendanceRate());
+    }
+
+    @Test
+    void incrementAndDecrement_updateCountAndTotal() {
+        AttendanceCounts counts = new AttendanceCounts();
+        counts.increment(AttendanceStatus.PRESENT);
+        counts.increment(AttendanceStatus.LATE);
+        counts.increment(AttendanceStatus.PRESENT);
+        counts.decrement(AttendanceStatus.LATE);
+
+        assertEquals(2, counts.getTotal());
+        assertEquals(2, counts.getCount(AttendanceStatus.PRESENT));
+        assertEquals(0, counts.getCount(AttendanceStatus.LATE));
+        assertEquals(1.0, counts.getAttendanceRate());
+    }
+
+    @Test
+    void add_sumsEachStatus() {
+        AttendanceCounts first = new AttendanceCounts();
+        first.increment(AttendanceStatus.PRESENT);
+        AttendanceCounts second = new AttendanceCounts();
+        second.increment(AttendanceStatus.ABSENT);
+        second.increment(AttendanceStatus.EXCUSED);
+
+        AttendanceCounts total = new AttendanceCounts(first);
+        total.add(second);
+        assertEquals(3, total.getTotal());
+        assertEquals(1, total.getCount(AttendanceStatus.ABSENT));
+        assertEquals(1.0 / 3, total.getAttendanceRate());
+        assertEquals(1, first.getTotal());
+    }
+
+    @Test
+    void equals() {
+        AttendanceCounts counts = new AttendanceCounts();
+        counts.increment(AttendanceStatus.PRESENT);
+        AttendanceCounts copy = new AttendanceCounts(counts);
+        assertEquals(counts, copy);
+        assertEquals(counts.hashCode(), copy.hashCode());
+
+        copy.increment(AttendanceStatus.ABSENT);
+        assertNotEquals(counts, copy);
+        assertNotEquals(counts, null);
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.model.attendance;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -93,6 +96,96 @@ public class AttendanceListTest {
         assertNotEquals(list1, list2);
     }
 
+    @Test
+    void getRecords_isLiveUnmodifiableView() {
+        Collection<AttendanceRecord> records = list.getRecords();
+        list.markAttendance(L1_MATH, AttendanceStatus.PRESENT);
+        list.markAttendance(L1_MATH_DUP, AttendanceStatus.LATE);
+
+        assertEquals(1, records.size());
+        assertEquals(AttendanceStatus.LATE, records.iterator().next().getStatus());
+        assertThrows(UnsupportedOperationException.class, () ->
+                records.add(new AttendanceRecord(L2_MATH, AttendanceStatus.PRESENT)));
+    }
+
+    @Test
+    void getRecordsForSubject_returnsOnlyThatSubjectInOrder() {
+        list.markAttendance(L2_MATH, AttendanceStatus.ABSENT);
+        list.markAttendance(QUIZ_SCI, AttendanceStatus.LATE);
+        list.markAttendance(L1_MATH, AttendanceStatus.PRESENT);
+
+        List<AttendanceRecord> mathRecords = List.copyOf(list.getRecordsForSubject("mATH"));
+        assertEquals(2, mathRecords.size());
+        assertEquals(L2_MATH, mathRecords.get(0).getLesson());
+        assertEquals(L1_MATH, mathRecords.get(1).getLesson());
+        assertEquals(1, list.getRecordsForSubject("Science").size());
+        assertTrue(list.getRecordsForSubject("History").isEmpty());
+    }
+
+    @Test
+    void getRecord_returnsMarkedRecordOnly() {
+        list.markAttendance(L1_MATH, AttendanceStatus.EXCUSED);
+        assertEquals(AttendanceStatus.EXCUSED, list.getRecord(L1_MATH_DUP).get().getStatus());
+        assertTrue(list.getRecord(QUIZ_SCI).isEmpty());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void equals_differentOrder_returnsFalse() {
+        AttendanceList list1 = new AttendanceList();
+        AttendanceList list2 = new AttendanceList();
+        list1.markAttendance(L1_MATH, AttendanceStatus.PRESENT);
+        list1.markAttendance(QUIZ_SCI, AttendanceStatus.PRESENT);
+        list2.markAttendance(QUIZ_SCI, AttendanceStatus.PRESENT);
+        list2.markAttendance(L1_MATH, AttendanceStatus.PRESENT);
+        assertNotEquals(list1, list2);
+
+        list2 = new AttendanceList();
+        list2.markAttendance(L1_MATH, AttendanceStatus.PRESENT);
+        list2.markAttendance(QUIZ_SCI, AttendanceStatus.PRESENT);
+        assertEquals(list1, list2);
+        assertEquals(list1.hashCode(), list2.hashCode());
+    }
+
+    @Test
+    void markAttendance_keepsCountsInStep() {
+        list.markAttendance(L1_MATH, AttendanceStatus.ABSENT);
+        list.markAttendance(L2_MATH, AttendanceStatus.PRESENT);
+        list.markAttendance(QUIZ_SCI, AttendanceStatus.LATE);
+        list.markAttendance(L1_MATH_DUP, AttendanceStatus.PRESENT);
+
+        AttendanceCounts counts = list.getCounts();
+        assertEquals(3, counts.getTotal());
+        assertEquals(2, counts.getCount(AttendanceStatus.PRESENT));
+        assertEquals(0, counts.getCount(AttendanceStatus.ABSENT));
+        assertEquals(1, counts.getCount(AttendanceStatus.LATE));
+        assertEquals(2.0 / 3, list.getAttendanceRate());
+        assertEquals(1.0, list.getAttendanceRate("math"));
+        assertEquals(0.0, list.getAttendanceRate("Science"));
+        assertEquals(0.0, list.getAttendanceRate("History"));
+    }
+
+    @Test
+    void removeAttendance_updatesRecordsAndCounts() {
+        list.markAttendance(L1_MATH, AttendanceStatus.PRESENT);
+        list.markAttendance(QUIZ_SCI, AttendanceStatus.ABSENT);
+
+        assertTrue(list.removeAttendance(L1_MATH_DUP));
+        assertFalse(list.removeAttendance(L1_MATH));
+        assertEquals(1, list.size());
+        assertTrue(list.getRecordsForSubject("Math").isEmpty());
+        assertEquals(0, list.getCountsForSubject("Math").getTotal());
+        assertEquals(1, list.getCounts().getCount(AttendanceStatus.ABSENT));
+        assertEquals(0.0, list.getAttendanceRate());
+    }
+
+    @Test
+    void getCounts_returnsCopy() {
+        list.markAttendance(L1_MATH, AttendanceStatus.PRESENT);
+        list.getCounts().add(list.getCounts());
+        assertEquals(1, list.getCounts().getTotal());
+    }
+
     // Test 7: toString method works correctly.
     @Test
     void toString_worksCorrectly() {
@@ -0,0 +1,64 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lesson.Lesson;
+
+public class AttendanceRateBoundTest {
+
+    @Test
+    public void constructor_invalidBound_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new AttendanceRateBound(null));
+        assertThrows(IllegalArgumentException.class, () -> new AttendanceRateBound("0.5"));
+    }
+
+    @Test
+    public void isValidBound() {
+        assertTrue(AttendanceRateBound.isValidBound("<0.75"));
+        assertTrue(AttendanceRateBound.isValidBound("<= .5"));
+        assertTrue(AttendanceRateBound.isValidBound(">1"));
+        assertTrue(AttendanceRateBound.isValidBound(">=0"));
+
+        assertFalse(AttendanceRateBound.isValidBound(""));
+        assertFalse(AttendanceRateBound.isValidBound("0.5"));
+        assertFalse(AttendanceRateBound.isValidBound("=0.5"));
+        assertFalse(AttendanceRateBound.isValidBound("<1.01"));
+        assertFalse(AttendanceRateBound.isValidBound("<-0.5"));
+        assertFalse(AttendanceRateBound.isValidBound("<50%"));
+    }
+
+    @Test
+    public void isSatisfiedBy() {
+        AttendanceList attendance = new AttendanceList();
+        AttendanceCounts counts = attendance.getCounts();
+        // No records -> no rate
+        assertFalse(new AttendanceRateBound("<=1").isSatisfiedBy(counts));
+
+        attendance.markAttendance(new Lesson("L1", "Math"), AttendanceStatus.PRESENT);
+        attendance.markAttendance(new Lesson("L2", "Math"), AttendanceStatus.ABSENT);
+        counts = attendance.getCounts();
+        assertTrue(new AttendanceRateBound("<0.75").isSatisfiedBy(counts));
+        assertTrue(new AttendanceRateBound("<=0.5").isSatisfiedBy(counts));
+        assertFalse(new AttendanceRateBound("<0.5").isSatisfiedBy(counts));
+        assertTrue(new AttendanceRateBound(">=0.5").isSatisfiedBy(counts));
+        assertFalse(new AttendanceRateBound(">0.5").isSatisfiedBy(counts));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceRateBound bound = new AttendanceRateBound("<0.75");
+
+        assertEquals(bound, new AttendanceRateBound("< .75"));
+        assertEquals(bound.hashCode(), new AttendanceRateBound("< .75").hashCode());
+        assertNotEquals(bound, new AttendanceRateBound("<=0.75"));
+        assertNotEquals(bound, new AttendanceRateBound("<0.5"));
+        assertNotEquals(bound, null);
+        assertEquals("<0.75", bound.toString());
+    }
+}
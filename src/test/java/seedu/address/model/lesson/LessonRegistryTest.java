@@ -0,0 +1,43 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.AttendanceStatus;
+
+public class LessonRegistryTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> LessonRegistry.intern(null));
+        assertThrows(NullPointerException.class, () -> LessonRegistry.intern(null, "Math"));
+        assertThrows(NullPointerException.class, () -> LessonRegistry.intern("Algebra", null));
+    }
+
+    @Test
+    public void intern_sameNameAndSubject_returnsSameInstance() {
+        Lesson first = LessonRegistry.intern("Algebra", "Math");
+        assertSame(first, LessonRegistry.intern(" Algebra ", "Math "));
+        assertSame(first, LessonRegistry.intern(new Lesson("Algebra", "Math")));
+    }
+
+    @Test
+    public void intern_differentSubject_returnsDifferentInstance() {
+        assertNotSame(LessonRegistry.intern("Intro", "Math"), LessonRegistry.intern("Intro", "Science"));
+    }
+
+    @Test
+    public void intern_lessonWithNonDefaultStatus_registersDefaultCopy() {
+        Lesson present = new Lesson("Quiz 7", "Geography", AttendanceStatus.PRESENT);
+        Lesson canonical = LessonRegistry.intern(present);
+
+        assertNotSame(present, canonical);
+        assertEquals(present, canonical);
+        assertEquals(AttendanceStatus.ABSENT, canonical.getAttendanceStatus());
+        assertSame(canonical, LessonRegistry.intern("Quiz 7", "Geography"));
+    }
+}
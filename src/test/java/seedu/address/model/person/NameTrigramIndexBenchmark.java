@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the time of name searches tolerant of typing mistakes over 100k persons. Compares looking up near misses
+ * of the keywords in the trigram index of name words with computing the edit distance to every word of every name,
+ * and times suggesting the closest full name.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class NameTrigramIndexBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final String[] SYLLABLES = {"ba", "chen", "da", "ko", "li", "mar", "nor", "ra", "sin", "ta", "wei",
+        "yu", "zha", "ho", "jo", "ke"};
+    private static final int WORD_COUNT = SYLLABLES.length * SYLLABLES.length * SYLLABLES.length;
+    private static final int ROUNDS = 50;
+
+    @Test
+    public void searchLargeList() {
+        List<Person> personList = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            String fullName = toWord(i) + " " + toWord(i * 31 + 3) + " " + toWord(i / WORD_COUNT * 97);
+            personList.add(new PersonBuilder().withName(fullName).build());
+        }
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(personList);
+
+        // "marlita" mistyped, and the start of a word
+        List<String> keywords = List.of("mraliat", "ko");
+        Predicate<Person> scan = person -> keywords.stream().allMatch(keyword -> hasSimilarWord(person, keyword));
+        long expectedCount = personList.stream().filter(scan).count();
+        assertEquals(expectedCount, personList.stream().filter(persons.getSimilarNameSearch(keywords)).count());
+
+        double indexedMillis = time(() -> persons.getSimilarNameSearch(keywords).test(personList.get(0)) ? 1 : 0);
+        double scanMillis = time(() -> (int) personList.stream().filter(scan).count());
+        Name mistypedName = new Name(personList.get(PERSON_COUNT / 2).getName().fullName.replaceFirst("a", "e"));
+        double suggestionMillis = time(() -> persons.getPersonWithSimilarName(mistypedName).isPresent() ? 1 : 0);
+        System.out.printf("%,d found: trigram index %.3f ms, edit distance to every name %.3f ms;"
+                + " suggesting a name %.3f ms%n", expectedCount, indexedMillis, scanMillis, suggestionMillis);
+    }
+
+    private static boolean hasSimilarWord(Person person, String keyword) {
+        int maxEdits = NameTrigramIndex.getMaxEdits(keyword.length());
+        for (String word : UniquePersonList.toNameWords(person.getName())) {
+            if (word.startsWith(keyword) || NameTrigramIndex.getDistance(keyword, word, maxEdits) <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double time(IntSupplier round) {
+        int found = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            found += round.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            found += round.getAsInt();
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+        assertTrue(found >= 0);
+        return millis;
+    }
+
+    private static String toWord(int i) {
+        int n = Math.abs(i);
+        String word = SYLLABLES[n % SYLLABLES.length] + SYLLABLES[n / SYLLABLES.length % SYLLABLES.length]
+                + SYLLABLES[n / (SYLLABLES.length * SYLLABLES.length) % SYLLABLES.length];
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        for (String word : new String[] {"john", "joanne", "tan", "ben", "lee"}) {
+            index.addWord(word);
+        }
+    }
+
+    @Test
+    public void getDistance_swapsAndTypos_countedAsSingleEdits() {
+        assertEquals(0, NameTrigramIndex.getDistance("john", "john", 2));
+        assertEquals(1, NameTrigramIndex.getDistance("jonh", "john", 2));
+        assertEquals(1, NameTrigramIndex.getDistance("jon", "john", 2));
+        assertEquals(2, NameTrigramIndex.getDistance("jhno", "john", 2));
+        assertEquals(2, NameTrigramIndex.getDistance("bob", "john", 1));
+        assertEquals(3, NameTrigramIndex.getDistance("jo", "joanne", 2));
+    }
+
+    @Test
+    public void findSimilarWords_nearMisses_found() {
+        assertEquals(Set.of("john"), index.findSimilarWords("jonh", 1));
+        assertEquals(Set.of("john"), index.findSimilarWords("ojhn", 1));
+        assertEquals(Set.of("tan", "ben"), index.findSimilarWords("tben", 2));
+        assertEquals(Set.of(), index.findSimilarWords("joane", 0));
+        assertEquals(Set.of("joanne"), index.findSimilarWords("joane", 1));
+    }
+
+    @Test
+    public void findWordsStartingWith_prefixes_found() {
+        assertEquals(Set.of("john", "joanne"), index.findWordsStartingWith("jo"));
+        assertEquals(Set.of("lee"), index.findWordsStartingWith("l"));
+        assertEquals(Set.of(), index.findWordsStartingWith("jox"));
+    }
+
+    @Test
+    public void removeWord_wordRemoved_notFound() {
+        index.removeWord("john");
+        assertEquals(Set.of("joanne"), index.findWordsStartingWith("jo"));
+        assertEquals(Set.of(), index.findSimilarWords("jonh", 1));
+    }
+}
@@ -14,6 +14,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -49,6 +51,42 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentlyCasedName_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName("ALICE PAULINE").build();
+        assertFalse(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void getPersonsWithSameName_differentCase_returnsMatchingPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(List.of(ALICE), uniquePersonList.getPersonsWithSameName(new Name("aLiCe pAuLiNe")));
+        assertTrue(uniquePersonList.getPersonsWithSameName(new Name("Carl Kurz")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithSameName_afterRemoveAndSetPerson_staysInSync() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertTrue(uniquePersonList.getPersonsWithSameName(ALICE.getName()).isEmpty());
+        assertEquals(List.of(BOB), uniquePersonList.getPersonsWithSameName(BOB.getName()));
+
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getPersonsWithSameName(BOB.getName()).isEmpty());
+        uniquePersonList.add(BOB);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getPersonsWithSameName_afterSetPersons_reflectsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(List.of(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -164,6 +202,13 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameDifferentCase_success() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName("ALICE PAULINE").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, upperCaseAlice));
+        assertEquals(2, uniquePersonList.getPersonsWithSameName(ALICE.getName()).size());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -236,4 +281,70 @@ public class UniquePersonListTest {
         Iterator<Person> iterator = uniquePersonList.iterator();
         assertFalse(iterator.hasNext());
     }
+
+    @Test
+    public void getNameSearch_listChanges_matchesCurrentNames() {
+        Person johnTan = new PersonBuilder().withName("John Tan").build();
+        Person johnLee = new PersonBuilder().withName("John Lee").build();
+        uniquePersonList.add(johnTan);
+        uniquePersonList.add(johnLee);
+
+        Predicate<Person> search = uniquePersonList.getNameSearch(List.of("JOHN", "tan"));
+        assertTrue(search.test(johnTan));
+        assertFalse(search.test(johnLee));
+        assertFalse(search.test(new PersonBuilder().withName("John Tan").build()));
+        assertFalse(uniquePersonList.getNameSearch(List.of("Jo")).test(johnTan));
+
+        Person johnLeeTan = new PersonBuilder().withName("John Lee Tan").build();
+        uniquePersonList.setPerson(johnLee, johnLeeTan);
+        uniquePersonList.remove(johnTan);
+        assertTrue(search.test(johnLeeTan));
+        assertFalse(search.test(johnTan));
+
+        uniquePersonList.setPersons(List.of(johnTan));
+        assertTrue(search.test(johnTan));
+        assertFalse(search.test(johnLeeTan));
+    }
+
+    @Test
+    public void getSimilarNameSearch_typosAndPrefixes_matchesSimilarNames() {
+        Person johnTan = new PersonBuilder().withName("John Tan").build();
+        Person joanneTan = new PersonBuilder().withName("Joanne Tan").build();
+        Person johnLee = new PersonBuilder().withName("John Lee").build();
+        uniquePersonList.setPersons(List.of(johnTan, joanneTan, johnLee));
+
+        Predicate<Person> search = uniquePersonList.getSimilarNameSearch(List.of("Jonh", "tan"));
+        assertTrue(search.test(johnTan));
+        assertFalse(search.test(joanneTan));
+        assertFalse(search.test(johnLee));
+
+        Predicate<Person> prefixSearch = uniquePersonList.getSimilarNameSearch(List.of("jo", "TA"));
+        assertTrue(prefixSearch.test(johnTan));
+        assertTrue(prefixSearch.test(joanneTan));
+        assertFalse(prefixSearch.test(johnLee));
+
+        // An edited person is a new object, which still matches
+        Person editedJohnTan = new PersonBuilder(johnTan).withPhone("98765432").build();
+        uniquePersonList.setPerson(johnTan, editedJohnTan);
+        assertTrue(search.test(editedJohnTan));
+        assertFalse(search.test(johnTan));
+
+        uniquePersonList.remove(editedJohnTan);
+        assertFalse(uniquePersonList.getSimilarNameSearch(List.of("Jonh", "tan")).test(editedJohnTan));
+    }
+
+    @Test
+    public void getPersonWithSimilarName_mistypedName_closestPersonReturned() {
+        Person johnTan = new PersonBuilder().withName("John Tan").build();
+        Person joanneTan = new PersonBuilder().withName("Joanne Tan").build();
+        uniquePersonList.setPersons(List.of(johnTan, joanneTan));
+
+        assertEquals(Optional.of(johnTan), uniquePersonList.getPersonWithSimilarName(new Name("jonh tan")));
+        assertEquals(Optional.of(joanneTan), uniquePersonList.getPersonWithSimilarName(new Name("Joane Tan")));
+        assertEquals(Optional.empty(), uniquePersonList.getPersonWithSimilarName(new Name("Jane Lim")));
+
+        Person johnTam = new PersonBuilder().withName("John Tam").build();
+        uniquePersonList.setPerson(johnTan, johnTam);
+        assertEquals(Optional.of(johnTam), uniquePersonList.getPersonWithSimilarName(new Name("Jonh Tan")));
+    }
 }
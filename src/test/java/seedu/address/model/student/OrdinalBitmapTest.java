@@ -0,0 +1,114 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class OrdinalBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new OrdinalBitmap().add(-1));
+    }
+
+    @Test
+    public void addRemove_acrossChunks_tracksMembers() {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        bitmap.add(3);
+        bitmap.add(70_000);
+        bitmap.add(3);
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertFalse(bitmap.contains(-3));
+        assertEquals(2, bitmap.getCardinality());
+
+        bitmap.remove(3);
+        bitmap.remove(5);
+        assertFalse(bitmap.contains(3));
+        assertEquals(List.of(70_000), toList(bitmap));
+
+        bitmap.remove(70_000);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void addRemove_pastArrayCardinality_keepsMembers() {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        int count = OrdinalBitmap.MAX_ARRAY_CARDINALITY + 10;
+        for (int i = 0; i < count; i++) {
+            bitmap.add(i * 7);
+        }
+        assertEquals(count, bitmap.getCardinality());
+        assertTrue(bitmap.contains(7 * (count - 1)));
+
+        for (int i = 0; i < 20; i++) {
+            bitmap.remove(i * 7);
+        }
+        assertEquals(count - 20, bitmap.getCardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(140));
+        bitmap.add(1);
+        assertEquals(Integer.valueOf(1), toList(bitmap).get(0));
+    }
+
+    @Test
+    public void andOr_sparseAndDenseChunks_matchSetOperations() {
+        Random random = new Random(42);
+        Set<Integer> first = new TreeSet<>();
+        Set<Integer> second = new TreeSet<>();
+        OrdinalBitmap firstBitmap = new OrdinalBitmap();
+        OrdinalBitmap secondBitmap = new OrdinalBitmap();
+        // Dense in the first chunk, sparse in the second and only in one set in the third
+        for (int i = 0; i < 30_000; i++) {
+            addTo(first, firstBitmap, random.nextInt(65_536));
+            addTo(second, secondBitmap, random.nextInt(65_536));
+        }
+        for (int i = 0; i < 500; i++) {
+            addTo(first, firstBitmap, 65_536 + random.nextInt(65_536));
+            addTo(second, secondBitmap, 65_536 + random.nextInt(65_536));
+            addTo(second, secondBitmap, 2 * 65_536 + random.nextInt(65_536));
+        }
+
+        Set<Integer> intersection = new TreeSet<>(first);
+        intersection.retainAll(second);
+        Set<Integer> union = new TreeSet<>(first);
+        union.addAll(second);
+        assertEquals(new ArrayList<>(intersection), toList(firstBitmap.and(secondBitmap)));
+        assertEquals(new ArrayList<>(intersection), toList(secondBitmap.and(firstBitmap)));
+        assertEquals(new ArrayList<>(union), toList(firstBitmap.or(secondBitmap)));
+        assertEquals(union.size(), secondBitmap.or(firstBitmap).getCardinality());
+    }
+
+    @Test
+    public void and_disjointSets_returnsEmpty() {
+        OrdinalBitmap evens = new OrdinalBitmap();
+        OrdinalBitmap odds = new OrdinalBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            evens.add(2 * i);
+            odds.add(2 * i + 1);
+        }
+        assertTrue(evens.and(odds).isEmpty());
+        assertEquals(20_000, evens.or(odds).getCardinality());
+    }
+
+    private static void addTo(Set<Integer> set, OrdinalBitmap bitmap, int value) {
+        set.add(value);
+        bitmap.add(value);
+    }
+
+    private static List<Integer> toList(OrdinalBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+}
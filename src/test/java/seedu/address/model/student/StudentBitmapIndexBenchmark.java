@@ -0,0 +1,84 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Measures the time of finding the students meeting criteria on class, payment status and subjects in 10k and 100k
+ * students, for a narrow query and a broad one. Compares intersecting the bitmaps of the student bitmap index with
+ * streaming over the students and testing each of them.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class StudentBitmapIndexBenchmark {
+
+    private static final String[] SUBJECTS = {"Math", "Science", "English", "History", "Chinese", "Art", "Music",
+        "Geography", "Physics", "Chemistry"};
+    private static final int ROUNDS = 50;
+
+    @Test
+    public void findInLargeStudentLists() {
+        for (int studentCount : new int[] {10_000, 100_000}) {
+            List<Student> students = new ArrayList<>(studentCount);
+            StudentBitmapIndex index = new StudentBitmapIndex();
+            for (int i = 0; i < studentCount; i++) {
+                Student student = new StudentBuilder()
+                        .withName("Student " + toWord(i))
+                        .withStudentClass((i / 3 % 6 + 1) + "" + (char) ('A' + i / 11 % 5))
+                        .withSubjects(SUBJECTS[i % SUBJECTS.length] + "," + SUBJECTS[i / 7 % SUBJECTS.length])
+                        .withPaymentStatus(i % 3 == 0 ? "Unpaid" : "Paid")
+                        .build();
+                students.add(student);
+                index.add(student);
+            }
+
+            measure(students, index, "unpaid, 3B and Math", new StudentFilter("3B", List.of("Math"), "Unpaid", null,
+                    null));
+            measure(students, index, "paid and Science", new StudentFilter(null, List.of("Science"), "Paid", null,
+                    null));
+        }
+    }
+
+    private static void measure(List<Student> students, StudentBitmapIndex index, String name, StudentFilter filter) {
+        List<Student> expected = students.stream().filter(filter.toPredicate()).collect(Collectors.toList());
+        assertEquals(expected.size(), index.findStudentsMatching(filter).get().size());
+
+        double indexedMillis = time(() -> index.findStudentsMatching(filter).get().size());
+        double streamMillis = time(() -> students.stream().filter(filter.toPredicate()).collect(Collectors.toList())
+                .size());
+        System.out.printf("%,d students, %s, %,d found: bitmap index %.3f ms, stream filter %.3f ms%n",
+                students.size(), name, expected.size(), indexedMillis, streamMillis);
+    }
+
+    private static double time(IntSupplier round) {
+        int found = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            found += round.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            found += round.getAsInt();
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+        assertTrue(found >= 0);
+        return millis;
+    }
+
+    private static String toWord(int i) {
+        StringBuilder word = new StringBuilder();
+        for (int n = i; word.length() == 0 || n > 0; n /= 26) {
+            word.append((char) ('a' + n % 26));
+        }
+        return word.toString();
+    }
+}
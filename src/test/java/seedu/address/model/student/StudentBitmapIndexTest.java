@@ -0,0 +1,79 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.AttendanceRateBound;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentBitmapIndexTest {
+
+    private final StudentBitmapIndex index = new StudentBitmapIndex();
+
+    private Student amy;
+    private Student ben;
+    private Student cai;
+
+    @BeforeEach
+    public void setUp() {
+        amy = new StudentBuilder().withName("Amy").withStudentClass("3B").withSubjects("Math, Science")
+                .withPaymentStatus("Unpaid").withAssignmentStatus("Completed").build();
+        ben = new StudentBuilder().withName("Ben").withStudentClass("3B").withSubjects("Math")
+                .withPaymentStatus("Paid").withAssignmentStatus("Incomplete").build();
+        cai = new StudentBuilder().withName("Cai").withStudentClass("4A").withSubjects("Math")
+                .withPaymentStatus("Unpaid").withAssignmentStatus("Incomplete").build();
+        index.add(amy);
+        index.add(ben);
+        index.add(cai);
+    }
+
+    @Test
+    public void findStudentsMatching_severalCriteria_intersectsThem() {
+        StudentFilter filter = new StudentFilter("3b", List.of("MATH"), "unpaid", null, null);
+        assertEquals(Optional.of(List.of(amy)), index.findStudentsMatching(filter));
+
+        filter = new StudentFilter(null, List.of("Math"), null, "Incomplete", null);
+        assertEquals(Set.of(ben, cai), new HashSet<>(index.findStudentsMatching(filter).get()));
+    }
+
+    @Test
+    public void findStudentsMatching_unknownValue_findsNoStudents() {
+        StudentFilter filter = new StudentFilter("3B", List.of("Latin"), null, null, null);
+        assertEquals(Optional.of(List.of()), index.findStudentsMatching(filter));
+    }
+
+    @Test
+    public void findStudentsMatching_onlyAttendanceRate_returnsEmpty() {
+        StudentFilter filter = new StudentFilter(null, List.of(), null, null, new AttendanceRateBound("<0.5"));
+        assertTrue(index.findStudentsMatching(filter).isEmpty());
+    }
+
+    @Test
+    public void remove_studentRemoved_freesOrdinalForNextStudent() {
+        index.remove(amy);
+        index.remove(amy);
+        assertEquals(List.of(ben), index.getStudentsInClass("3B"));
+
+        Student dan = new StudentBuilder().withName("Dan").withStudentClass("3b").withSubjects("Science").build();
+        index.add(dan);
+        assertEquals(List.of(dan, ben), index.getStudentsInClass("3B"));
+        StudentFilter filter = new StudentFilter(null, List.of("Science"), null, null, null);
+        assertEquals(Optional.of(List.of(dan)), index.findStudentsMatching(filter));
+    }
+
+    @Test
+    public void clear_indexCleared_findsNoStudents() {
+        index.clear();
+        assertEquals(List.of(), index.getStudentsInClass("3B"));
+        index.add(cai);
+        assertEquals(List.of(cai), index.getStudentsInClass("4a"));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.subject;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -112,4 +113,39 @@ public class SubjectListTest {
         String output = subjectList.toString();
         assertTrue(output.contains("Math"));
     }
+
+    @Test
+    public void addSubject_sameNameDifferentCase_throwsDuplicateSubjectException() {
+        subjectList.addSubject(math);
+        assertThrows(DuplicateSubjectException.class, () -> subjectList.addSubject(new Subject(" mATH ")));
+    }
+
+    @Test
+    public void getOrCreateSubject_existingNameDifferentCase_returnsSameInstance() {
+        Subject created = subjectList.getOrCreateSubject(" Math ");
+        assertEquals("Math", created.getName());
+        assertSame(created, subjectList.getOrCreateSubject("math"));
+        assertEquals(1, subjectList.getSubjects().size());
+    }
+
+    @Test
+    public void getSubject_lookupIgnoresCase() {
+        subjectList.addSubject(math);
+        assertSame(math, subjectList.getSubject("MATH").get());
+        assertTrue(subjectList.contains("math"));
+        assertFalse(subjectList.getSubject("Science").isPresent());
+    }
+
+    @Test
+    public void deleteSubject_removesFromLookupAndKeepsOrder() {
+        subjectList.addSubject(math);
+        subjectList.addSubject(science);
+        subjectList.addSubject(new Subject("Art"));
+        subjectList.deleteSubject(science);
+
+        assertFalse(subjectList.contains("Science"));
+        assertEquals(List.of(math, new Subject("Art")), subjectList.getInternalList());
+        subjectList.addSubject(new Subject("science"));
+        assertTrue(subjectList.contains("Science"));
+    }
 }
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures how long it takes to build the model from a data file at startup, for growing numbers of students.
+ * Compares converting the persons on one thread with converting them on the common fork/join pool, and filling the
+ * address book one person at a time with filling it in bulk.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class AddressBookLoadBenchmark {
+
+    private static final int[] STUDENT_COUNTS = {1_000, 10_000, 100_000};
+    private static final int LESSONS_PER_SUBJECT = 5;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void compareLoadPaths() throws Exception {
+        System.out.printf("%d lessons per subject, %d fork/join workers%n", LESSONS_PER_SUBJECT,
+                ForkJoinPool.commonPool().getParallelism());
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        try {
+            for (int studentCount : STUDENT_COUNTS) {
+                AddressBook source = AddressBookStorageBenchmark.createAddressBook(studentCount, LESSONS_PER_SUBJECT);
+                JsonSerializableAddressBook serialized = new JsonSerializableAddressBook(source);
+                JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("data.json"));
+                storage.saveAddressBook(source);
+                List<Person> persons = serialized.toModelType().getPersonList();
+
+                double sequential = measureMillis(() -> serialized.toModelType(singleThread));
+                double parallel = measureMillis(serialized::toModelType);
+                double fromFile = measureMillis(() -> storage.readAddressBook().get());
+                double oneByOne = measureMillis(() -> addOneByOne(persons));
+                double bulk = measureMillis(() -> new AddressBook().setPersons(persons, List.of()));
+
+                System.out.printf("%,d students: convert on 1 thread %.1f ms, on the pool %.1f ms (%.2fx);"
+                        + " startup from file %.1f ms; fill one by one %.1f ms, in bulk %.1f ms%n",
+                        studentCount, sequential, parallel, sequential / parallel, fromFile, oneByOne, bulk);
+                assertEquals(studentCount, serialized.toModelType().getPersonList().size());
+            }
+        } finally {
+            singleThread.shutdown();
+        }
+    }
+
+    private static void addOneByOne(List<Person> persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            if (!addressBook.hasPerson(person)) {
+                addressBook.addPerson(person);
+            }
+        }
+    }
+
+    private static double measureMillis(Task task) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            times.add(System.nanoTime() - start);
+        }
+        return times.stream().mapToLong(Long::longValue).average().orElse(0) / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Compares the file size and save/load times of the storage formats: JSON in the old embedded schema, JSON in the
+ * normalized schema, and binary.
+ * Run with {@code gradlew benchmark}; it is excluded from the regular test run.
+ */
+@Tag("benchmark")
+public class AddressBookStorageBenchmark {
+
+    private static final String[] SUBJECTS = {"Math", "Science", "English"};
+    private static final int STUDENT_COUNT = 2000;
+    private static final int LESSONS_PER_SUBJECT = 20;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void compareFormats() throws Exception {
+        AddressBook addressBook = createAddressBook(STUDENT_COUNT, LESSONS_PER_SUBJECT);
+
+        Result embeddedJson = measure(new EmbeddedJsonAddressBookStorage(testFolder.resolve("embedded.json")),
+                addressBook);
+        Result json = measure(new JsonAddressBookStorage(testFolder.resolve("data.json")), addressBook);
+        Result binary = measure(new BinaryAddressBookStorage(testFolder.resolve("data.bin")), addressBook);
+
+        System.out.printf("%d students, %d lessons per subject%n", STUDENT_COUNT, LESSONS_PER_SUBJECT);
+        System.out.println("Embedded JSON:   " + embeddedJson);
+        System.out.println("Normalized JSON: " + json);
+        System.out.println("Binary:          " + binary);
+        assertTrue(json.sizeBytes < embeddedJson.sizeBytes);
+        assertTrue(binary.sizeBytes < json.sizeBytes);
+    }
+
+    /**
+     * Returns an address book of {@code studentCount} students, each taking two subjects with
+     * {@code lessonsPerSubject} lessons, whose attendance has been marked for every lesson.
+     */
+    static AddressBook createAddressBook(int studentCount, int lessonsPerSubject) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < studentCount; i++) {
+            String suffix = "" + (char) ('a' + i / 17576 % 26) + (char) ('a' + i / 676 % 26)
+                    + (char) ('a' + i / 26 % 26) + (char) ('a' + i % 26);
+            addressBook.addPerson(new StudentBuilder().withName("Student " + suffix)
+                    .withSubjects(SUBJECTS[i % SUBJECTS.length] + "," + SUBJECTS[(i + 1) % SUBJECTS.length])
+                    .withStudentClass("Class " + (char) ('A' + i % 8))
+                    .build());
+        }
+
+        AttendanceStatus[] statuses = AttendanceStatus.values();
+        for (String subject : SUBJECTS) {
+            for (int i = 0; i < lessonsPerSubject; i++) {
+                Lesson lesson = new Lesson("Week " + (char) ('a' + i / 26) + (char) ('a' + i % 26), subject);
+                addressBook.addLesson(lesson);
+                int n = 0;
+                for (Student student : addressBook.getStudentsEnrolledIn(subject)) {
+                    student.getAttendanceList().markAttendance(lesson, statuses[n++ % statuses.length]);
+                }
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes the address book in the embedded schema that files were saved in before the normalized schema.
+     */
+    static void saveEmbedded(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<JsonAdaptedPerson> persons = addressBook.getPersonList().stream()
+                .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        List<JsonAdaptedPerson> archivedPersons = addressBook.getArchivedPersonList().stream()
+                .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(null, null, null, null, null, persons, null,
+                archivedPersons, null), filePath);
+    }
+
+    private static class EmbeddedJsonAddressBookStorage extends JsonAddressBookStorage {
+        EmbeddedJsonAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveEmbedded(addressBook, filePath);
+        }
+    }
+
+    private static Result measure(AddressBookStorage storage, AddressBook addressBook) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            storage.saveAddressBook(addressBook);
+            storage.readAddressBook();
+        }
+
+        long saveNanos = 0;
+        long loadNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            storage.readAddressBook();
+            long loaded = System.nanoTime();
+            saveNanos += saved - start;
+            loadNanos += loaded - saved;
+        }
+        return new Result(Files.size(storage.getAddressBookFilePath()), saveNanos / MEASURED_ROUNDS,
+                loadNanos / MEASURED_ROUNDS);
+    }
+
+    private static class Result {
+        private final long sizeBytes;
+        private final long saveNanos;
+        private final long loadNanos;
+
+        Result(long sizeBytes, long saveNanos, long loadNanos) {
+            this.sizeBytes = sizeBytes;
+            this.saveNanos = saveNanos;
+            this.loadNanos = loadNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d bytes, save %.1f ms, load %.1f ms", sizeBytes, saveNanos / 1e6,
+                    loadNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("a.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("a.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_typicalPersons_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_studentsWithAttendance_sameAsJson() throws Exception {
+        Path filePath = testFolder.resolve("students.bin");
+        AddressBook original = addressBookWithAttendance();
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+
+        assertEquals(toJson(readThroughJson(original)), toJson(readBack));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        Files.writeString(filePath, "{ \"persons\" : [ ] }");
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBookWithAttendance());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("future.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookFormat.MAGIC.length] = BinaryAddressBookFormat.VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("a.bin")).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_manyStudents_muchSmallerThanJson() throws Exception {
+        AddressBook addressBook = AddressBookStorageBenchmark.createAddressBook(200, 10);
+        Path jsonPath = testFolder.resolve("large.json");
+        Path binaryPath = testFolder.resolve("large.bin");
+
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(addressBook);
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(binaryPath) * 10 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        Path jsonPath = testFolder.resolve("data.json");
+        Path binaryPath = testFolder.resolve("data.bin");
+        Path convertedBackPath = testFolder.resolve("back.json");
+        AddressBook original = addressBookWithAttendance();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.convert(jsonPath, DataFileFormat.JSON, binaryPath,
+                DataFileFormat.BINARY));
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(binaryPath));
+        assertTrue(AddressBookFileConverter.convert(binaryPath, DataFileFormat.BINARY, convertedBackPath,
+                DataFileFormat.JSON));
+
+        ReadOnlyAddressBook expected = new JsonAddressBookStorage(jsonPath).readAddressBook().get();
+        assertEquals(toJson(expected), Files.readString(convertedBackPath));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(AddressBookFileConverter.convert(testFolder.resolve("none.json"), DataFileFormat.JSON,
+                testFolder.resolve("none.bin"), DataFileFormat.BINARY));
+        assertFalse(Files.exists(testFolder.resolve("none.bin")));
+    }
+
+    @Test
+    public void getFilePath_eachFormat_extensionOfFormat() {
+        Path filePath = Paths.get("data", "tutortrack.json");
+        assertEquals(filePath, AddressBookFileConverter.getFilePath(filePath, DataFileFormat.JSON));
+        assertEquals(Paths.get("data", "tutortrack.ttab"),
+                AddressBookFileConverter.getFilePath(filePath, DataFileFormat.BINARY));
+        assertEquals(Paths.get("book.v2.ttab"),
+                AddressBookFileConverter.getFilePath(Paths.get("book.v2.json"), DataFileFormat.BINARY));
+        assertEquals(Paths.get("book.json"), AddressBookFileConverter.getFilePath(Paths.get("book"),
+                DataFileFormat.JSON));
+    }
+
+    @Test
+    public void convertIfNeeded_jsonFileSwitchedToBinary_movedToBinaryFile() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path binaryPath = testFolder.resolve("data.ttab");
+        AddressBook original = addressBookWithAttendance();
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(filePath);
+        journaledStorage.saveAddressBook(original);
+        original.removePerson(original.getPersonList().get(0));
+        journaledStorage.saveAddressBook(original);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        Path archivePath = TieredAddressBookStorage.getArchiveFilePath(filePath);
+        Files.writeString(archivePath, "archive");
+
+        assertTrue(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.BINARY));
+        assertFalse(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.BINARY));
+
+        assertEquals(DataFileFormat.BINARY, AddressBookFileConverter.detectFormat(binaryPath).get());
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertFalse(Files.exists(archivePath));
+        assertEquals("archive", Files.readString(TieredAddressBookStorage.getArchiveFilePath(binaryPath)));
+        assertEquals(toJson(readThroughJson(original)),
+                toJson(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+
+        // Switching back reads the binary file, even though the preferences still name the JSON file
+        assertTrue(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.JSON));
+        assertEquals(DataFileFormat.JSON, AddressBookFileConverter.detectFormat(filePath).get());
+        assertFalse(Files.exists(binaryPath));
+        assertEquals("archive", Files.readString(archivePath));
+    }
+
+    @Test
+    public void convertIfNeeded_binaryFileWithJsonName_renamed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = addressBookWithAttendance();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.BINARY));
+
+        Path binaryPath = testFolder.resolve("data.ttab");
+        assertFalse(Files.exists(filePath));
+        assertEquals(toJson(readThroughJson(original)),
+                toJson(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_unreadableFile_keptWithArchive() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Files.writeString(filePath, "not json");
+        Path archivePath = TieredAddressBookStorage.getArchiveFilePath(filePath);
+        Files.writeString(archivePath, "archive");
+
+        assertThrows(DataLoadingException.class, () ->
+                AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.BINARY));
+
+        assertEquals(filePath, AddressBookFileConverter.findDataFile(filePath, DataFileFormat.BINARY).get());
+        assertEquals("archive", Files.readString(archivePath));
+    }
+
+    @Test
+    public void convertIfNeeded_missingFile_returnsFalse() throws Exception {
+        assertFalse(AddressBookFileConverter.convertIfNeeded(testFolder.resolve("none.json"),
+                DataFileFormat.BINARY));
+    }
+
+    /**
+     * Returns {@code addressBook} as it reads back after being saved as JSON, which is the model the binary format
+     * must reproduce. Loading can order the lesson list differently from the book that was saved.
+     */
+    private ReadOnlyAddressBook readThroughJson(ReadOnlyAddressBook addressBook) throws Exception {
+        Path jsonPath = testFolder.resolve("expected.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(jsonPath);
+        storage.saveAddressBook(addressBook);
+        return storage.readAddressBook().get();
+    }
+
+    private static String toJson(ReadOnlyAddressBook addressBook) throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+
+    /**
+     * Returns an address book with current and archived students whose attendance covers every status.
+     */
+    private static AddressBook addressBookWithAttendance() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Student amy = new StudentBuilder().withName("Amy Lee").withSubjects("Math,Science").build();
+        Student ben = new StudentBuilder().withName("Ben Tan").withSubjects("Math").withStudentClass("4B").build();
+        Student cal = new StudentBuilder().withName("Cal Ong").withSubjects("Science").build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(ben);
+        addressBook.addArchivedPerson(cal);
+
+        AttendanceStatus[] statuses = AttendanceStatus.values();
+        for (int i = 0; i < 6; i++) {
+            Lesson lesson = new Lesson("Lesson " + (char) ('a' + i), i % 2 == 0 ? "Math" : "Science");
+            addressBook.addLesson(lesson);
+            for (Student student : addressBook.getStudentsEnrolledIn(lesson.getSubject())) {
+                student.getAttendanceList().markAttendance(lesson, statuses[(i + student.getName().fullName.length())
+                        % statuses.length]);
+            }
+        }
+        return addressBook;
+    }
+}
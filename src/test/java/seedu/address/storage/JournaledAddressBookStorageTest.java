@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final Lesson ALGEBRA = new Lesson("Algebra", "Math");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("a.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("a.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        // First save writes a snapshot only
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalOf(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Further changes are appended to the journal, and replayed over the snapshot when read
+        String snapshot = Files.readString(filePath);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(journalOf(filePath)));
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_attendanceMarked_onlyChangedStudentJournaled() throws Exception {
+        Path filePath = testFolder.resolve("attendance.json");
+        AddressBook addressBook = addressBookWithStudents(20);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        Student marked = (Student) addressBook.getPersonList().get(7);
+        marked.getAttendanceList().markAttendance(ALGEBRA, AttendanceStatus.PRESENT);
+        storage.saveAddressBook(addressBook);
+
+        // The journal holds its header and one entry
+        List<String> journal = Files.readAllLines(journalOf(filePath));
+        assertEquals(2, journal.size());
+        assertTrue(journal.get(1).contains(marked.getName().fullName));
+
+        // A save with nothing changed writes nothing
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, Files.readAllLines(journalOf(filePath)).size());
+
+        Student readBack = (Student) new JournaledAddressBookStorage(filePath).readAddressBook().get()
+                .getPersonList().get(7);
+        assertEquals(AttendanceStatus.PRESENT,
+                readBack.getAttendanceList().getRecord(ALGEBRA).get().getStatus());
+    }
+
+    @Test
+    public void saveAddressBook_archiveAndUnarchive_orderReplayed() throws Exception {
+        Path filePath = testFolder.resolve("archive.json");
+        AddressBook addressBook = addressBookWithStudents(5);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        Person archived = addressBook.getPersonList().get(1);
+        addressBook.archivePerson(archived);
+        storage.saveAddressBook(addressBook);
+        addressBook.unarchivePerson(archived);
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+        assertTrue(readBack.getArchivedPersonList().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        AddressBook addressBook = addressBookWithStudents(3);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(addressBook);
+
+        ((Student) addressBook.getPersonList().get(0)).getAttendanceList()
+                .markAttendance(ALGEBRA, AttendanceStatus.LATE);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalOf(filePath)));
+        Student readBack = (Student) new JournaledAddressBookStorage(filePath).readAddressBook().get()
+                .getPersonList().get(0);
+        assertEquals(AttendanceStatus.LATE, readBack.getAttendanceList().getRecord(ALGEBRA).get().getStatus());
+    }
+
+    @Test
+    public void readAddressBook_journalLeftByInterruptedCompaction_ignored() throws Exception {
+        Path filePath = testFolder.resolve("interrupted.json");
+        AddressBook addressBook = addressBookWithStudents(3);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        byte[] staleJournal = Files.readAllBytes(journalOf(filePath));
+
+        // A new lesson compacts into a new snapshot; a crash before the journal is removed leaves the old journal
+        addressBook.removePerson(HOON);
+        addressBook.addLesson(new Lesson("Geometry", "Math"));
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalOf(filePath)));
+        Files.write(journalOf(filePath), staleJournal);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+
+        // The next compaction moves past the stale journal, and later changes are journaled and replayed again
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        AddressBook restored = new AddressBook(readBack);
+        restarted.saveAddressBook(restored);
+        restored.addPerson(IDA);
+        restarted.saveAddressBook(restored);
+        assertTrue(Files.exists(journalOf(filePath)));
+        assertEquals(restored, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("torn.json");
+        AddressBook addressBook = addressBookWithStudents(2);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Files.write(journalOf(filePath), "{\"list\":\"persons\",\"person\":{\"na".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(addressBook.getPersonList(),
+                new JournaledAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_corruptEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("corrupt.json");
+        Files.writeString(journalOf(filePath), "not json\n{\"list\":\"persons\",\"order\":[]}\n");
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_orderNamesUnknownPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("unknown.json");
+        Files.writeString(journalOf(filePath), "{\"list\":\"persons\",\"order\":[\"Nobody\"]}\n");
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private static AddressBook addressBookWithStudents(int count) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < count; i++) {
+            addressBook.addPerson(new StudentBuilder().withName("Student " + (char) ('a' + i))
+                    .withSubjects("Math").build());
+        }
+        addressBook.addLesson(ALGEBRA);
+        return addressBook;
+    }
+
+    private static Path journalOf(Path filePath) {
+        return JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+}
@@ -1,16 +1,32 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -22,6 +38,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path DUPLICATE_ARCHIVED_PERSON_FILE = TEST_DATA_FOLDER.resolve(
             "duplicateArchivedPersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -31,6 +50,149 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void readModel_typicalPersonsFile_sameAsToModelType() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        try (JsonParser parser = JsonUtil.createJsonParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(dataFromFile.toModelType(), JsonSerializableAddressBook.readModel(parser));
+        }
+    }
+
+    @Test
+    public void readModel_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readModel(parser));
+        }
+    }
+
+    @Test
+    public void readModel_duplicateArchivedPersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(DUPLICATE_ARCHIVED_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readModel(parser));
+        }
+    }
+
+    @Test
+    public void writeModel_typicalAddressBook_sameAsSerializedForm() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addLesson(new Lesson("Algebra", "Math"));
+        Path expectedFile = testFolder.resolve("expected.json");
+        Path streamedFile = testFolder.resolve("streamed.json");
+
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), expectedFile);
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(streamedFile, false)) {
+            JsonSerializableAddressBook.writeModel(addressBook, generator);
+        }
+
+        assertEquals(FileUtil.readFromFile(expectedFile), FileUtil.readFromFile(streamedFile));
+    }
+
+    @Test
+    public void toModelType_embeddedSchema_migratedToNormalizedSchema() throws Exception {
+        AddressBook source = AddressBookStorageBenchmark.createAddressBook(20, 3);
+        Path embeddedFile = testFolder.resolve("embedded.json");
+        Path normalizedFile = testFolder.resolve("normalized.json");
+        AddressBookStorageBenchmark.saveEmbedded(source, embeddedFile);
+
+        AddressBook fromEmbedded = JsonUtil.readJsonFile(embeddedFile, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(fromEmbedded), normalizedFile);
+        AddressBook fromNormalized = JsonUtil.readJsonFile(normalizedFile, JsonSerializableAddressBook.class).get()
+                .toModelType();
+
+        assertEquals(fromEmbedded, fromNormalized);
+        assertTrue(FileUtil.readFromFile(normalizedFile).contains("\"schemaVersion\" : "
+                + JsonSerializableAddressBook.SCHEMA_VERSION));
+        assertTrue(Files.size(normalizedFile) * 2 < Files.size(embeddedFile));
+    }
+
+    @Test
+    public void readModel_normalizedSchema_sameAsToModelType() throws Exception {
+        AddressBook source = AddressBookStorageBenchmark.createAddressBook(20, 3);
+        Path normalizedFile = testFolder.resolve("normalized.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(source), normalizedFile);
+
+        AddressBook expected = JsonUtil.readJsonFile(normalizedFile, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        try (JsonParser parser = JsonUtil.createJsonParser(normalizedFile)) {
+            assertEquals(expected, JsonSerializableAddressBook.readModel(parser));
+        }
+    }
+
+    @Test
+    public void toModelType_unknownSubjectId_throwsIllegalValueException() throws Exception {
+        Path file = writeFile("{ \"schemaVersion\" : 2, \"subjectTable\" : [ ],"
+                + " \"persons\" : [ { \"name\" : \"Alice\", \"phone\" : \"94351253\","
+                + " \"email\" : \"alice@example.com\", \"address\" : \"Jurong\", \"subjectIds\" : [ 7 ] } ] }");
+        assertReadFails(file, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSONS, 1,
+                "persons[0]: " + String.format(JsonIdTables.MESSAGE_UNKNOWN_SUBJECT, 7)));
+    }
+
+    @Test
+    public void toModelType_severalInvalidPersons_allReported() throws Exception {
+        String validPerson = "{ \"name\" : \"Alice\", \"phone\" : \"94351253\", \"email\" : \"alice@example.com\","
+                + " \"address\" : \"Jurong\" }";
+        String missingPhone = "{ \"name\" : \"Benson\", \"email\" : \"benson@example.com\","
+                + " \"address\" : \"Clementi\" }";
+        String invalidName = "{ \"name\" : \"R@chel\", \"phone\" : \"94351253\", \"email\" : \"r@example.com\","
+                + " \"address\" : \"Jurong\" }";
+        Path file = writeFile("{ \"persons\" : [ " + validPerson + ", " + missingPhone + " ],"
+                + " \"archivedPersons\" : [ " + invalidName + " ] }");
+
+        assertReadFails(file, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSONS, 2,
+                "persons[1]: " + String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, "Phone") + "\n"
+                + "archivedPersons[0]: " + Name.MESSAGE_CONSTRAINTS));
+    }
+
+    @Test
+    public void toModelType_unknownLessonId_throwsIllegalValueException() throws Exception {
+        Path file = writeFile("{ \"schemaVersion\" : 2,"
+                + " \"subjectTable\" : [ { \"id\" : 0, \"name\" : \"Math\", \"lessons\" : [ ] } ],"
+                + " \"lessonTable\" : [ ], \"lessonList\" : [ 3 ] }");
+        assertReadFails(file, String.format(JsonIdTables.MESSAGE_UNKNOWN_LESSON, 3));
+    }
+
+    @Test
+    public void toModelType_unsupportedSchemaVersion_throwsIllegalValueException() throws Exception {
+        int version = JsonSerializableAddressBook.SCHEMA_VERSION + 1;
+        Path file = writeFile("{ \"schemaVersion\" : " + version + ", \"persons\" : [ ] }");
+        assertReadFails(file, String.format(JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_SCHEMA, version));
+    }
+
+    @Test
+    public void toModelType_lessonSharedByManyStudents_loadedAsOneInstance() throws Exception {
+        int studentCount = 300;
+        AddressBook source = new AddressBook();
+        for (int i = 0; i < studentCount; i++) {
+            String suffix = "" + (char) ('a' + i / 26) + (char) ('a' + i % 26);
+            source.addPerson(new StudentBuilder().withName("Student " + suffix).withSubjects("Math").build());
+        }
+        source.addLesson(new Lesson("Algebra", "Math"));
+
+        AddressBook loaded = new JsonSerializableAddressBook(source).toModelType();
+
+        // Count every reference to a lesson in the loaded model, and how many distinct objects back them.
+        // Without interning, each attendance record would hold its own copy.
+        Set<Lesson> distinctLessons = Collections.newSetFromMap(new IdentityHashMap<>());
+        int references = 0;
+        for (Person person : loaded.getPersonList()) {
+            for (AttendanceRecord record : ((Student) person).getAttendanceList().getRecords()) {
+                distinctLessons.add(record.getLesson());
+                references++;
+            }
+        }
+        for (Lesson lesson : loaded.getLessonList().getInternalList()) {
+            distinctLessons.add(lesson);
+            references++;
+        }
+
+        assertEquals(studentCount + 1, references);
+        assertEquals(1, distinctLessons.size());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -54,4 +216,21 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    private Path writeFile(String content) throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, content);
+        return file;
+    }
+
+    /**
+     * Asserts that both the databind and the streaming readers reject {@code file} with {@code expectedMessage}.
+     */
+    private void assertReadFails(Path file, String expectedMessage) throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonSerializableAddressBook.readModel(parser));
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final String INVALID_NAME = "R@chel";
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ParallelPersonConverter(null, JsonIdTables.empty(), pool));
+        assertThrows(NullPointerException.class, () -> new ParallelPersonConverter("persons", null, pool));
+        assertThrows(NullPointerException.class, () ->
+                new ParallelPersonConverter("persons", JsonIdTables.empty(), null));
+    }
+
+    @Test
+    public void getPersons_severalBatches_orderKept() {
+        int personCount = ParallelPersonConverter.BATCH_SIZE * 2 + 10;
+        List<Person> expected = new ArrayList<>();
+        ParallelPersonConverter converter = new ParallelPersonConverter("persons", JsonIdTables.empty(), pool);
+        for (int i = 0; i < personCount; i++) {
+            Person person = new PersonBuilder().withName("Person " + toLetters(i)).build();
+            expected.add(person);
+            converter.add(new JsonAdaptedPerson(person));
+        }
+
+        assertEquals(expected, converter.getPersons());
+        assertEquals(List.of(), converter.getErrors());
+    }
+
+    @Test
+    public void getErrors_invalidPersons_allReportedWithPosition() {
+        int[] invalidPositions = {1, ParallelPersonConverter.BATCH_SIZE + 3};
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < ParallelPersonConverter.BATCH_SIZE + 5; i++) {
+            Person person = new PersonBuilder().withName("Person " + toLetters(i)).build();
+            if (i == invalidPositions[0] || i == invalidPositions[1]) {
+                adaptedPersons.add(new JsonAdaptedPerson("person", INVALID_NAME, "98765432", "a@example.com",
+                        "Clementi", List.of(), null, null, null, null, null, null, false));
+            } else {
+                adaptedPersons.add(new JsonAdaptedPerson(person));
+                expectedPersons.add(person);
+            }
+        }
+
+        ParallelPersonConverter converter = new ParallelPersonConverter("archivedPersons", JsonIdTables.empty(),
+                pool);
+        converter.addAll(adaptedPersons);
+
+        assertEquals(List.of("archivedPersons[" + invalidPositions[0] + "]: " + Name.MESSAGE_CONSTRAINTS,
+                "archivedPersons[" + invalidPositions[1] + "]: " + Name.MESSAGE_CONSTRAINTS), converter.getErrors());
+        assertEquals(expectedPersons, converter.getPersons());
+    }
+
+    private static String toLetters(int i) {
+        return "" + (char) ('a' + i / 676 % 26) + (char) ('a' + i / 26 % 26) + (char) ('a' + i % 26);
+    }
+}
@@ -0,0 +1,256 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.StudentBuilder;
+
+public class TieredAddressBookStorageTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path archiveFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        archiveFilePath = testFolder.resolve("addressbook.archive.json");
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TieredAddressBookStorage(null, DataFileFormat.JSON));
+        assertThrows(NullPointerException.class, () ->
+                new TieredAddressBookStorage(new JsonAddressBookStorage(filePath), null));
+    }
+
+    @Test
+    public void getArchiveFilePath_validPaths_archiveBesideDataFile() {
+        assertEquals(Paths.get("data", "addressbook.archive.json"),
+                TieredAddressBookStorage.getArchiveFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "book.v2.archive.bin"),
+                TieredAddressBookStorage.getArchiveFilePath(Paths.get("data", "book.v2.bin")));
+        assertEquals(Paths.get("addressbook.archive"),
+                TieredAddressBookStorage.getArchiveFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(DataFileFormat.JSON).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_archivedPersons_storedInArchiveFileAndLoadedOnAccess() throws Exception {
+        AddressBook original = createAddressBook();
+        createStorage(DataFileFormat.JSON).saveAddressBook(original);
+
+        ReadOnlyAddressBook currentTier = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original.getPersonList(), currentTier.getPersonList());
+        assertTrue(currentTier.getArchivedPersonList().isEmpty());
+        assertTrue(Files.exists(archiveFilePath));
+
+        ReadOnlyAddressBook read = createStorage(DataFileFormat.JSON).readAddressBook().get();
+        assertFalse(read.isArchiveLoaded());
+        assertEquals(original.getPersonList(), read.getPersonList());
+        assertEquals(original.getArchivedPersonList(), read.getArchivedPersonList());
+        assertTrue(read.isArchiveLoaded());
+    }
+
+    @Test
+    public void readAddressBook_archivedPersonsInDataFile_movedToArchiveFileOnSave() throws Exception {
+        AddressBook original = createAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        TieredAddressBookStorage storage = createStorage(DataFileFormat.JSON);
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        assertTrue(read.isArchiveLoaded());
+        assertEquals(original.getArchivedPersonList(), read.getArchivedPersonList());
+
+        storage.saveAddressBook(read);
+        assertTrue(new JsonAddressBookStorage(filePath).readAddressBook().get().getArchivedPersonList().isEmpty());
+        assertEquals(original.getArchivedPersonList(),
+                new JsonAddressBookStorage(archiveFilePath).readAddressBook().get().getArchivedPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_archiveUnchanged_archiveFileNotRewritten() throws Exception {
+        createStorage(DataFileFormat.JSON).saveAddressBook(createAddressBook());
+        Files.setLastModifiedTime(archiveFilePath, OLD_TIME);
+
+        TieredAddressBookStorage storage = createStorage(DataFileFormat.JSON);
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        model.addPerson(new StudentBuilder().withName("Carl").build());
+
+        // Saved before and after the deferred archive is loaded, without changing it
+        storage.saveAddressBook(model);
+        assertEquals(1, model.getArchivedPersonList().size());
+        storage.saveAddressBook(model);
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(archiveFilePath));
+        assertEquals(2, new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().size());
+
+        model.archivePerson(model.getPersonList().get(0));
+        storage.saveAddressBook(model);
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(archiveFilePath));
+        assertEquals(2, createStorage(DataFileFormat.JSON).readAddressBook().get().getArchivedPersonList().size());
+    }
+
+    @Test
+    public void saveAddressBook_onlyArchiveChanged_dataFileNotRewritten() throws Exception {
+        createStorage(DataFileFormat.JSON).saveAddressBook(createAddressBook());
+        Files.setLastModifiedTime(filePath, OLD_TIME);
+
+        TieredAddressBookStorage storage = createStorage(DataFileFormat.JSON);
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        model.removeArchivedPerson(model.getArchivedPersonList().get(0));
+        storage.saveAddressBook(model);
+
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(filePath));
+        ReadOnlyAddressBook read = createStorage(DataFileFormat.JSON).readAddressBook().get();
+        assertEquals(model.getPersonList(), read.getPersonList());
+        assertTrue(read.getArchivedPersonList().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_failsAfterEachStep_consistentVersionRead() throws Exception {
+        for (int failingSave = 0; failingSave < 3; failingSave++) {
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(archiveFilePath);
+            AddressBook original = createAddressBook();
+            createStorage(DataFileFormat.JSON).saveAddressBook(original);
+
+            FailingAddressBookStorage currentStorage = new FailingAddressBookStorage(filePath, failingSave);
+            TieredAddressBookStorage storage = new TieredAddressBookStorage(currentStorage, DataFileFormat.JSON);
+            AddressBook model = new AddressBook(storage.readAddressBook().get());
+            Person alice = model.getPersonList().get(0);
+            model.archivePerson(alice);
+            try {
+                storage.saveAddressBook(model);
+            } catch (IOException e) {
+                // expected for the failing save
+            }
+
+            ReadOnlyAddressBook read = createStorage(DataFileFormat.JSON).readAddressBook().get();
+            boolean isSaved = failingSave > 0;
+            assertEquals(isSaved ? List.of() : original.getPersonList(), read.getPersonList());
+            assertEquals(isSaved ? model.getArchivedPersonList() : original.getArchivedPersonList(),
+                    read.getArchivedPersonList());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_archiveWriteFails_previousArchiveKept() throws Exception {
+        AddressBook original = createAddressBook();
+        createStorage(DataFileFormat.JSON).saveAddressBook(original);
+        String archive = Files.readString(archiveFilePath);
+
+        // A directory in the way of the temporary file makes the archive write fail part way
+        Files.createDirectory(archiveFilePath.resolveSibling(archiveFilePath.getFileName() + ".tmp"));
+        TieredAddressBookStorage storage = createStorage(DataFileFormat.JSON);
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        model.removeArchivedPerson(model.getArchivedPersonList().get(0));
+        assertThrows(IOException.class, () -> storage.saveAddressBook(model));
+
+        assertEquals(archive, Files.readString(archiveFilePath));
+        assertEquals(original.getArchivedPersonList(),
+                createStorage(DataFileFormat.JSON).readAddressBook().get().getArchivedPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_unreadableArchiveChanged_archiveBackedUpBeforeWrite() throws Exception {
+        createStorage(DataFileFormat.JSON).saveAddressBook(createAddressBook());
+        Files.writeString(archiveFilePath, "not json");
+
+        TieredAddressBookStorage storage = createStorage(DataFileFormat.JSON);
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        model.archivePerson(model.getPersonList().get(0));
+        assertTrue(model.takeArchiveLoadError().isPresent());
+        storage.saveAddressBook(model);
+
+        List<Path> backups;
+        try (Stream<Path> files = Files.list(testFolder)) {
+            backups = files.filter(path -> path.getFileName().toString().endsWith(".bak"))
+                    .collect(Collectors.toList());
+        }
+        assertEquals(1, backups.size());
+        assertEquals("not json", Files.readString(backups.get(0)));
+        assertEquals(model.getArchivedPersonList(),
+                createStorage(DataFileFormat.JSON).readAddressBook().get().getArchivedPersonList());
+    }
+
+    @Test
+    public void readAddressBook_archiveInOtherFormat_success() throws Exception {
+        AddressBook original = createAddressBook();
+        createStorage(DataFileFormat.BINARY).saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(archiveFilePath));
+
+        ReadOnlyAddressBook read = createStorage(DataFileFormat.JSON).readAddressBook().get();
+        assertEquals(original.getArchivedPersonList(), read.getArchivedPersonList());
+    }
+
+    @Test
+    public void readAddressBook_onlyArchiveFile_archiveLoaded() throws Exception {
+        AddressBook original = createAddressBook();
+        createStorage(DataFileFormat.JSON).saveAddressBook(original);
+        Files.delete(filePath);
+
+        ReadOnlyAddressBook read = createStorage(DataFileFormat.JSON).readAddressBook().get();
+        assertTrue(read.getPersonList().isEmpty());
+        assertEquals(original.getArchivedPersonList(), read.getArchivedPersonList());
+    }
+
+    private TieredAddressBookStorage createStorage(DataFileFormat archiveFormat) {
+        return new TieredAddressBookStorage(new JsonAddressBookStorage(filePath), archiveFormat);
+    }
+
+    /**
+     * A json storage whose save fails on the given call, counting from 0.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private final int failingSave;
+        private int saveCount;
+
+        FailingAddressBookStorage(Path filePath, int failingSave) {
+            super(filePath);
+            this.failingSave = failingSave;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (saveCount++ == failingSave) {
+                throw new IOException("simulated failure");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new StudentBuilder().withName("Alice").withSubjects("Math").build());
+        addressBook.addArchivedPerson(new StudentBuilder().withName("Benson").withSubjects("Math,Science").build());
+        return addressBook;
+    }
+}